@@ -4,6 +4,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableBiMap;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
@@ -19,6 +20,7 @@ import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -33,6 +35,16 @@ public final class StandardFactoryController implements IFactoryController
     public static final String NBT_DATA = "Data";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
+    /**
+     * Network type id which is followed by the full class name, used for types without a negotiated id.
+     */
+    public static final int NETWORK_ID_BY_NAME = 0;
+
+    /**
+     * Max amount of bytes of a network type id.
+     */
+    private static final int NETWORK_ID_MAX_BYTES = 5;
+
     /**
      * Instance variable.
      */
@@ -72,6 +84,19 @@ public final class StandardFactoryController implements IFactoryController
     @NotNull
     private final BiMap<String, String> classRenamingHandlers = HashBiMap.create();
 
+    /**
+     * Cache of the output factories by class name, used by deserialization.
+     */
+    @NotNull
+    private final Map<String, IFactory> factoryByClassNameCache = new ConcurrentHashMap<>();
+
+    /**
+     * The numeric network ids of the output types.
+     * Assigned during factory registration and replaced on the client by the ids of the server at login.
+     */
+    @NotNull
+    private volatile ImmutableBiMap<Integer, String> networkTypeIds = ImmutableBiMap.of();
+
     /**
      * Private constructor. Throws IllegalStateException if already created.
      *
@@ -99,6 +124,8 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().factoryByClassNameCache.clear();
+        getInstance().networkTypeIds = ImmutableBiMap.of();
     }
 
     /**
@@ -213,6 +240,13 @@ public final class StandardFactoryController implements IFactoryController
 
         primaryInputFactories.add(factory);
         primaryOutputFactories.add(factory);
+        factoryByClassNameCache.clear();
+
+        final String outputName = factory.getFactoryOutputType().getRawType().getName();
+        if (!networkTypeIds.containsValue(outputName))
+        {
+            networkTypeIds = ImmutableBiMap.<Integer, String>builder().putAll(networkTypeIds).put(networkTypeIds.size() + 1, outputName).build();
+        }
 
         final Set<TypeToken> outputSuperTypes = ReflectionUtils.getSuperClasses(factory.getFactoryOutputType());
 
@@ -238,7 +272,7 @@ public final class StandardFactoryController implements IFactoryController
     {
         final NBTTagCompound compound = new NBTTagCompound();
 
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final IFactory<?, OUTPUT> factory = getCachedFactoryForOutput(object.getClass().getName());
         compound.setString(NBT_TYPE, object.getClass().getName());
         compound.setTag(NBT_DATA, factory.serialize(this, object));
 
@@ -256,7 +290,7 @@ public final class StandardFactoryController implements IFactoryController
 
         try
         {
-            factory = getFactoryForOutput(className);
+            factory = getCachedFactoryForOutput(className);
         }
         catch (final IllegalArgumentException e)
         {
@@ -274,6 +308,29 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    /**
+     * Get the output factory of a class name, looking it up only once per class name.
+     *
+     * @param className the name of the output class.
+     * @param <OUTPUT>  the output type.
+     * @return the factory.
+     *
+     * @throws IllegalArgumentException if no factory produces the given class.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <OUTPUT> IFactory<?, OUTPUT> getCachedFactoryForOutput(@NotNull final String className) throws IllegalArgumentException
+    {
+        final IFactory cached = factoryByClassNameCache.get(className);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput(className);
+        factoryByClassNameCache.put(className, factory);
+        return factory;
+    }
+
     private String processClassRenaming(@NotNull final String previousClassName)
     {
         if (!this.classRenamingHandlers.containsKey(previousClassName))
@@ -288,15 +345,83 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> void writeToBuffer(@NotNull final ByteBuf buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = serialize(object);
-        ByteBufUtils.writeTag(buffer, bufferCompound);
+        final String className = object.getClass().getName();
+        final IFactory<?, OUTPUT> factory = getCachedFactoryForOutput(className);
+
+        final Integer networkId = networkTypeIds.inverse().get(className);
+        if (networkId == null)
+        {
+            ByteBufUtils.writeVarInt(buffer, NETWORK_ID_BY_NAME, NETWORK_ID_MAX_BYTES);
+            ByteBufUtils.writeUTF8String(buffer, className);
+        }
+        else
+        {
+            ByteBufUtils.writeVarInt(buffer, networkId, NETWORK_ID_MAX_BYTES);
+        }
+
+        //Prefix the data with its length, so a reader can skip a record its factory fails to read.
+        final int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        factory.serialize(this, object, buffer);
+        buffer.setInt(lengthIndex, buffer.writerIndex() - lengthIndex - Integer.BYTES);
     }
 
     @Override
     public <OUTPUT> OUTPUT readFromBuffer(@NotNull final ByteBuf buffer) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = ByteBufUtils.readTag(buffer);
-        return deserialize(bufferCompound);
+        final int networkId = ByteBufUtils.readVarInt(buffer, NETWORK_ID_MAX_BYTES);
+        final String className = networkId == NETWORK_ID_BY_NAME ? processClassRenaming(ByteBufUtils.readUTF8String(buffer)) : networkTypeIds.get(networkId);
+        if (className == null)
+        {
+            throw new IllegalArgumentException("The buffer holds an unknown network type id: " + networkId);
+        }
+
+        final IFactory<?, OUTPUT> factory;
+        try
+        {
+            factory = getCachedFactoryForOutput(className);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            throw (IllegalArgumentException) new IllegalArgumentException("The given buffer holds an unknown output type for this Controller").initCause(e);
+        }
+
+        final ByteBuf data = buffer.readSlice(buffer.readInt());
+        try
+        {
+            return factory.deserialize(this, data);
+        }
+        catch (final Error error)
+        {
+            throw error;
+        }
+        catch (final Throwable throwable)
+        {
+            Log.getLogger().error("Failed to read a " + className + " from the buffer, skipping it.", throwable);
+            return null;
+        }
+    }
+
+    /**
+     * Get the network ids of the output types, to be sent to clients at login.
+     *
+     * @return the ids mapped to the class names.
+     */
+    @NotNull
+    public Map<Integer, String> getNetworkTypeIds()
+    {
+        return networkTypeIds;
+    }
+
+    /**
+     * Replace the network ids with the ones of the server.
+     * Types the server doesn't know about are written with their class name.
+     *
+     * @param typeIds the ids mapped to the class names.
+     */
+    public void setNetworkTypeIds(@NotNull final Map<Integer, String> typeIds)
+    {
+        networkTypeIds = ImmutableBiMap.copyOf(typeIds);
     }
 
     @Override
@@ -320,11 +445,13 @@ public final class StandardFactoryController implements IFactoryController
     public <OUTPUT> void registerNewTypeOverrideHandler(@NotNull final ITypeOverrideHandler<OUTPUT> overrideHandler)
     {
         this.typeOverrideHandlers.add(overrideHandler);
+        factoryByClassNameCache.clear();
     }
 
     @Override
     public void registerNewClassRenaming(@NotNull final String previousName, @NotNull final String newName)
     {
         this.classRenamingHandlers.put(previousName, newName);
+        factoryByClassNameCache.clear();
     }
 }
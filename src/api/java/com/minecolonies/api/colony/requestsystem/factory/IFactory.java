@@ -1,7 +1,9 @@
 package com.minecolonies.api.colony.requestsystem.factory;
 
 import com.google.common.reflect.TypeToken;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -60,4 +62,31 @@ public interface IFactory<Input, Output>
      */
     @NotNull
     Output deserialize(@NotNull IFactoryController controller, @NotNull NBTTagCompound nbt) throws Throwable;
+
+    /**
+     * Method to write a given constructable to a network buffer.
+     * Defaults to the nbt representation, factories of small or frequently synced types should write their data directly.
+     *
+     * @param controller The controller that can be used to serialize complicated types.
+     * @param output     The object to serialize.
+     * @param buffer     The buffer to write to.
+     */
+    default void serialize(@NotNull IFactoryController controller, @NotNull Output output, @NotNull ByteBuf buffer)
+    {
+        ByteBufUtils.writeTag(buffer, serialize(controller, output));
+    }
+
+    /**
+     * Method to read a given constructable from a network buffer.
+     * Has to read exactly what {@link #serialize(IFactoryController, Object, ByteBuf)} wrote.
+     *
+     * @param controller The controller that can be used to deserialize complicated types.
+     * @param buffer     The buffer to read from.
+     * @return The object that corresponds with the data in the buffer.
+     */
+    @NotNull
+    default Output deserialize(@NotNull IFactoryController controller, @NotNull ByteBuf buffer) throws Throwable
+    {
+        return deserialize(controller, ByteBufUtils.readTag(buffer));
+    }
 }
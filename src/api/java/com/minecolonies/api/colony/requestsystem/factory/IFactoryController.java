@@ -149,7 +149,7 @@ public interface IFactoryController
      *
      * @param buffer   The buffer to read from.
      * @param <Output> The type to read.
-     * @return An instance of the given output type, with its stored data from the buffer.
+     * @return An instance of the given output type, with its stored data from the buffer, or null if its data could not be read.
      *
      * @throws IllegalArgumentException is thrown when the requested type is unknown to this controller.
      */
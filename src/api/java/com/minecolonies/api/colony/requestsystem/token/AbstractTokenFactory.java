@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.token;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.constant.TypeConstants;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,4 +63,34 @@ public abstract class AbstractTokenFactory<I> implements ITokenFactory<I, Standa
 
         return new StandardToken(id);
     }
+
+    /**
+     * Writes the token as its raw 128 bit identifier.
+     *
+     * @param controller The controller that can be used to serialize complicated types.
+     * @param token      The token to serialize.
+     * @param buffer     The buffer to write to.
+     */
+    @Override
+    public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardToken token, @NotNull final ByteBuf buffer)
+    {
+        buffer.writeLong(token.getIdentifier().getMostSignificantBits());
+        buffer.writeLong(token.getIdentifier().getLeastSignificantBits());
+    }
+
+    /**
+     * Reads a token from its raw 128 bit identifier.
+     *
+     * @param controller The controller that can be used to deserialize complicated types.
+     * @param buffer     The buffer to read from.
+     * @return The token.
+     */
+    @NotNull
+    @Override
+    public StandardToken deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        final long msb = buffer.readLong();
+        final long lsb = buffer.readLong();
+        return new StandardToken(new UUID(msb, lsb));
+    }
 }
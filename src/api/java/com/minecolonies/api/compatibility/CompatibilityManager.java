@@ -28,8 +28,10 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -43,6 +45,41 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SAP_LEAF;
  */
 public class CompatibilityManager implements ICompatibilityManager
 {
+    /**
+     * Trait bit set once the traits of an item and meta have been computed.
+     */
+    private static final int TRAIT_KNOWN = 1;
+
+    /**
+     * Trait bit of compostable items.
+     */
+    private static final int TRAIT_COMPOST = 1 << 1;
+
+    /**
+     * Trait bit of lucky blocks.
+     */
+    private static final int TRAIT_LUCKY = 1 << 2;
+
+    /**
+     * Trait bit of items registered as ore in the ore dictionary.
+     */
+    private static final int TRAIT_ORE = 1 << 3;
+
+    /**
+     * Trait bit of items with a furnace recipe.
+     */
+    private static final int TRAIT_SMELTABLE = 1 << 4;
+
+    /**
+     * Trait bit of saplings.
+     */
+    private static final int TRAIT_SAPLING = 1 << 5;
+
+    /**
+     * Highest meta value which is stored in the trait table, traits of higher metas are computed on every query.
+     */
+    private static final int MAX_TRAIT_META = 4095;
+
     /**
      * BiMap of saplings and leaves.
      */
@@ -90,6 +127,48 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private final Map<ItemStorage, Map<ItemStorage, List<ItemStorage>>> sieveResult = new HashMap<>();
 
+    /**
+     * The traits of each item, indexed by meta. The rows of all sub items are filled on rebuild,
+     * other metas, like the damage of worn tools, are filled on their first query.
+     * Works on client and server-side.
+     */
+    private final Map<Item, int[]> itemTraits = new ConcurrentHashMap<>();
+
+    /**
+     * The ore block states, indexed by block state id.
+     */
+    private volatile BitSet oreStates = null;
+
+    /**
+     * Registry names and ore dictionary names of the compostable items from the configuration.
+     */
+    private Set<String> compostNames = Collections.emptySet();
+
+    /**
+     * Registry names and ore dictionary names of the lucky blocks from the configuration.
+     */
+    private Set<String> luckyNames = Collections.emptySet();
+
+    /**
+     * Ore dictionary ids which are compostable.
+     */
+    private BitSet compostOreIds = new BitSet();
+
+    /**
+     * Ore dictionary ids which are lucky blocks.
+     */
+    private BitSet luckyOreIds = new BitSet();
+
+    /**
+     * Ore dictionary ids which are ores.
+     */
+    private BitSet oreOreIds = new BitSet();
+
+    /**
+     * Ore dictionary id of the saplings.
+     */
+    private int saplingOreId = -1;
+
     /**
      * If discovery is finished already.
      */
@@ -146,6 +225,7 @@ public class CompatibilityManager implements ICompatibilityManager
             }
         }
         Log.getLogger().info("Finished discovering ores");
+        rebuildTraitTable();
         discoverCompostableItems();
         discoverLuckyOres();
         discoverCrusherModes();
@@ -157,51 +237,19 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isCompost(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfCompostableItems)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return hasTrait(itemStack, TRAIT_COMPOST);
     }
 
     @Override
     public boolean isLuckyBlock(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
+        return hasTrait(itemStack, TRAIT_LUCKY);
+    }
 
-        for (final String string : Configurations.gameplay.luckyBlocks)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+    @Override
+    public boolean isSapling(final ItemStack stack)
+    {
+        return hasTrait(stack, TRAIT_SAPLING);
     }
 
     @Override
@@ -241,30 +289,101 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isOre(final IBlockState block)
     {
-        if (block.getBlock() instanceof BlockOre || block.getBlock() instanceof BlockRedstoneOre)
+        ensureTraitTable();
+        return oreStates.get(Block.getStateId(block));
+    }
+
+    @Override
+    public boolean isOre(@NotNull final ItemStack stack)
+    {
+        return hasTrait(stack, TRAIT_ORE | TRAIT_SMELTABLE);
+    }
+
+    @Override
+    public void ensureTraitTable()
+    {
+        if (oreStates == null)
         {
-            return true;
+            rebuildTraitTable();
         }
-
-        return ores.contains(block.getBlock());
     }
 
     @Override
-    public boolean isOre(@NotNull final ItemStack stack)
+    public void rebuildTraitTable()
     {
-        if (ItemStackUtils.isEmpty(stack))
+        final Set<String> newCompostNames = new HashSet<>(Arrays.asList(Configurations.gameplay.listOfCompostableItems));
+        final Set<String> newLuckyNames = new HashSet<>(Arrays.asList(Configurations.gameplay.luckyBlocks));
+        final BitSet newCompostOreIds = new BitSet();
+        final BitSet newLuckyOreIds = new BitSet();
+        final BitSet newOreOreIds = new BitSet();
+        int newSaplingOreId = -1;
+        for (final String name : OreDictionary.getOreNames())
         {
-            return false;
+            final int id = OreDictionary.getOreID(name);
+            if (newCompostNames.contains(name))
+            {
+                newCompostOreIds.set(id);
+            }
+            if (newLuckyNames.contains(name))
+            {
+                newLuckyOreIds.set(id);
+            }
+            if (name.contains(ORE_STRING))
+            {
+                newOreOreIds.set(id);
+            }
+            if (SAPLINGS.equals(name))
+            {
+                newSaplingOreId = id;
+            }
+        }
+
+        final Set<Block> oreBlocks = new HashSet<>(ores);
+        for (final String oreString : Configurations.gameplay.extraOres)
+        {
+            final Block block = Block.getBlockFromName(oreString);
+            if (block != null)
+            {
+                oreBlocks.add(block);
+            }
+        }
+        final BitSet newOreStates = new BitSet();
+        for (final Block block : Block.REGISTRY)
+        {
+            if (block instanceof BlockOre || block instanceof BlockRedstoneOre || oreBlocks.contains(block))
+            {
+                for (final IBlockState state : block.getBlockState().getValidStates())
+                {
+                    newOreStates.set(Block.getStateId(state));
+                }
+            }
         }
-        final int[] ids = OreDictionary.getOreIDs(stack);
-        for (final int id : ids)
+
+        compostNames = newCompostNames;
+        luckyNames = newLuckyNames;
+        compostOreIds = newCompostOreIds;
+        luckyOreIds = newLuckyOreIds;
+        oreOreIds = newOreOreIds;
+        saplingOreId = newSaplingOreId;
+        oreStates = newOreStates;
+
+        final Map<Item, int[]> newItemTraits = new HashMap<>();
+        for (final Item item : Item.REGISTRY)
         {
-            if (OreDictionary.getOreName(id).contains(ORE_STRING))
+            final int[] row = computeTraitRow(item);
+            if (row != null)
             {
-                return !FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty();
+                newItemTraits.put(item, row);
             }
         }
-        return false;
+        itemTraits.clear();
+        itemTraits.putAll(newItemTraits);
+
+        if (discoveredAlready)
+        {
+            compostableItems.clear();
+            discoverCompostableItems();
+        }
     }
 
     /**
@@ -291,7 +410,10 @@ public class CompatibilityManager implements ICompatibilityManager
         NBTUtils.streamCompound(compound.getTagList(TAG_SAP_LEAF, Constants.NBT.TAG_COMPOUND))
           .map(CompatibilityManager::readLeafSaplingEntryFromNBT)
           .filter(key -> !leavesToSaplingMap.containsKey(key.getFirst()) && !leavesToSaplingMap.containsValue(key.getSecond()))
-          .forEach(key -> leavesToSaplingMap.put(key.getFirst(), key.getSecond()));
+          .forEach(key -> {
+              leavesToSaplingMap.put(key.getFirst(), key.getSecond());
+              updateTraitRow(key.getSecond().getItem());
+          });
     }
 
     @Override
@@ -302,6 +424,7 @@ public class CompatibilityManager implements ICompatibilityManager
         if (!leavesToSaplingMap.containsKey(tempLeaf) && !leavesToSaplingMap.containsValue(new ItemStorage(stack, false, true)))
         {
             leavesToSaplingMap.put(tempLeaf, new ItemStorage(stack, false, true));
+            updateTraitRow(stack.getItem());
         }
     }
 
@@ -324,6 +447,167 @@ public class CompatibilityManager implements ICompatibilityManager
 
     //------------------------------- Private Utility Methods -------------------------------//
 
+    /**
+     * Check if a stack has all the given traits, computing and storing its traits on the first query of its item and meta.
+     *
+     * @param stack  the stack to check.
+     * @param traits the trait bits to test.
+     * @return true if the stack has all of them.
+     */
+    private boolean hasTrait(final ItemStack stack, final int traits)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return false;
+        }
+        ensureTraitTable();
+
+        final int meta = stack.getMetadata();
+        if (meta < 0 || meta > MAX_TRAIT_META)
+        {
+            return (computeTraits(stack) & traits) == traits;
+        }
+
+        int[] row = itemTraits.get(stack.getItem());
+        if (row == null || row.length <= meta)
+        {
+            final int[] newRow = new int[meta + 1];
+            if (row != null)
+            {
+                System.arraycopy(row, 0, newRow, 0, row.length);
+            }
+            row = newRow;
+            itemTraits.put(stack.getItem(), row);
+        }
+
+        int known = row[meta];
+        if ((known & TRAIT_KNOWN) == 0)
+        {
+            known = computeTraits(stack);
+            row[meta] = known;
+        }
+        return (known & traits) == traits;
+    }
+
+    /**
+     * Compute the trait row of an item again after its traits changed, if the trait table is built already.
+     *
+     * @param item the item.
+     */
+    private void updateTraitRow(final Item item)
+    {
+        if (oreStates == null)
+        {
+            return;
+        }
+
+        final int[] row = computeTraitRow(item);
+        if (row == null)
+        {
+            itemTraits.remove(item);
+        }
+        else
+        {
+            itemTraits.put(item, row);
+        }
+    }
+
+    /**
+     * Compute the traits of all sub items of an item.
+     *
+     * @param item the item.
+     * @return the traits indexed by meta, or null if the item has no sub items within the stored metas.
+     */
+    @Nullable
+    private int[] computeTraitRow(final Item item)
+    {
+        final NonNullList<ItemStack> stacks = NonNullList.create();
+        try
+        {
+            item.getSubItems(CreativeTabs.SEARCH, stacks);
+        }
+        catch (final Exception ex)
+        {
+            Log.getLogger().warn("Failed to get sub items from: " + item.getRegistryName());
+        }
+
+        int maxMeta = -1;
+        for (final ItemStack stack : stacks)
+        {
+            if (stack.getMetadata() >= 0 && stack.getMetadata() <= MAX_TRAIT_META)
+            {
+                maxMeta = Math.max(maxMeta, stack.getMetadata());
+            }
+        }
+        if (maxMeta < 0)
+        {
+            return null;
+        }
+
+        final int[] row = new int[maxMeta + 1];
+        for (final ItemStack stack : stacks)
+        {
+            final int meta = stack.getMetadata();
+            if (meta >= 0 && meta <= MAX_TRAIT_META && row[meta] == 0)
+            {
+                row[meta] = computeTraits(stack);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Compute the traits of an item and meta from the configuration, the ore dictionary and the furnace recipes.
+     *
+     * @param stack the stack.
+     * @return the trait bits.
+     */
+    private int computeTraits(final ItemStack stack)
+    {
+        int traits = TRAIT_KNOWN;
+        final String registryName = String.valueOf(stack.getItem().getRegistryName());
+        if (compostNames.contains(registryName))
+        {
+            traits |= TRAIT_COMPOST;
+        }
+        if (luckyNames.contains(registryName))
+        {
+            traits |= TRAIT_LUCKY;
+        }
+
+        for (final int id : OreDictionary.getOreIDs(stack))
+        {
+            if (compostOreIds.get(id))
+            {
+                traits |= TRAIT_COMPOST;
+            }
+            if (luckyOreIds.get(id))
+            {
+                traits |= TRAIT_LUCKY;
+            }
+            if (oreOreIds.get(id))
+            {
+                traits |= TRAIT_ORE;
+            }
+            if (id == saplingOreId)
+            {
+                traits |= TRAIT_SAPLING;
+            }
+        }
+
+        if (!FurnaceRecipes.instance().getSmeltingResult(stack).isEmpty())
+        {
+            traits |= TRAIT_SMELTABLE;
+        }
+
+        final ItemStorage sapling = new ItemStorage(stack, false, true);
+        if (saplings.contains(sapling) || leavesToSaplingMap.containsValue(sapling))
+        {
+            traits |= TRAIT_SAPLING;
+        }
+        return traits;
+    }
+
     private void discoverOres(final String string)
     {
         for (final ItemStack ore : OreDictionary.getOres(string))
@@ -89,6 +89,24 @@ public interface ICompatibilityManager
      */
     boolean isCompost(ItemStack stack);
 
+    /**
+     * Test if an itemStack is a known sapling.
+     * @param stack the stack to test.
+     * @return true if so.
+     */
+    boolean isSapling(ItemStack stack);
+
+    /**
+     * Rebuild the item and block trait table, called when the configuration changed.
+     */
+    void rebuildTraitTable();
+
+    /**
+     * Build the item and block trait table if it wasn't built yet.
+     * Call this on the server thread before reading the traits from another thread.
+     */
+    void ensureTraitTable();
+
     /**
      * Get a map of all the crusher modes.
      * @return the modes.
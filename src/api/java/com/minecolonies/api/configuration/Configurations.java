@@ -210,6 +210,12 @@ public class Configurations
         @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder)")
         public int maxBlocksCheckedByBuilder = 1000;
 
+        @Config.Comment("Amount of blocks placed per tick when pasting structures like pirate ships (Lowering it decreases lag spikes, but pasting takes longer)")
+        public int structurePlacementBlocksPerTick = 1000;
+
+        @Config.Comment("Amount of citizens, blocks and chunks handled per tick when deleting a colony (Lowering it decreases lag spikes, but deleting takes longer)")
+        public int colonyTeardownStepsPerTick = 500;
+
         @Config.Comment("Chat frequency of worker requests")
         public int chatFrequency = 30;
 
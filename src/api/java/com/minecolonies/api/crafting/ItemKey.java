@@ -0,0 +1,255 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable and interned key of an item type, to be used in maps instead of {@link ItemStorage}.
+ * The hash is computed once, and two interned keys are only equal if they are the same instance.
+ * Keys are held in a weak pool, so unused keys are collected with the maps using them.
+ * The pool is split into segments by hash, so lookups from different threads rarely wait on each other.
+ */
+public final class ItemKey
+{
+    /**
+     * Amount of segments of the pool, a power of two.
+     */
+    private static final int POOL_SEGMENTS = 32;
+
+    /**
+     * The canonical keys, weak on both sides so that the pool never keeps a key alive.
+     * Each segment is guarded by its own lock.
+     */
+    private static final List<Map<ItemKey, WeakReference<ItemKey>>> pool = new ArrayList<>(POOL_SEGMENTS);
+
+    static
+    {
+        for (int i = 0; i < POOL_SEGMENTS; i++)
+        {
+            pool.add(new WeakHashMap<>());
+        }
+    }
+
+    /**
+     * The item of the key.
+     */
+    private final Item item;
+
+    /**
+     * The damage value, 0 if the damage is ignored.
+     */
+    private final int damage;
+
+    /**
+     * The nbt tag, null if the nbt is ignored or the stack had none.
+     */
+    @Nullable
+    private final NBTTagCompound tag;
+
+    /**
+     * Set this to ignore the damage value in comparisons.
+     */
+    private final boolean ignoreDamage;
+
+    /**
+     * Set this to ignore the nbt in comparisons.
+     */
+    private final boolean ignoreNBT;
+
+    /**
+     * A stack of size one representing the key.
+     */
+    private final ItemStack stack;
+
+    /**
+     * If this is the canonical instance of the pool.
+     */
+    private final boolean interned;
+
+    /**
+     * The precomputed hash.
+     */
+    private final int hash;
+
+    /**
+     * Creates a key.
+     *
+     * @param stack        the stack, copied if the key is interned.
+     * @param ignoreDamage should the damage value be ignored?
+     * @param ignoreNBT    should the nbt be ignored?
+     * @param interned     if this is the canonical instance.
+     */
+    private ItemKey(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT, final boolean interned)
+    {
+        this.item = stack.getItem();
+        this.ignoreDamage = ignoreDamage;
+        this.ignoreNBT = ignoreNBT;
+        this.damage = ignoreDamage ? 0 : stack.getItemDamage();
+        this.interned = interned;
+
+        if (interned)
+        {
+            this.stack = stack.copy();
+            ItemStackUtils.setSize(this.stack, 1);
+            if (ignoreNBT)
+            {
+                this.stack.setTagCompound(null);
+            }
+        }
+        else
+        {
+            this.stack = stack;
+        }
+        this.tag = ignoreNBT ? null : this.stack.getTagCompound();
+
+        int result = System.identityHashCode(item);
+        result = 31 * result + damage;
+        result = 31 * result + (tag == null ? 0 : tag.hashCode());
+        result = 31 * result + (ignoreDamage ? 1 : 0);
+        result = 31 * result + (ignoreNBT ? 1 : 0);
+        this.hash = result;
+    }
+
+    /**
+     * Get the interned key of a stack, comparing damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the canonical key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack)
+    {
+        return of(stack, false, false);
+    }
+
+    /**
+     * Get the interned key of a stack.
+     *
+     * The lookup key shares the stack, the stack is only copied when a new key is added to the pool.
+     *
+     * @param stack        the stack, it is not stored and may be changed afterwards.
+     * @param ignoreDamage should the damage value be ignored?
+     * @param ignoreNBT    should the nbt be ignored?
+     * @return the canonical key.
+     */
+    @NotNull
+    public static ItemKey of(@NotNull final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        final ItemKey probe = new ItemKey(stack, ignoreDamage, ignoreNBT, false);
+        final Map<ItemKey, WeakReference<ItemKey>> segment = pool.get((probe.hash ^ (probe.hash >>> 16)) & (POOL_SEGMENTS - 1));
+        synchronized (segment)
+        {
+            final WeakReference<ItemKey> reference = segment.get(probe);
+            final ItemKey existing = reference == null ? null : reference.get();
+            if (existing != null)
+            {
+                return existing;
+            }
+
+            final ItemKey key = new ItemKey(stack, ignoreDamage, ignoreNBT, true);
+            segment.put(key, new WeakReference<>(key));
+            return key;
+        }
+    }
+
+    /**
+     * Getter for the item.
+     *
+     * @return the item.
+     */
+    @NotNull
+    public Item getItem()
+    {
+        return item;
+    }
+
+    /**
+     * Getter for the damage value.
+     *
+     * @return the damage, 0 if it is ignored.
+     */
+    public int getDamageValue()
+    {
+        return damage;
+    }
+
+    /**
+     * Getter for the ignoreDamageValue.
+     *
+     * @return true if should ignore.
+     */
+    public boolean ignoreDamageValue()
+    {
+        return ignoreDamage;
+    }
+
+    /**
+     * Getter for the ignoreNBTValue.
+     *
+     * @return true if should ignore.
+     */
+    public boolean ignoreNBTValue()
+    {
+        return ignoreNBT;
+    }
+
+    /**
+     * Get a stack of size one representing this key.
+     * The stack is shared, copy it before changing it.
+     *
+     * @return the stack.
+     */
+    @NotNull
+    public ItemStack getItemStack()
+    {
+        return stack;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        if (this.interned && that.interned)
+        {
+            return false;
+        }
+
+        return hash == that.hash
+                 && item == that.item
+                 && damage == that.damage
+                 && ignoreDamage == that.ignoreDamage
+                 && ignoreNBT == that.ignoreNBT
+                 && (tag == null ? that.tag == null : tag.equals(that.tag));
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemKey{" + item.getRegistryName() + "@" + (ignoreDamage ? "*" : damage) + (ignoreNBT ? "" : ", " + tag) + "}";
+    }
+}
@@ -32,6 +32,16 @@ public final class GuardConstants
      */
     public static final int Y_VISION = 10;
 
+    /**
+     * Ticks after which the colony threat map is scanned again.
+     */
+    public static final int THREAT_REFRESH_INTERVAL = 10;
+
+    /**
+     * Ticks a line of sight check between a guard and a target stays valid.
+     */
+    public static final int LINE_OF_SIGHT_CACHE_TICKS = 5;
+
     /**
      * Experience to add when a mob is killed
      */
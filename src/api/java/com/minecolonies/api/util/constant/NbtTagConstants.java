@@ -24,6 +24,7 @@ public final class NbtTagConstants
     public static final String TAG_FREE_POSITIONS         = "freePositions";
     public static final String TAG_HAPPINESS_MODIFIER     = "happinessModifier";
     public static final String TAG_ABANDONED              = "abandoned";
+    public static final String TAG_TEARDOWN               = "teardown";
     public static final String TAG_BUILDING_PRIO          = "buildingPrio";
     public static final String TAG_PRIO                   = "prio";
     public static final String TAG_PRIO_MODE              = "prioMode";
@@ -0,0 +1,105 @@
+package com.minecolonies.api.crafting;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashing and map lookups of {@link ItemStorage} compared to the interned {@link ItemKey}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemStorageBenchmark
+{
+    /**
+     * Every n-th stack carries an nbt tag.
+     */
+    private static final int NBT_EVERY = 4;
+
+    /**
+     * The amount of different item types.
+     */
+    @Param({"16", "256"})
+    public int types;
+
+    /**
+     * The stacks which are looked up.
+     */
+    private ItemStack[] stacks;
+
+    /**
+     * The maps with every stack as key.
+     */
+    private final Map<ItemStorage, Integer> storageMap = new HashMap<>();
+    private final Map<ItemKey, Integer>     keyMap     = new HashMap<>();
+
+    @Setup
+    public void setUp()
+    {
+        Bootstrap.register();
+
+        stacks = new ItemStack[types];
+        final Iterator<Item> items = Item.REGISTRY.iterator();
+        for (int i = 0; i < types && items.hasNext(); i++)
+        {
+            final ItemStack stack = new ItemStack(items.next(), 1 + i % 64);
+            if (i % NBT_EVERY == 0)
+            {
+                final NBTTagCompound compound = new NBTTagCompound();
+                compound.setInteger("id", i);
+                stack.setTagCompound(compound);
+            }
+            stacks[i] = stack;
+            storageMap.put(new ItemStorage(stack), i);
+            keyMap.put(ItemKey.of(stack), i);
+        }
+    }
+
+    @Benchmark
+    public void itemStorageHash(final Blackhole blackhole)
+    {
+        for (final ItemStack stack : stacks)
+        {
+            blackhole.consume(new ItemStorage(stack).hashCode());
+        }
+    }
+
+    @Benchmark
+    public void itemKeyHash(final Blackhole blackhole)
+    {
+        for (final ItemStack stack : stacks)
+        {
+            blackhole.consume(ItemKey.of(stack).hashCode());
+        }
+    }
+
+    @Benchmark
+    public void itemStorageLookup(final Blackhole blackhole)
+    {
+        for (final ItemStack stack : stacks)
+        {
+            blackhole.consume(storageMap.get(new ItemStorage(stack)));
+        }
+    }
+
+    @Benchmark
+    public void itemKeyLookup(final Blackhole blackhole)
+    {
+        for (final ItemStack stack : stacks)
+        {
+            blackhole.consume(keyMap.get(ItemKey.of(stack)));
+        }
+    }
+}
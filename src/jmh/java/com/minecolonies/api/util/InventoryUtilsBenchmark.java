@@ -0,0 +1,102 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Filtering and transfer of {@link InventoryUtils} on chest and double chest sized handlers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InventoryUtilsBenchmark
+{
+    /**
+     * The amount of slots of the handlers.
+     */
+    @Param({"27", "54"})
+    public int slots;
+
+    /**
+     * A handler filled with mixed stacks, the searched item is in the last slot.
+     */
+    private ItemStackHandler filled;
+
+    /**
+     * The handlers the transfer moves a stack between.
+     */
+    private ItemStackHandler source;
+    private ItemStackHandler target;
+
+    /**
+     * The predicate which only matches the last slot of the filled handler.
+     */
+    private final Predicate<ItemStack> isDiamond = stack -> !ItemStackUtils.isEmpty(stack) && stack.getItem() == Items.DIAMOND;
+
+    @Setup(Level.Trial)
+    public void setUpTrial()
+    {
+        Bootstrap.register();
+
+        filled = new ItemStackHandler(slots);
+        for (int i = 0; i < slots - 1; i++)
+        {
+            filled.setStackInSlot(i, i % 2 == 0 ? new ItemStack(Blocks.COBBLESTONE, 64) : new ItemStack(Items.STICK, 32));
+        }
+        filled.setStackInSlot(slots - 1, new ItemStack(Items.DIAMOND, 3));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation()
+    {
+        source = new ItemStackHandler(slots);
+        source.setStackInSlot(0, new ItemStack(Blocks.LOG, 64));
+
+        target = new ItemStackHandler(slots);
+        for (int i = 0; i < slots - 1; i++)
+        {
+            target.setStackInSlot(i, new ItemStack(Blocks.COBBLESTONE, 64));
+        }
+    }
+
+    @Benchmark
+    public void filterItemHandler(final Blackhole blackhole)
+    {
+        blackhole.consume(InventoryUtils.filterItemHandler(filled, isDiamond));
+    }
+
+    @Benchmark
+    public int findFirstSlot()
+    {
+        return InventoryUtils.findFirstSlotInItemHandlerWith(filled, isDiamond);
+    }
+
+    @Benchmark
+    public int getItemCount()
+    {
+        return InventoryUtils.getItemCountInItemHandler(filled, isDiamond);
+    }
+
+    @Benchmark
+    public boolean transferIntoNextFreeSlot()
+    {
+        return InventoryUtils.transferItemStackIntoNextFreeSlotInItemHandler(source, 0, target);
+    }
+
+    @Benchmark
+    public boolean transferIntoNextBestSlot()
+    {
+        return InventoryUtils.transferItemStackIntoNextBestSlotInItemHandler(source, 0, target);
+    }
+}
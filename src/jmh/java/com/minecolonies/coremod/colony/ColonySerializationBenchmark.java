@@ -0,0 +1,120 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.coremod.test.ReflectionUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.scoreboard.ScorePlayerTeam;
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * NBT round trips of {@link Colony#writeToNBT(NBTTagCompound)} and the network serialization of {@link ColonyView#serializeNetworkData(Colony, ByteBuf, boolean)},
+ * for a colony of a mocked world, set up like in the ColonyTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ColonySerializationBenchmark
+{
+    /**
+     * The amount of free positions and waypoints of the colony, to give the data some size.
+     */
+    @Param({"0", "500"})
+    public int positions;
+
+    /**
+     * The mocked world of the colony.
+     */
+    private World world;
+
+    /**
+     * The colony to serialize.
+     */
+    private Colony colony;
+
+    /**
+     * The saved colony.
+     */
+    private NBTTagCompound saved;
+
+    /**
+     * The buffer the network data is written to.
+     */
+    private final ByteBuf buffer = Unpooled.buffer();
+
+    @Setup
+    public void setUp() throws NoSuchFieldException, IllegalAccessException
+    {
+        Bootstrap.register();
+
+        world = mock(World.class);
+        final WorldProvider worldProvider = mock(WorldProvider.class);
+        final Scoreboard board = mock(Scoreboard.class);
+        when(worldProvider.getDimension()).thenReturn(1);
+        ReflectionUtil.setFinalField(world, "provider", worldProvider);
+        ReflectionUtil.setStaticFinalField(MinecraftForge.class, "EVENT_BUS", mock(EventBus.class));
+        StandardFactoryControllerInitializer.onPreInit();
+        when(world.getScoreboard()).thenReturn(board);
+        when(board.getTeam(any())).thenReturn(new ScorePlayerTeam(board, "team"));
+
+        colony = new ColonyList<Colony>().create(world, BlockPos.ORIGIN);
+        colony.setName("benchmark");
+        colony.addFreeBlock(Blocks.CHEST);
+        for (int i = 0; i < positions; i++)
+        {
+            colony.addFreePosition(new BlockPos(i, 64, -i));
+            colony.addWayPoint(new BlockPos(-i, 64, i), Blocks.GRAVEL.getDefaultState());
+        }
+
+        saved = new NBTTagCompound();
+        colony.writeToNBT(saved);
+    }
+
+    @Benchmark
+    public NBTTagCompound writeToNBT()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        colony.writeToNBT(compound);
+        return compound;
+    }
+
+    @Benchmark
+    public Colony nbtRoundTrip()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        colony.writeToNBT(compound);
+        return Colony.loadColony(compound, world);
+    }
+
+    @Benchmark
+    public Colony readFromNBT()
+    {
+        return Colony.loadColony(saved, world);
+    }
+
+    @Benchmark
+    public ByteBuf serializeNetworkData()
+    {
+        buffer.clear();
+        ColonyView.serializeNetworkData(colony, buffer, true);
+        return buffer;
+    }
+}
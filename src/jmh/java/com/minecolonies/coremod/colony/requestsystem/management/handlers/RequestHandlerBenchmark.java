@@ -0,0 +1,118 @@
+package com.minecolonies.coremod.colony.requestsystem.management.handlers;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.managers.interfaces.IBuildingManager;
+import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
+import com.minecolonies.coremod.test.ReflectionUtil;
+import com.minecolonies.coremod.test.StringRequestFixtures;
+import com.minecolonies.coremod.test.StringRequestFixtures.StringRequestable;
+import com.minecolonies.coremod.test.StringRequestFixtures.StringResolver;
+import com.minecolonies.coremod.test.StringRequestFixtures.TestRequester;
+import com.minecolonies.coremod.test.StringRequestFixtures.TestResolvingProvider;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Assigning thousands of requests with {@link RequestHandler#assignRequest(IStandardRequestManager, IRequest)},
+ * on a request manager of a mocked colony, with the string request fixtures of the StandardRequestManagerTest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class RequestHandlerBenchmark
+{
+    /**
+     * The amount of requests assigned per invocation.
+     */
+    @Param({"1000", "5000"})
+    public int requests;
+
+    /**
+     * The amount of resolvers which can resolve the requests.
+     */
+    @Param({"2", "20"})
+    public int resolvers;
+
+    /**
+     * The manager of the current invocation.
+     */
+    private StandardRequestManager manager;
+
+    /**
+     * The requests of the current invocation, created but not assigned.
+     */
+    private final List<IRequest<?>> created = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUpTrial()
+    {
+        Configurations.requestSystem.enableDebugLogging = false;
+        StandardFactoryControllerInitializer.onPreInit();
+        StringRequestFixtures.registerFactories();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws NoSuchFieldException, IllegalAccessException
+    {
+        final Colony colony = mock(Colony.class);
+        final World world = mock(World.class);
+        final WorldProvider worldProvider = mock(WorldProvider.class);
+        final IBuildingManager buildingManager = mock(IBuildingManager.class);
+        when(colony.getWorld()).thenReturn(world);
+        when(colony.getID()).thenReturn(1);
+        when(colony.getBuildingManager()).thenReturn(buildingManager);
+        when(colony.getCenter()).thenReturn(BlockPos.ORIGIN);
+        when(buildingManager.getBuildings()).thenReturn(new HashMap<>());
+        when(worldProvider.getDimension()).thenReturn(1);
+        ReflectionUtil.setFinalField(world, "provider", worldProvider);
+
+        manager = new StandardRequestManager(colony);
+        final StringResolver[] resolverList = new StringResolver[resolvers];
+        for (int i = 0; i < resolvers; i++)
+        {
+            resolverList[i] = new StringResolver(i);
+        }
+        manager.onProviderAddedToColony(new TestResolvingProvider(resolverList));
+
+        // Strings of one character are resolved without child requests.
+        created.clear();
+        for (int i = 0; i < requests; i++)
+        {
+            created.add(manager.getRequestForToken(manager.createRequest(TestRequester.INSTANCE, new StringRequestable(String.valueOf((char) ('a' + i % 26))))));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Benchmark
+    public StandardRequestManager assignRequests()
+    {
+        for (int i = 0; i < created.size(); i++)
+        {
+            RequestHandler.assignRequest(manager, created.get(i));
+        }
+        return manager;
+    }
+}
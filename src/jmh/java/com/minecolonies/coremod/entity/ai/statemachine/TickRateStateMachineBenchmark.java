@@ -0,0 +1,77 @@
+package com.minecolonies.coremod.entity.ai.statemachine;
+
+import com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState;
+import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
+import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickingTransition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticking a {@link TickRateStateMachine} with many transitions of mixed tick rates, like a worker AI with its targets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TickRateStateMachineBenchmark
+{
+    /**
+     * The tick rates the transitions cycle through.
+     */
+    private static final int[] TICK_RATES = {1, 1, 5, 10, 20, 60};
+
+    /**
+     * The amount of transitions of the current state.
+     */
+    @Param({"10", "50"})
+    public int transitions;
+
+    /**
+     * The machine which is ticked.
+     */
+    private TickRateStateMachine machine;
+
+    @Setup
+    public void setUp()
+    {
+        machine = new TickRateStateMachine(AIWorkerState.IDLE, e -> {
+            throw e;
+        });
+        for (int i = 0; i < transitions; i++)
+        {
+            final Condition condition = new Condition(i);
+            machine.addTransition(new TickingTransition(AIWorkerState.IDLE, condition::check, () -> AIWorkerState.IDLE, TICK_RATES[i % TICK_RATES.length]));
+            machine.addTransition(new TickingTransition(AIWorkerState.START_WORKING, condition::check, () -> AIWorkerState.IDLE, TICK_RATES[i % TICK_RATES.length]));
+        }
+    }
+
+    @Benchmark
+    public TickRateStateMachine tick()
+    {
+        machine.tick();
+        return machine;
+    }
+
+    /**
+     * A condition which never fires, but is not trivially constant for the compiler.
+     */
+    private static final class Condition
+    {
+        private final int id;
+        private int checks;
+
+        private Condition(final int id)
+        {
+            this.id = id;
+        }
+
+        private boolean check()
+        {
+            checks++;
+            return checks == Integer.MIN_VALUE + id;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Path searches of {@link PathJobMoveToLocation} over synthetic terrain: a flat grass field with rows of walls,
+ * which have a gap at alternating ends so the path has to zigzag.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PathJobBenchmark
+{
+    /**
+     * The height of the ground.
+     */
+    private static final int GROUND = 63;
+
+    /**
+     * The distance between two walls.
+     */
+    private static final int WALL_SPACING = 6;
+
+    /**
+     * The height of the walls.
+     */
+    private static final int WALL_HEIGHT = 3;
+
+    /**
+     * The maximum search range of the jobs.
+     */
+    private static final int RANGE = 256;
+
+    /**
+     * The distance between start and target on both axes.
+     */
+    @Param({"16", "48"})
+    public int distance;
+
+    /**
+     * The synthetic terrain.
+     */
+    private IBlockAccess terrain;
+
+    @Setup
+    public void setUp()
+    {
+        Bootstrap.register();
+        terrain = new WallTerrain(distance);
+    }
+
+    @Benchmark
+    public Object moveToLocation()
+    {
+        return new PathJobMoveToLocation(terrain, new BlockPos(0, GROUND + 1, 0), new BlockPos(distance, GROUND + 1, distance), RANGE, null).call();
+    }
+
+    /**
+     * Flat terrain with walls along the x axis every few blocks, leaving a gap at alternating ends.
+     */
+    private static final class WallTerrain implements IBlockAccess
+    {
+        /**
+         * The length of the walls, the gap is right after their end.
+         */
+        private final int wallLength;
+
+        private WallTerrain(final int wallLength)
+        {
+            this.wallLength = wallLength;
+        }
+
+        @NotNull
+        @Override
+        public IBlockState getBlockState(@NotNull final BlockPos pos)
+        {
+            final int y = pos.getY();
+            if (y < GROUND)
+            {
+                return Blocks.STONE.getDefaultState();
+            }
+            if (y == GROUND)
+            {
+                return Blocks.GRASS.getDefaultState();
+            }
+
+            final int z = pos.getZ();
+            if (y <= GROUND + WALL_HEIGHT && z > 0 && z % WALL_SPACING == 0)
+            {
+                final boolean gapAtEnd = (z / WALL_SPACING) % 2 == 0;
+                final int x = pos.getX();
+                final boolean inWall = gapAtEnd ? x >= -wallLength && x < wallLength : x > -wallLength + 1 && x <= wallLength + 1;
+                if (inWall)
+                {
+                    return Blocks.COBBLESTONE.getDefaultState();
+                }
+            }
+            return Blocks.AIR.getDefaultState();
+        }
+
+        @Nullable
+        @Override
+        public TileEntity getTileEntity(@NotNull final BlockPos pos)
+        {
+            return null;
+        }
+
+        @Override
+        public int getCombinedLight(@NotNull final BlockPos pos, final int lightValue)
+        {
+            return 0;
+        }
+
+        @Override
+        public boolean isAirBlock(@NotNull final BlockPos pos)
+        {
+            return getBlockState(pos).getBlock() == Blocks.AIR;
+        }
+
+        @NotNull
+        @Override
+        public Biome getBiome(@NotNull final BlockPos pos)
+        {
+            return Biomes.PLAINS;
+        }
+
+        @Override
+        public int getStrongPower(@NotNull final BlockPos pos, @NotNull final EnumFacing direction)
+        {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public WorldType getWorldType()
+        {
+            return WorldType.FLAT;
+        }
+
+        @Override
+        public boolean isSideSolid(@NotNull final BlockPos pos, @NotNull final EnumFacing side, final boolean _default)
+        {
+            return getBlockState(pos).isSideSolid(this, pos, side);
+        }
+    }
+}
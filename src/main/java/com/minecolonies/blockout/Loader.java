@@ -7,6 +7,7 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -17,67 +18,71 @@ import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Utilities to load xml files.
  */
 public final class Loader
 {
-    private static final Map<String, Constructor<? extends Pane>> paneConstructorMap = new HashMap<>();
+    /**
+     * Factories creating the panes from their xml parameters, by type and style.
+     */
+    private static final Map<String, Function<PaneParams, ? extends Pane>> paneFactoryMap = new HashMap<>();
+
+    /**
+     * Parsed window templates by resource location, cleared on resource reload.
+     */
+    private static final Map<ResourceLocation, PaneParams> templateCache = new HashMap<>();
+
+    /**
+     * Factory for the xml document builders.
+     */
+    private static final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+
     static
     {
-        register("view", View.class);
-        register("group", Group.class);
-        register("scrollgroup", ScrollingGroup.class);
-        register("list", ScrollingList.class);
-        register("text", Text.class);
-        register("button", ButtonVanilla.class);
-        register("buttonimage", ButtonImage.class);
-        register("label", Label.class);
-        register("input", TextFieldVanilla.class);
-        register("image", Image.class);
-        register("box", Box.class);
-        register("itemicon", ItemIcon.class);
-        register("switch", SwitchView.class);
-        register("dropdown", DropDownList.class);
-        register("overlay", OverlayView.class);
+        register("view", View::new);
+        register("group", Group::new);
+        register("scrollgroup", ScrollingGroup::new);
+        register("list", ScrollingList::new);
+        register("text", Text::new);
+        register("button", ButtonVanilla::new);
+        register("buttonimage", ButtonImage::new);
+        register("label", Label::new);
+        register("input", TextFieldVanilla::new);
+        register("image", Image::new);
+        register("box", Box::new);
+        register("itemicon", ItemIcon::new);
+        register("switch", SwitchView::new);
+        register("dropdown", DropDownList::new);
+        register("overlay", OverlayView::new);
     }
     private Loader()
     {
         // Hides default constructor.
     }
 
-    private static void register(final String name, final Class<? extends Pane> paneClass)
+    private static void register(final String name, final Function<PaneParams, ? extends Pane> factory)
     {
-        register(name, null, paneClass);
+        register(name, null, factory);
     }
 
-    private static void register(final String name, final String style, final Class<? extends Pane> paneClass)
+    private static void register(final String name, final String style, final Function<PaneParams, ? extends Pane> factory)
     {
         final String key = makeFactoryKey(name, style);
 
-        if (paneConstructorMap.containsKey(key))
+        if (paneFactoryMap.containsKey(key))
         {
             throw new IllegalArgumentException("Duplicate pane type '"
                                                  + name + "' of style '"
-                                                 + style + "' when registering Pane class mapping for "
-                                                 + paneClass.getName());
+                                                 + style + "' when registering Pane factory");
         }
 
-        try
-        {
-            final Constructor<? extends Pane> constructor = paneClass.getDeclaredConstructor(PaneParams.class);
-            paneConstructorMap.put(key, constructor);
-        }
-        catch (final NoSuchMethodException exception)
-        {
-            throw new IllegalArgumentException("Missing (XMLNode) constructor for type '"
-                                                 + name + "' when adding Pane class mapping for " + paneClass.getName(), exception);
-        }
+        paneFactoryMap.put(key, factory);
     }
 
     @NotNull
@@ -92,21 +97,19 @@ public final class Loader
         final String paneType = params.getType();
         final String style = params.getStringAttribute("style", null);
 
-        String key = makeFactoryKey(paneType, style);
-        Constructor<? extends Pane> constructor = paneConstructorMap.get(key);
-        if (constructor == null && style != null)
+        Function<PaneParams, ? extends Pane> factory = paneFactoryMap.get(makeFactoryKey(paneType, style));
+        if (factory == null && style != null)
         {
-            key = makeFactoryKey(paneType, null);
-            constructor = paneConstructorMap.get(key);
+            factory = paneFactoryMap.get(makeFactoryKey(paneType, null));
         }
 
-        if (constructor != null)
+        if (factory != null)
         {
             try
             {
-                return constructor.newInstance(params);
+                return factory.apply(params);
             }
-            catch (InstantiationException | IllegalAccessException | InvocationTargetException exc)
+            catch (final RuntimeException exc)
             {
                 Log.getLogger().error(
                   String.format("Exception when parsing XML for pane type %s", paneType),
@@ -150,47 +153,50 @@ public final class Loader
     }
 
     /**
-     * Parse an XML Document into contents for a View.
+     * Create the contents of a View from the parsed root of a window file.
      *
-     * @param doc    xml document.
+     * @param root   the root parameters.
      * @param parent parent view.
      */
-    private static void createFromXML(final Document doc, final View parent)
+    private static void createFromRootParams(final PaneParams root, final View parent)
     {
-        doc.getDocumentElement().normalize();
-
-        final PaneParams root = new PaneParams(doc.getDocumentElement());
         if (parent instanceof Window)
         {
             ((Window) parent).loadParams(root);
         }
 
-        for (final PaneParams child : root.getChildren())
+        final List<PaneParams> children = root.getChildren();
+        if (children != null)
         {
-            createFromPaneParams(child, parent);
+            for (final PaneParams child : children)
+            {
+                createFromPaneParams(child, parent);
+            }
         }
     }
 
     /**
-     * Parse XML from an InputSource into contents for a View.
+     * Parse XML from an InputSource into the root parameters of a window.
      *
-     * @param input  xml file.
-     * @param parent parent view.
+     * @param input xml file.
+     * @return the root parameters or null if parsing failed.
      */
-    private static void createFromXML(final InputSource input, final View parent)
+    @Nullable
+    private static PaneParams parseXML(final InputSource input)
     {
         try
         {
-            final DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            final DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
+            final DocumentBuilder dBuilder = documentBuilderFactory.newDocumentBuilder();
             final Document doc = dBuilder.parse(input);
+            doc.getDocumentElement().normalize();
 
-            createFromXML(doc, parent);
+            return new PaneParams(doc.getDocumentElement());
         }
         catch (ParserConfigurationException | SAXException | IOException exc)
         {
             Log.getLogger().error("Exception when parsing XML.", exc);
         }
+        return null;
     }
 
     /**
@@ -201,7 +207,11 @@ public final class Loader
      */
     public static void createFromXML(final String xmlString, final View parent)
     {
-        createFromXML(new InputSource(new StringReader(xmlString)), parent);
+        final PaneParams root = parseXML(new InputSource(new StringReader(xmlString)));
+        if (root != null)
+        {
+            createFromRootParams(root, parent);
+        }
     }
 
     /**
@@ -216,14 +226,33 @@ public final class Loader
     }
 
     /**
-     * Parse XML contains in a ResourceLocation into contents for a Window.
+     * Create the contents of a Window from the XML in a ResourceLocation.
+     * The file is only parsed the first time, afterwards the cached template is used.
      *
      * @param resource xml as a {@link ResourceLocation}.
      * @param parent   parent view.
      */
     public static void createFromXMLFile(final ResourceLocation resource, final View parent)
     {
-        createFromXML(new InputSource(createInputStream(resource)), parent);
+        PaneParams root = templateCache.get(resource);
+        if (root == null)
+        {
+            root = parseXML(new InputSource(createInputStream(resource)));
+            if (root == null)
+            {
+                return;
+            }
+            templateCache.put(resource, root);
+        }
+        createFromRootParams(root, parent);
+    }
+
+    /**
+     * Drop all cached window templates, called when the resources are reloaded.
+     */
+    public static void clearTemplateCache()
+    {
+        templateCache.clear();
     }
 
     /**
@@ -25,6 +25,8 @@ public class PaneParams
     private static final char  HASH_CHAR             = '#';
     private final        Node node;
     private              View parentView;
+    private              List<PaneParams> children;
+    private              boolean          childrenParsed = false;
 
     /**
      * Instantiates the pane parameters.
@@ -61,27 +63,35 @@ public class PaneParams
         return parentView != null ? parentView.getInteriorHeight() : 0;
     }
 
+    /**
+     * Get the parameters of the child elements.
+     * The list is created once, so cached templates hand out the same child parameters every time.
+     *
+     * @return the child parameters or null if there are none.
+     */
     @Nullable
     public List<PaneParams> getChildren()
     {
-        List<PaneParams> list = null;
-
-        Node child = node.getFirstChild();
-        while (child != null)
+        if (!childrenParsed)
         {
-            if (child.getNodeType() == Node.ELEMENT_NODE)
+            Node child = node.getFirstChild();
+            while (child != null)
             {
-                if (list == null)
+                if (child.getNodeType() == Node.ELEMENT_NODE)
                 {
-                    list = new ArrayList<>();
-                }
+                    if (children == null)
+                    {
+                        children = new ArrayList<>();
+                    }
 
-                list.add(new PaneParams(child));
+                    children.add(new PaneParams(child));
+                }
+                child = child.getNextSibling();
             }
-            child = child.getNextSibling();
+            childrenParsed = true;
         }
 
-        return list;
+        return children;
     }
 
     @NotNull
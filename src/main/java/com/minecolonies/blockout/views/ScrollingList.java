@@ -35,6 +35,17 @@ public class ScrollingList extends ScrollingView
     public ScrollingList(final PaneParams params)
     {
         super(params);
+        setVirtualized(params.getBooleanAttribute("virtual", false));
+    }
+
+    /**
+     * Set if the list should only create the rows visible in the viewport and recycle them while scrolling.
+     *
+     * @param virtualized true to virtualize the list.
+     */
+    public void setVirtualized(final boolean virtualized)
+    {
+        ((ScrollingListContainer) container).setVirtualized(virtualized);
     }
 
     public void setDataProvider(final IntSupplier countSupplier, final IPaneUpdater paneUpdater)
@@ -127,6 +138,18 @@ public class ScrollingList extends ScrollingView
          * @param rowPane the parent Pane for the row, containing the elements to update
          */
         void updateElement(int index, Pane rowPane);
+
+        /**
+         * Override this to tell virtualized lists if the data changed since the last refresh, for example by comparing a version of the data.
+         * Rows which still show the same element are only updated if this returns true, it is called once per refresh.
+         * The default updates every row on every refresh.
+         *
+         * @return true if the rows have to be updated.
+         */
+        default boolean hasChanged()
+        {
+            return true;
+        }
     }
 
     @FunctionalInterface
@@ -4,13 +4,42 @@ import com.minecolonies.blockout.Loader;
 import com.minecolonies.blockout.Pane;
 import com.minecolonies.blockout.PaneParams;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A Blockout pane that contains a scrolling line of other panes.
+ * In virtualized mode only the panes filling the viewport (plus a buffer) exist and are recycled while scrolling.
  */
 public class ScrollingListContainer extends ScrollingContainer
 {
+    /**
+     * Rows created above and below the viewport in virtualized mode.
+     */
+    private static final int VIRTUAL_ROW_BUFFER = 2;
+
     private int listElementHeight = 0;
 
+    /**
+     * If only the visible rows should be created.
+     */
+    private boolean virtualized = false;
+
+    /**
+     * The list element index each pane is bound to in virtualized mode.
+     */
+    private final List<Integer> boundIndices = new ArrayList<>();
+
+    /**
+     * The amount of list elements in virtualized mode.
+     */
+    private int virtualElementCount = 0;
+
+    /**
+     * The data provider of the last refresh, used to rebind rows while scrolling.
+     */
+    private ScrollingList.DataProvider lastDataProvider;
+
     ScrollingListContainer(final ScrollingList owner)
     {
         super(owner);
@@ -24,6 +53,12 @@ public class ScrollingListContainer extends ScrollingContainer
      */
     public void refreshElementPanes(final ScrollingList.DataProvider dataProvider, final PaneParams listNodeParams)
     {
+        if (virtualized)
+        {
+            refreshVirtualElementPanes(dataProvider, listNodeParams);
+            return;
+        }
+
         final int numElements = (dataProvider != null) ? dataProvider.getElementCount() : 0;
         if (dataProvider != null)
         {
@@ -62,6 +97,127 @@ public class ScrollingListContainer extends ScrollingContainer
         computeContentHeight();
     }
 
+    /**
+     * Creates and binds only the rows visible in the viewport plus a buffer.
+     * Rows which keep their element are only updated if the data provider or the element count changed, or the data provider reports a change.
+     *
+     * @param dataProvider   data provider object, shouldn't be null.
+     * @param listNodeParams the xml parameters for this pane.
+     */
+    private void refreshVirtualElementPanes(final ScrollingList.DataProvider dataProvider, final PaneParams listNodeParams)
+    {
+        final int elementCount = (dataProvider != null) ? dataProvider.getElementCount() : 0;
+        final boolean dataReplaced = dataProvider != lastDataProvider || elementCount != virtualElementCount;
+        lastDataProvider = dataProvider;
+        virtualElementCount = elementCount;
+
+        if (listElementHeight == 0 && virtualElementCount > 0)
+        {
+            final Pane child = Loader.createFromPaneParams(listNodeParams, this);
+            if (child == null)
+            {
+                return;
+            }
+            listElementHeight = child.getHeight();
+            boundIndices.add(-1);
+        }
+
+        final int rows = listElementHeight == 0 ? 0 : Math.min(virtualElementCount, getHeight() / listElementHeight + 1 + VIRTUAL_ROW_BUFFER * 2);
+        final boolean rowCountChanged = children.size() != rows;
+        while (children.size() < rows)
+        {
+            if (Loader.createFromPaneParams(listNodeParams, this) == null)
+            {
+                break;
+            }
+            boundIndices.add(-1);
+        }
+
+        while (children.size() > rows)
+        {
+            removeChild(children.get(children.size() - 1));
+            boundIndices.remove(boundIndices.size() - 1);
+        }
+
+        computeContentHeight();
+        // Ask the provider in any case, so it can track what it reported.
+        final boolean dataChanged = dataProvider != null && dataProvider.hasChanged();
+        bindVirtualRows(rowCountChanged || dataReplaced || dataChanged);
+    }
+
+    /**
+     * Bind the existing row panes to the list elements around the current scroll position.
+     *
+     * @param forceUpdate update every row, not only the ones which changed their element.
+     */
+    private void bindVirtualRows(final boolean forceUpdate)
+    {
+        if (lastDataProvider == null || listElementHeight == 0 || children.isEmpty())
+        {
+            return;
+        }
+
+        final int firstIndex = Math.max(0, Math.min(scrollY / listElementHeight - VIRTUAL_ROW_BUFFER, virtualElementCount - children.size()));
+        for (int i = 0; i < children.size(); i++)
+        {
+            final int index = firstIndex + i;
+
+            // Keep every pane on the same element slot modulo the row count, so scrolling only rebinds the rows that left the viewport.
+            final int slot = Math.floorMod(index, children.size());
+            final Pane slotPane = children.get(slot);
+            if (boundIndices.get(slot) != index || forceUpdate)
+            {
+                slotPane.setPosition(0, index * listElementHeight);
+                lastDataProvider.updateElement(index, slotPane);
+                boundIndices.set(slot, index);
+            }
+        }
+    }
+
+    @Override
+    public void computeContentHeight()
+    {
+        if (!virtualized)
+        {
+            super.computeContentHeight();
+            return;
+        }
+
+        contentHeight = virtualElementCount * listElementHeight;
+        setScrollY(scrollY);
+    }
+
+    @Override
+    public void setScrollY(final int offset)
+    {
+        final int oldScrollY = scrollY;
+        super.setScrollY(offset);
+        if (virtualized && oldScrollY != scrollY)
+        {
+            bindVirtualRows(false);
+        }
+    }
+
+    /**
+     * Set if only the visible rows should be created and recycled while scrolling.
+     *
+     * @param virtualized true to virtualize the list.
+     */
+    public void setVirtualized(final boolean virtualized)
+    {
+        this.virtualized = virtualized;
+    }
+
+    /**
+     * Check if the list is virtualized.
+     *
+     * @return true if so.
+     */
+    public boolean isVirtualized()
+    {
+        return virtualized;
+    }
+
     /**
      * Returns the element list index for the given pane.
      *
@@ -81,6 +237,12 @@ public class ScrollingListContainer extends ScrollingContainer
             return -1;
         }
 
+        if (virtualized)
+        {
+            final int slot = getChildren().indexOf(parentPane);
+            return slot == -1 ? -1 : boundIndices.get(slot);
+        }
+
         return getChildren().indexOf(parentPane);
     }
 
@@ -100,6 +262,21 @@ public class ScrollingListContainer extends ScrollingContainer
         }
 
         final int listElement = my / listElementHeight;
+        if (virtualized)
+        {
+            if (listElement >= virtualElementCount)
+            {
+                return null;
+            }
+            final int slot = Math.floorMod(listElement, children.size());
+            final Pane child = children.get(slot);
+            if (boundIndices.get(slot) == listElement && child.canHandleClick(mx, my))
+            {
+                return child;
+            }
+            return null;
+        }
+
         if (listElement < children.size())
         {
             final Pane child = children.get(listElement);
@@ -124,13 +124,51 @@ public abstract class AbstractWindowRequestTree extends AbstractWindowSkeleton
         {
             private List<RequestWrapper> requestWrappers = null;
 
+            /**
+             * The version of the requests the tree was built for.
+             */
+            private int version;
+
+            /**
+             * The step of the display stack cycle the rows show.
+             */
+            private int displayStep = -1;
+
+            /**
+             * If the tree was rebuilt since the last refresh.
+             */
+            private boolean rebuilt;
+
             @Override
             public int getElementCount()
             {
-                requestWrappers = getOpenRequestTreeOfBuilding();
+                if (requestWrappers == null || version != colony.getRequestsVersion())
+                {
+                    version = colony.getRequestsVersion();
+                    requestWrappers = getOpenRequestTreeOfBuilding();
+                    rebuilt = true;
+                }
                 return requestWrappers.size();
             }
 
+            /**
+             * Update the rows when the requests changed, and when the next display stack is due, which also updates the fulfill buttons
+             * to the inventory of the player.
+             * @return true if the rows have to be updated.
+             */
+            @Override
+            public boolean hasChanged()
+            {
+                final int step = lifeCount / LIFE_COUNT_DIVIDER;
+                if (!rebuilt && step == displayStep)
+                {
+                    return false;
+                }
+                rebuilt = false;
+                displayStep = step;
+                return true;
+            }
+
             @Override
             public void updateElement(final int index, final Pane rowPane)
             {
@@ -145,6 +183,7 @@ public abstract class AbstractWindowRequestTree extends AbstractWindowSkeleton
                 wrapperBox.setSize(wrapperBox.getParent().getWidth() - 2 * wrapper.getDepth(), wrapperBox.getHeight());
 
                 rowPane.findPaneByID(REQUEST_FULLFIL).enable();
+                rowPane.findPaneByID(REQUEST_FULLFIL).show();
 
                 final IRequest<?> request = wrapper.getRequest();
                 final ItemIcon exampleStackDisplay = rowPane.findPaneOfTypeByID(LIST_ELEMENT_ID_REQUEST_STACK, ItemIcon.class);
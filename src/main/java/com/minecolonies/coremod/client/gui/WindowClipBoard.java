@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestR
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.blockout.Pane;
 import com.minecolonies.blockout.controls.Button;
 import com.minecolonies.blockout.controls.Image;
 import com.minecolonies.blockout.controls.ItemIcon;
@@ -87,6 +88,14 @@ public class WindowClipBoard extends AbstractWindowSkeleton
      * Life count.
      */
     private int lifeCount = 0;
+    /**
+     * The requests the list shows.
+     */
+    private ImmutableList<IRequest> openRequests = ImmutableList.of();
+    /**
+     * The version of the requests the list shows.
+     */
+    private int requestsVersion = -1;
 
     /**
      * Constructor of the clipboard GUI.
@@ -117,37 +126,75 @@ public class WindowClipBoard extends AbstractWindowSkeleton
     public void onOpened()
     {
         resourceList = findPaneOfTypeByID(WINDOW_ID_LIST_REQUESTS, ScrollingList.class);
-        resourceList.setDataProvider(() -> getOpenRequests().size(), (index, rowPane) ->
+        resourceList.setDataProvider(new ScrollingList.DataProvider()
         {
-            final ImmutableList<IRequest> openRequests = getOpenRequests();
-            if (index < 0 || index >= openRequests.size())
+            /**
+             * If the shown requests were collected again since the last refresh.
+             */
+            private boolean collected;
+
+            /**
+             * The step of the display stack cycle the rows show.
+             */
+            private int displayStep = -1;
+
+            @Override
+            public int getElementCount()
             {
-                return;
+                final ColonyView view = ColonyManager.getColonyView(colonyId, Minecraft.getMinecraft().world.provider.getDimension());
+                final int version = view == null ? -1 : view.getRequestsVersion();
+                final int step = lifeCount / LIFE_COUNT_DIVIDER;
+                if (version != requestsVersion || step != displayStep)
+                {
+                    // Collected again on every display step as well, to keep the order by distance to the player.
+                    requestsVersion = version;
+                    displayStep = step;
+                    openRequests = getOpenRequests();
+                    collected = true;
+                }
+                return openRequests.size();
             }
 
-            final IRequest request = openRequests.get(index);
-            final ItemIcon exampleStackDisplay = rowPane.findPaneOfTypeByID(LIST_ELEMENT_ID_REQUEST_STACK, ItemIcon.class);
-            final List<ItemStack> displayStacks = request.getDisplayStacks();
-
-            if (!displayStacks.isEmpty())
+            @Override
+            public void updateElement(final int index, final Pane rowPane)
             {
-                if(exampleStackDisplay != null)
+                if (index < 0 || index >= openRequests.size())
+                {
+                    return;
+                }
+
+                final IRequest request = openRequests.get(index);
+                final ItemIcon exampleStackDisplay = rowPane.findPaneOfTypeByID(LIST_ELEMENT_ID_REQUEST_STACK, ItemIcon.class);
+                final List<ItemStack> displayStacks = request.getDisplayStacks();
+                final Image logo = rowPane.findPaneOfTypeByID(DELIVERY_IMAGE, Image.class);
+
+                if (!displayStacks.isEmpty())
                 {
+                    logo.setVisible(false);
+                    exampleStackDisplay.setVisible(true);
                     exampleStackDisplay.setItem(displayStacks.get((lifeCount / LIFE_COUNT_DIVIDER) % displayStacks.size()));
                 }
+                else
+                {
+                    exampleStackDisplay.setVisible(false);
+                    logo.setVisible(true);
+                    logo.setImage(request.getDisplayIcon());
+                }
+
+                final ColonyView view = ColonyManager.getColonyView(colonyId, Minecraft.getMinecraft().world.provider.getDimension());
+                rowPane.findPaneOfTypeByID(REQUESTER, Label.class).setLabelText(request.getRequester().getDisplayName(view.getRequestManager(), request.getToken()).getFormattedText());
+
+                rowPane.findPaneOfTypeByID(REQUEST_SHORT_DETAIL, Label.class)
+                  .setLabelText(request.getShortDisplayString().getFormattedText().replace("§f", ""));
             }
-            else
+
+            @Override
+            public boolean hasChanged()
             {
-                final Image logo = findPaneOfTypeByID(DELIVERY_IMAGE, Image.class);
-                logo.setVisible(true);
-                logo.setImage(request.getDisplayIcon());
+                final boolean changed = collected;
+                collected = false;
+                return changed;
             }
-
-            final ColonyView view = ColonyManager.getColonyView(colonyId, Minecraft.getMinecraft().world.provider.getDimension());
-            rowPane.findPaneOfTypeByID(REQUESTER, Label.class).setLabelText(request.getRequester().getDisplayName(view.getRequestManager(), request.getToken()).getFormattedText());
-
-            rowPane.findPaneOfTypeByID(REQUEST_SHORT_DETAIL, Label.class)
-              .setLabelText(request.getShortDisplayString().getFormattedText().replace("§f", ""));
         });
     }
 
@@ -218,9 +265,9 @@ public class WindowClipBoard extends AbstractWindowSkeleton
     {
         final int row = resourceList.getListElementIndexByPane(button);
 
-        if (getOpenRequests().size() > row && row >= 0)
+        if (openRequests.size() > row && row >= 0)
         {
-            @NotNull final WindowRequestDetail window = new WindowRequestDetail(this, getOpenRequests().get(row), colonyId);
+            @NotNull final WindowRequestDetail window = new WindowRequestDetail(this, openRequests.get(row), colonyId);
             window.open();
         }
     }
@@ -229,9 +276,9 @@ public class WindowClipBoard extends AbstractWindowSkeleton
     {
         final int row = resourceList.getListElementIndexByPane(button);
 
-        if (getOpenRequests().size() > row && row >= 0)
+        if (openRequests.size() > row && row >= 0)
         {
-            @NotNull final IRequest request = getOpenRequests().get(row);
+            @NotNull final IRequest request = openRequests.get(row);
             MineColonies.getNetwork().sendToServer(new UpdateRequestStateMessage(colonyId, request.getToken(), RequestState.CANCELLED, null));
         }
     }
@@ -248,6 +248,11 @@ public abstract class WindowFilterableList<B extends FilterableListView> extends
         //Creates a dataProvider for the unemployed resourceList.
         resourceList.setDataProvider(new ScrollingList.DataProvider()
         {
+            /**
+             * The version of the allowed items the rows show.
+             */
+            private int version = building.getVersion();
+
             /**
              * The number of rows of the list.
              * @return the number.
@@ -283,6 +288,21 @@ public abstract class WindowFilterableList<B extends FilterableListView> extends
                     switchButton.setLabel(OFF);
                 }
             }
+
+            /**
+             * Check if items were allowed or disallowed since the last refresh.
+             * @return true if so.
+             */
+            @Override
+            public boolean hasChanged()
+            {
+                if (version == building.getVersion())
+                {
+                    return false;
+                }
+                version = building.getVersion();
+                return true;
+            }
         });
     }
 
@@ -89,6 +89,11 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
     @NotNull
     private final List<CitizenDataView> citizens = new ArrayList<>();
 
+    /**
+     * The id of the citizen whose info is shown, -1 if none.
+     */
+    private int selectedCitizen = -1;
+
     /**
      * Map of the pages.
      */
@@ -692,12 +697,29 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
         userList = findPaneOfTypeByID(LIST_USERS, ScrollingList.class);
         userList.setDataProvider(new ScrollingList.DataProvider()
         {
+            /**
+             * The version of the players the rows show.
+             */
+            private int version = townHall.getColony().getPlayersVersion();
+
             @Override
             public int getElementCount()
             {
                 return users.size();
             }
 
+            @Override
+            public boolean hasChanged()
+            {
+                final int current = townHall.getColony().getPlayersVersion();
+                if (version == current)
+                {
+                    return false;
+                }
+                version = current;
+                return true;
+            }
+
             @Override
             public void updateElement(final int index, @NotNull final Pane rowPane)
             {
@@ -897,6 +919,7 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
         findPaneByID(CITIZEN_INFO).show();
         button.disable();
         final CitizenDataView view = citizens.get(row);
+        selectedCitizen = view.getId();
         WindowCitizen.createXpBar(view, this);
         WindowCitizen.createHappinessBar(view, this); 
         WindowCitizen.createSkillContent(view, this);
@@ -925,6 +948,11 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
         final ScrollingList citizenList = findPaneOfTypeByID(LIST_CITIZENS, ScrollingList.class);
         citizenList.setDataProvider(new ScrollingList.DataProvider()
         {
+            /**
+             * The version of the citizens the rows show.
+             */
+            private int version = townHall.getColony().getCitizensVersion();
+
             @Override
             public int getElementCount()
             {
@@ -936,7 +964,21 @@ public class WindowTownHall extends AbstractWindowBuilding<BuildingTownHall.View
             {
                 final CitizenDataView citizen = citizens.get(index);
 
-                rowPane.findPaneOfTypeByID(NAME_LABEL, ButtonImage.class).setLabel(citizen.getName());
+                final ButtonImage button = rowPane.findPaneOfTypeByID(NAME_LABEL, ButtonImage.class);
+                button.setLabel(citizen.getName());
+                button.setEnabled(citizen.getId() != selectedCitizen);
+            }
+
+            @Override
+            public boolean hasChanged()
+            {
+                final int current = townHall.getColony().getCitizensVersion();
+                if (version == current)
+                {
+                    return false;
+                }
+                version = current;
+                return true;
             }
         });
     }
@@ -152,11 +152,33 @@ public class CitizenData
      */
     private AbstractJob job;
 
+    /**
+     * The field groups of the citizen view, used as bits of the dirty mask.
+     * Only the groups marked dirty are sent to players which already have the view.
+     */
+    public static final int VIEW_IDENTITY   = 1;
+    public static final int VIEW_ENTITY     = 1 << 1;
+    public static final int VIEW_BUILDINGS  = 1 << 2;
+    public static final int VIEW_SKILLS     = 1 << 3;
+    public static final int VIEW_HEALTH     = 1 << 4;
+    public static final int VIEW_SATURATION = 1 << 5;
+    public static final int VIEW_HAPPINESS  = 1 << 6;
+    public static final int VIEW_JOB        = 1 << 7;
+    public static final int VIEW_STATUS     = 1 << 8;
+    public static final int VIEW_INVENTORY  = 1 << 9;
+    public static final int VIEW_POSITION   = 1 << 10;
+    public static final int VIEW_ALL        = (1 << 11) - 1;
+
     /**
      * If the citizen is dirty (Has to be updated on client side).
      */
     private boolean dirty;
 
+    /**
+     * The field groups of the view which changed since the last update sent to the subscribers.
+     */
+    private int dirtyFields = VIEW_ALL;
+
     /**
      * Minimum for citizen stats
      */
@@ -333,13 +355,26 @@ public class CitizenData
         {
             entity = new WeakReference<>(citizen);
         }
+        dirtyFields |= VIEW_ENTITY;
     }
 
     /**
-     * Marks the instance dirty.
+     * Marks the instance dirty, with all fields of the view.
+     * Prefer {@link #markDirty(int)} with the fields which actually changed.
      */
     public void markDirty()
     {
+        markDirty(VIEW_ALL);
+    }
+
+    /**
+     * Marks the instance dirty, only the given fields of the view are sent to the subscribers.
+     *
+     * @param fields the changed field groups, a combination of the VIEW_ bits.
+     */
+    public void markDirty(final int fields)
+    {
+        dirtyFields |= fields;
         dirty = true;
         colony.getCitizenManager().markCitizensDirty();
     }
@@ -512,7 +547,7 @@ public class CitizenData
         }
         //Initialize the citizen skills and make sure they are never 0
 
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -592,7 +627,7 @@ public class CitizenData
     {
         this.female = isFemale;
         this.name = generateName(new Random());
-        markDirty();
+        markDirty(VIEW_IDENTITY);
     }
 
     /**
@@ -601,7 +636,7 @@ public class CitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(VIEW_IDENTITY);
     }
 
     /**
@@ -683,19 +718,20 @@ public class CitizenData
         if (homeBuilding != null && building != null && !homeBuilding.equals(building))
         {
             homeBuilding.removeCitizen(this);
-            markDirty();
+            markDirty(VIEW_BUILDINGS);
         }
 
         if (building == null || building instanceof BuildingHome || building instanceof BuildingBarracksTower)
         {
             homeBuilding = building;
-            markDirty();
+            markDirty(VIEW_BUILDINGS);
         }
 
         if (getCitizenEntity().isPresent() && getCitizenEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
             getCitizenEntity().get().getCitizenJobHandler().setModelDependingOnJob(null);
         }
+        colony.getCitizenManager().updateHappinessContribution(this);
     }
 
     /**
@@ -748,7 +784,8 @@ public class CitizenData
                 colony.getWorkManager().clearWorkForCitizen(this);
             }
 
-            markDirty();
+            markDirty(VIEW_BUILDINGS);
+            colony.getCitizenManager().updateHappinessContribution(this);
         }
     }
 
@@ -824,7 +861,7 @@ public class CitizenData
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
-        markDirty();
+        markDirty(VIEW_JOB | VIEW_SKILLS);
     }
 
     /**
@@ -905,62 +942,124 @@ public class CitizenData
     }
 
     /**
-     * Writes the citizen data to a byte buf for transition.
+     * Writes the complete view of the citizen, for players which don't have it yet.
      *
-     * @param buf Buffer to write to.
+     * @param buf the buffer to write to.
      */
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
-
-        buf.writeInt(getCitizenEntity().map(Entity::getEntityId).orElse(-1));
+        buf.writeBoolean(true);
+        buf.writeInt(colony.getID());
+        writeViewFields(buf, VIEW_ALL, inventory.getOccupiedSlots());
+    }
 
-        buf.writeBoolean(paused);
+    /**
+     * Writes the fields and inventory slots which changed since the last delta, for players which already have the view.
+     * Clears the dirty fields, so it must be called once per update, and the result sent to every player with the view.
+     *
+     * @param buf the buffer to write to.
+     */
+    public void serializeViewNetworkDelta(@NotNull final ByteBuf buf)
+    {
+        buf.writeBoolean(false);
+        final int fields = dirtyFields;
+        dirtyFields = 0;
+        writeViewFields(buf, fields, inventory.pollChangedSlots());
+    }
 
-        buf.writeBoolean(isChild);
+    /**
+     * Writes the given field groups of the view, preceded by the mask of the written groups.
+     *
+     * @param buf    the buffer to write to.
+     * @param fields the field groups to write.
+     * @param slots  the inventory slots to write, the inventory group is only written if there are any.
+     */
+    private void writeViewFields(@NotNull final ByteBuf buf, final int fields, @NotNull final List<Integer> slots)
+    {
+        final int mask = slots.isEmpty() ? fields & ~VIEW_INVENTORY : fields | VIEW_INVENTORY;
+        buf.writeInt(mask);
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
+        if ((mask & VIEW_IDENTITY) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
+            buf.writeBoolean(paused);
+            buf.writeBoolean(isChild);
         }
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
+        if ((mask & VIEW_ENTITY) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            buf.writeInt(getCitizenEntity().map(Entity::getEntityId).orElse(-1));
         }
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+        if ((mask & VIEW_BUILDINGS) != 0)
+        {
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(EntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(EntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
+        }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+        if ((mask & VIEW_SKILLS) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+        }
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+        if ((mask & VIEW_HEALTH) != 0)
+        {
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(EntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(EntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+        }
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        if ((mask & VIEW_SATURATION) != 0)
+        {
+            buf.writeDouble(getSaturation());
+        }
 
-        writeStatusToBuffer(buf);
+        if ((mask & VIEW_HAPPINESS) != 0)
+        {
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-        buf.writeInt(colony.getID());
+        if ((mask & VIEW_JOB) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
+        if ((mask & VIEW_STATUS) != 0)
+        {
+            writeStatusToBuffer(buf);
+        }
 
-        BlockPosUtil.writeToByteBuf(buf, lastPosition);
+        if ((mask & VIEW_INVENTORY) != 0)
+        {
+            buf.writeInt(slots.size());
+            for (final int slot : slots)
+            {
+                buf.writeByte(slot);
+                ByteBufUtils.writeItemStack(buf, inventory.getStackInSlot(slot));
+            }
+        }
+
+        if ((mask & VIEW_POSITION) != 0)
+        {
+            BlockPosUtil.writeToByteBuf(buf, lastPosition);
+        }
     }
 
     /**
@@ -1066,6 +1165,7 @@ public class CitizenData
     public void increaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        colony.getCitizenManager().updateHappinessContribution(this);
     }
 
     /**
@@ -1076,6 +1176,7 @@ public class CitizenData
     public void decreaseSaturation(final double extraSaturation)
     {
         this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation));
+        colony.getCitizenManager().updateHappinessContribution(this);
     }
 
     /**
@@ -1168,6 +1269,11 @@ public class CitizenData
      */
     public void setLastPosition(final BlockPos lastPosition)
     {
+        if (!lastPosition.equals(this.lastPosition))
+        {
+            // The position rides along with the next update, it doesn't trigger one on its own.
+            dirtyFields |= VIEW_POSITION;
+        }
         this.lastPosition = lastPosition;
     }
 
@@ -1342,7 +1448,7 @@ public class CitizenData
                 dexterity = Math.min(dexterity + 1, levelCap);
                 break;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -1380,7 +1486,7 @@ public class CitizenData
     public void setIsChild(final boolean isChild)
     {
         this.isChild = isChild;
-        markDirty();
+        markDirty(VIEW_IDENTITY);
     }
 
     /**
@@ -1408,7 +1514,7 @@ public class CitizenData
         {
             this.strength = strength > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : strength;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -1426,7 +1532,7 @@ public class CitizenData
         {
             this.endurance = endurance > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : endurance;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -1444,7 +1550,7 @@ public class CitizenData
         {
             this.charisma = charisma > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : charisma;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -1462,7 +1568,7 @@ public class CitizenData
         {
             this.intelligence = intelligence > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : intelligence;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
@@ -1480,7 +1586,7 @@ public class CitizenData
         {
             this.dexterity = dexterity > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : dexterity;
         }
-        markDirty();
+        markDirty(VIEW_SKILLS);
     }
 
     /**
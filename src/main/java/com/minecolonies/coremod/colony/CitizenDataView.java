@@ -3,9 +3,6 @@ package com.minecolonies.coremod.colony;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
-import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentTranslation;
@@ -22,9 +19,6 @@ import org.jetbrains.annotations.Nullable;
 public class CitizenDataView
 {
 
-    private static final String TAG_HELD_ITEM_SLOT = "HeldItemSlot";
-    public static final String TAG_OFFHAND_HELD_ITEM_SLOT = "OffhandHeldItemSlot";
-
     /**
      * The max amount of lines the latest log allows.
      */
@@ -358,56 +352,102 @@ public class CitizenDataView
      */
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
-
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-
-        // Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        foodModifier = buf.readDouble();
-        damageModifier = buf.readDouble();
-        houseModifier = buf.readDouble();
-        jobModifier = buf.readDouble();
-        fieldsModifier = buf.readDouble();
-        toolsModifiers = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        final int length = buf.readInt();
-        for (int i = 0; i < length; i++)
+        colonyId = buf.readInt();
+        inventory = new InventoryCitizen("", true);
+        deserializeDelta(buf);
+    }
+
+    /**
+     * Apply the changed fields and inventory slots of a delta update.
+     *
+     * @param buf
+     *            Byte buffer to deserialize.
+     */
+    public void deserializeDelta(@NotNull final ByteBuf buf)
+    {
+        final int mask = buf.readInt();
+
+        if ((mask & CitizenData.VIEW_IDENTITY) != 0)
         {
-            final String textComp = ByteBufUtils.readUTF8String(buf);
-            final TextComponentTranslation textComponent = new TextComponentTranslation(textComp);
-            latestStatus[i] = textComponent;
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
+            inventory.setCustomName(name);
         }
 
-        colonyId = buf.readInt();
+        if ((mask & CitizenData.VIEW_ENTITY) != 0)
+        {
+            entityId = buf.readInt();
+        }
+
+        if ((mask & CitizenData.VIEW_BUILDINGS) != 0)
+        {
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+        }
 
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        if ((mask & CitizenData.VIEW_SKILLS) != 0)
+        {
+            level = buf.readInt();
+            experience = buf.readDouble();
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
 
-        position = BlockPosUtil.readFromByteBuf(buf);
+        if ((mask & CitizenData.VIEW_HEALTH) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+        }
+
+        if ((mask & CitizenData.VIEW_SATURATION) != 0)
+        {
+            saturation = buf.readDouble();
+        }
+
+        if ((mask & CitizenData.VIEW_HAPPINESS) != 0)
+        {
+            happiness = buf.readDouble();
+            foodModifier = buf.readDouble();
+            damageModifier = buf.readDouble();
+            houseModifier = buf.readDouble();
+            jobModifier = buf.readDouble();
+            fieldsModifier = buf.readDouble();
+            toolsModifiers = buf.readDouble();
+        }
+
+        if ((mask & CitizenData.VIEW_JOB) != 0)
+        {
+            job = ByteBufUtils.readUTF8String(buf);
+        }
+
+        if ((mask & CitizenData.VIEW_STATUS) != 0)
+        {
+            final int length = buf.readInt();
+            for (int i = 0; i < latestStatus.length; i++)
+            {
+                latestStatus[i] = i < length ? new TextComponentTranslation(ByteBufUtils.readUTF8String(buf)) : null;
+            }
+        }
+
+        if ((mask & CitizenData.VIEW_INVENTORY) != 0)
+        {
+            final int slots = buf.readInt();
+            for (int i = 0; i < slots; i++)
+            {
+                final int slot = buf.readUnsignedByte();
+                inventory.setInventorySlotContents(slot, ByteBufUtils.readItemStack(buf));
+            }
+        }
+
+        if ((mask & CitizenData.VIEW_POSITION) != 0)
+        {
+            position = BlockPosUtil.readFromByteBuf(buf);
+        }
     }
 
     /**
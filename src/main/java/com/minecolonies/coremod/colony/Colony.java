@@ -23,6 +23,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.mobs.util.MobEventsUtils;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
+import com.minecolonies.coremod.util.ColonyProfiler;
 import com.minecolonies.coremod.util.ServerUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -109,6 +110,21 @@ public class Colony implements IColony
      */
     private final IRaiderManager raidManager = new RaidManager(this);
 
+    /**
+     * Threat manager of the colony.
+     */
+    private final IThreatManager threatManager = new ThreatManager(this);
+
+    /**
+     * Entity index of the colony.
+     */
+    private final IEntityIndexManager entityIndexManager = new EntityIndexManager(this);
+
+    /**
+     * Fishing spot catalog of the colony.
+     */
+    private final IFishingSpotManager fishingSpotManager = new FishingSpotManager(this);
+
     /**
      * The colony package manager.
      */
@@ -467,6 +483,11 @@ public class Colony implements IColony
             moveIn = compound.getBoolean(TAG_MOVE_IN);
         }
 
+        if (compound.hasKey(TAG_TEARDOWN))
+        {
+            ColonyTeardownQueue.add(ColonyTeardownJob.readFromNBT(this, compound.getCompoundTag(TAG_TEARDOWN)));
+        }
+
         if (compound.hasKey(TAG_STYLE))
         {
             this.style = compound.getString(TAG_STYLE);
@@ -595,6 +616,14 @@ public class Colony implements IColony
         compound.setInteger(TAG_ABANDONED, packageManager.getLastContactInHours());
         compound.setBoolean(TAG_MANUAL_HOUSING, manualHousing);
         compound.setBoolean(TAG_MOVE_IN, moveIn);
+
+        final ColonyTeardownJob teardown = ColonyTeardownQueue.getJob(this);
+        if (teardown != null)
+        {
+            final NBTTagCompound teardownCompound = new NBTTagCompound();
+            teardown.writeToNBT(teardownCompound);
+            compound.setTag(TAG_TEARDOWN, teardownCompound);
+        }
         compound.setTag(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
         compound.setString(TAG_STYLE, style);
         compound.setBoolean(TAG_RAIDABLE, raidManager.canHaveRaiderEvents());
@@ -658,7 +687,9 @@ public class Colony implements IColony
      */
     public void onServerTick(@NotNull final TickEvent.ServerTickEvent event)
     {
+        final long packagesStart = ColonyProfiler.start();
         packageManager.updateSubscribers();
+        ColonyProfiler.record(this, ColonyProfiler.Section.PACKAGES, ColonyProfiler.Section.PACKAGES, packagesStart);
 
         if (packageManager.getSubscribers().isEmpty())
         {
@@ -668,7 +699,9 @@ public class Colony implements IColony
 
         buildingManager.tick(event);
 
+        final long requestsStart = ColonyProfiler.start();
         getRequestManager().update();
+        ColonyProfiler.record(this, ColonyProfiler.Section.REQUESTS, ColonyProfiler.Section.REQUESTS, requestsStart);
 
         final List<EntityPlayer> visitors = new ArrayList<>(visitingPlayers);
 
@@ -795,7 +828,9 @@ public class Colony implements IColony
 
         //  Cleanup Buildings whose Blocks have gone AWOL
         buildingManager.cleanUpBuildings(event);
+        final long citizensStart = ColonyProfiler.start();
         citizenManager.onWorldTick(event);
+        ColonyProfiler.record(this, ColonyProfiler.Section.CITIZENS, ColonyProfiler.Section.CITIZENS, citizensStart);
 
         if (shallUpdate(world, TICKS_SECOND)
               && event.world.getDifficulty() != EnumDifficulty.PEACEFUL
@@ -825,6 +860,7 @@ public class Colony implements IColony
 
         raidManager.onWorldTick(world);
         buildingManager.onWorldTick(event);
+        fishingSpotManager.onWorldTick(world);
 
         if (isDay && !world.isDaytime())
         {
@@ -1311,6 +1347,36 @@ public class Colony implements IColony
         return raidManager;
     }
 
+    /**
+     * Get the threat manager of the colony.
+     *
+     * @return the threat manager.
+     */
+    public IThreatManager getThreatManager()
+    {
+        return threatManager;
+    }
+
+    /**
+     * Get the entity index of the colony.
+     *
+     * @return the entity index manager.
+     */
+    public IEntityIndexManager getEntityIndexManager()
+    {
+        return entityIndexManager;
+    }
+
+    /**
+     * Get the fishing spot catalog of the colony.
+     *
+     * @return the fishing spot manager.
+     */
+    public IFishingSpotManager getFishingSpotManager()
+    {
+        return fishingSpotManager;
+    }
+
     /**
      * Get the packagemanager of the colony.
      *
@@ -13,18 +13,25 @@ import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.achievements.ModAchievements;
-import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ColonyProfiler;
+import com.minecolonies.coremod.util.FieldStateIndex;
+import com.minecolonies.coremod.util.StructurePlacementQueue;
+import com.minecolonies.coremod.util.TeleportCandidatePool;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
@@ -38,6 +45,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
 import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
@@ -56,6 +64,12 @@ public final class ColonyManager
     @NotNull
     private static final Map<Integer, ColonyList<ColonyView>> colonyViews = new HashMap<>();
 
+    /**
+     * The colony views by dimension and id, used to decode view messages on the network thread.
+     */
+    @NotNull
+    private static final Map<Long, ColonyView> networkColonyViews = new ConcurrentHashMap<>();
+
     /**
      * Recipemanager of this server.
      */
@@ -149,7 +163,7 @@ public final class ColonyManager
     }
 
     /**
-     * Delete a colony and purge all buildings and citizens.
+     * Schedule the deletion of a colony, which purges all citizens and buildings over the next ticks, see {@link ColonyTeardownQueue}.
      *
      * @param colony     the colony to destroy.
      * @param canDestroy if the building outlines should be destroyed as well.
@@ -161,55 +175,34 @@ public final class ColonyManager
             Log.getLogger().warn("Deleting Colony errored, colony null");
             return;
         }
-        final int id = colony.getID();
-        final World world = colony.getWorld();
-        try
-        {
-            ChunkDataHelper.claimColonyChunks(world, false, id, colony.getCenter(), colony.getDimension());
 
-            Log.getLogger().info("Removing citizens for " + id);
-            for (final CitizenData citizenData : new ArrayList<>(colony.getCitizenManager().getCitizens()))
-            {
-                Log.getLogger().info("Kill Citizen " + citizenData.getName());
-                citizenData.getCitizenEntity().ifPresent(entityCitizen -> {
-                    entityCitizen.onDeath(CONSOLE_DAMAGE_SOURCE);
-                });
-            }
-
-            if (canDestroy)
-            {
-                Log.getLogger().info("Removing buildings for " + id);
-                for (final AbstractBuilding building : new ArrayList<>(colony.getBuildingManager().getBuildings().values()))
-                {
-                    final BlockPos location = building.getLocation();
-                    Log.getLogger().info("Delete Building at " + location);
-                    building.deconstruct();
-                    building.destroy();
-                    if (world.getBlockState(location).getBlock() instanceof AbstractBlockHut)
-                    {
-                        Log.getLogger().info("Found Block, deleting " + world.getBlockState(location).getBlock());
-                        world.setBlockToAir(location);
-                    }
-                }
-            }
-
-            MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            Log.getLogger().info("Deleting colony: " + colony.getID());
+        if (ColonyTeardownQueue.add(new ColonyTeardownJob(colony, canDestroy)))
+        {
+            Log.getLogger().info("Scheduled the deletion of colony " + colony.getID());
+        }
+    }
 
-            final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
-            if (cap == null)
-            {
-                Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
-                return;
-            }
+    /**
+     * Remove a colony from its world once its citizens, buildings and chunk claims have been removed.
+     *
+     * @param colony the colony.
+     */
+    static void removeColony(@NotNull final Colony colony)
+    {
+        final int id = colony.getID();
+        MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
+        Log.getLogger().info("Deleting colony: " + id);
 
-            cap.deleteColony(id);
-            Log.getLogger().info("Done with " + id);
-        }
-        catch (final RuntimeException e)
+        final IColonyManagerCapability cap = colony.getWorld().getCapability(COLONY_MANAGER_CAP, null);
+        if (cap == null)
         {
-            Log.getLogger().warn("Deleting Colony " + id + " errored:", e);
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return;
         }
+
+        cap.deleteColony(id);
+        ColonyProfiler.clear(colony);
+        Log.getLogger().info("Done with " + id);
     }
 
     /**
@@ -299,6 +292,128 @@ public final class ColonyManager
         return getColonyByWorld(id, w);
     }
 
+    /**
+     * Get the colony owning a chunk, without loading the chunk.
+     *
+     * @param w      World.
+     * @param chunkX the x coordinate of the chunk.
+     * @param chunkZ the z coordinate of the chunk.
+     * @return the colony or null if the chunk isn't loaded or owned.
+     */
+    @Nullable
+    private static Colony getColonyByLoadedChunk(@NotNull final World w, final int chunkX, final int chunkZ)
+    {
+        final Chunk chunk = w.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            return null;
+        }
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return null;
+        }
+        return getColonyByWorld(cap.getOwningColony(), w);
+    }
+
+    /**
+     * Update the entity index of the colonies when an entity enters a chunk section.
+     * This happens when the entity moves, spawns or is loaded with its chunk.
+     *
+     * @param entity the entity.
+     * @param chunkX the x coordinate of the new chunk.
+     * @param chunkZ the z coordinate of the new chunk.
+     */
+    public static void onEntityEnteringChunk(@NotNull final Entity entity, final int chunkX, final int chunkZ)
+    {
+        final World world = entity.world;
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+
+        final Colony oldColony = entity.addedToChunk ? getColonyByLoadedChunk(world, entity.chunkCoordX, entity.chunkCoordZ) : null;
+        final Colony newColony = getColonyByLoadedChunk(world, chunkX, chunkZ);
+        if (oldColony != null && oldColony != newColony)
+        {
+            oldColony.getEntityIndexManager().onEntityRemoved(entity);
+        }
+        if (newColony != null)
+        {
+            newColony.getEntityIndexManager().onEntityEnteringSection(entity, chunkX, MathHelper.floor(entity.posY / BLOCKS_PER_CHUNK), chunkZ);
+        }
+    }
+
+    /**
+     * Forward a block update to the fishing spot catalog of the colony owning the chunk.
+     * Only changes from or to water or air can add or remove a fishing spot.
+     *
+     * @param world    the world.
+     * @param pos      the changed position.
+     * @param oldState the previous state.
+     * @param newState the new state.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState)
+    {
+        if (world.isRemote || !(isWaterOrAir(oldState) || isWaterOrAir(newState)))
+        {
+            return;
+        }
+
+        final Colony colony = getColonyByLoadedChunk(world, pos.getX() >> 4, pos.getZ() >> 4);
+        if (colony != null)
+        {
+            colony.getFishingSpotManager().onBlockChanged(pos);
+        }
+    }
+
+    /**
+     * Check if a block state is water or air, the blocks a fishing spot is made of.
+     *
+     * @param state the state.
+     * @return true if so.
+     */
+    private static boolean isWaterOrAir(@NotNull final IBlockState state)
+    {
+        final Material material = state.getMaterial();
+        return material == Material.WATER || material == Material.AIR;
+    }
+
+    /**
+     * Remove an entity which left the world from the entity index of the colonies.
+     *
+     * @param world  the world.
+     * @param entity the entity.
+     */
+    public static void onEntityRemoved(@NotNull final World world, @NotNull final Entity entity)
+    {
+        for (final Colony colony : getColonies(world))
+        {
+            colony.getEntityIndexManager().onEntityRemoved(entity);
+        }
+    }
+
+    /**
+     * Drop the entity index of an unloading chunk.
+     *
+     * @param world the world.
+     * @param chunk the chunk.
+     */
+    public static void onChunkUnload(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return;
+        }
+
+        final Colony colony = getColonyByWorld(cap.getOwningColony(), world);
+        if (colony != null)
+        {
+            colony.getEntityIndexManager().onChunkUnload(chunk.x, chunk.z);
+        }
+    }
+
     /**
      * Get colony that contains a given coordinate from dimension.
      *
@@ -366,16 +481,7 @@ public final class ColonyManager
     @NotNull
     public static List<Colony> getAllColonies()
     {
-        final List<Colony> allColonies = new ArrayList<>();
-        for (final World world : FMLCommonHandler.instance().getMinecraftServerInstance().worlds)
-        {
-            final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
-            if (cap != null)
-            {
-                allColonies.addAll(cap.getColonies());
-            }
-        }
-        return allColonies;
+        return ColonyRegistry.getColonies();
     }
 
     /**
@@ -387,16 +493,7 @@ public final class ColonyManager
     @NotNull
     public static List<Colony> getColoniesAbandonedSince(final int abandonedSince)
     {
-        final List<Colony> sortedList = new ArrayList<>();
-        for (final Colony colony : ColonyManager.getAllColonies())
-        {
-            if (colony.getLastContactInHours() >= abandonedSince)
-            {
-                sortedList.add(colony);
-            }
-        }
-
-        return sortedList;
+        return ColonyRegistry.getColoniesAbandonedSince(abandonedSince);
     }
 
     /**
@@ -664,10 +761,7 @@ public final class ColonyManager
             return null;
         }
 
-        return getAllColonies().stream()
-                 .filter(c -> owner.equals(c.getPermissions().getOwner()))
-                 .findFirst()
-                 .orElse(null);
+        return ColonyRegistry.getColonyByOwner(owner);
     }
 
     /**
@@ -684,7 +778,7 @@ public final class ColonyManager
 
     /**
      * On server tick, tick every Colony.
-     * NOTE: Review this for performance.
+     * The time of every colony is recorded in the {@link ColonyProfiler}.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent}
      */
@@ -694,8 +788,16 @@ public final class ColonyManager
         {
             for (@NotNull final Colony c : getAllColonies())
             {
+                if (ColonyTeardownQueue.isTearingDown(c))
+                {
+                    continue;
+                }
+                final long start = ColonyProfiler.start();
                 c.onServerTick(event);
+                ColonyProfiler.record(c, ColonyProfiler.Section.SERVER_TICK, ColonyProfiler.Section.SERVER_TICK, start);
             }
+            ColonyProfiler.onServerTick();
+            TeleportCandidatePool.onServerTick();
         }
     }
 
@@ -806,6 +908,7 @@ public final class ColonyManager
         {
             //  Player has left the game, clear the Colony View cache
             colonyViews.clear();
+            networkColonyViews.clear();
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -816,7 +919,7 @@ public final class ColonyManager
 
     /**
      * On world tick, tick every Colony in that world.
-     * NOTE: Review this for performance.
+     * The time of every colony is recorded in the {@link ColonyProfiler}.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}.
      */
@@ -824,7 +927,18 @@ public final class ColonyManager
     {
         if (event.phase == TickEvent.Phase.END)
         {
-            getColonies(event.world).forEach(c -> c.onWorldTick(event));
+            for (@NotNull final Colony c : getColonies(event.world))
+            {
+                if (ColonyTeardownQueue.isTearingDown(c))
+                {
+                    continue;
+                }
+                final long start = ColonyProfiler.start();
+                c.onWorldTick(event);
+                ColonyProfiler.record(c, ColonyProfiler.Section.WORLD_TICK, ColonyProfiler.Section.WORLD_TICK, start);
+            }
+            StructurePlacementQueue.onWorldTick(event.world);
+            ColonyTeardownQueue.onWorldTick(event.world);
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -901,8 +1015,17 @@ public final class ColonyManager
      */
     public static void onWorldUnload(@NotNull final World world)
     {
+        if (!world.isRemote)
+        {
+            ColonyRegistry.removeDimension(world.provider.getDimension());
+            ColonyTeardownQueue.clear(world);
+        }
+
         if (!world.isRemote && !(world instanceof WorldServerMulti))
         {
+            StructurePlacementQueue.finishAll(world);
+            FieldStateIndex.clear(world);
+            TeleportCandidatePool.clear(world);
             for (@NotNull final Colony c : getColonies(world))
             {
                 c.onWorldUnload(world);
@@ -924,11 +1047,31 @@ public final class ColonyManager
      * @param dim the dimension.
      */
     public static void handleColonyViewMessage(final int colonyId, @NotNull final ByteBuf colonyData, @NotNull final World world, final boolean isNewSubscription, final int dim)
+    {
+        final ColonyView view = getColonyViewForNetwork(colonyId, dim);
+        handleColonyViewMessage(colonyId, ColonyView.Snapshot.read(view, colonyData), world, isNewSubscription, dim);
+    }
+
+    /**
+     * Applies colony view data which has already been decoded.
+     *
+     * @param colonyId          ID of the colony.
+     * @param snapshot          the decoded data, prepared for the view of {@link #getColonyViewForNetwork(int, int)}.
+     * @param world             the client world.
+     * @param isNewSubscription whether this is a new subscription or not.
+     * @param dim               the dimension.
+     */
+    public static void handleColonyViewMessage(
+      final int colonyId,
+      @NotNull final ColonyView.Snapshot snapshot,
+      @NotNull final World world,
+      final boolean isNewSubscription,
+      final int dim)
     {
         ColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
-            view = ColonyView.createFromNetwork(colonyId);
+            view = getColonyViewForNetwork(colonyId, dim);
             if (colonyViews.containsKey(dim))
             {
                 colonyViews.get(dim).add(view);
@@ -940,7 +1083,21 @@ public final class ColonyManager
                 colonyViews.put(dim, list);
             }
         }
-        view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        view.applySnapshot(snapshot, world, isNewSubscription);
+    }
+
+    /**
+     * Get or create the view of a colony for decoding network data, safe to call from the network thread.
+     * The view becomes visible through {@link #getColonyView(int, int)} once its first colony view message is applied.
+     *
+     * @param colonyId ID of the colony.
+     * @param dim      the dimension.
+     * @return the view.
+     */
+    @NotNull
+    public static ColonyView getColonyViewForNetwork(final int colonyId, final int dim)
+    {
+        return networkColonyViews.computeIfAbsent(((long) dim << 32) | (colonyId & 0xFFFFFFFFL), key -> ColonyView.createFromNetwork(colonyId));
     }
 
     /**
@@ -1001,6 +1158,41 @@ public final class ColonyManager
         view.handleColonyViewCitizensMessage(citizenId, buf);
     }
 
+    /**
+     * Adds an already decoded citizen view to the view of its colony, if it exists.
+     *
+     * @param colonyId ID of the colony.
+     * @param citizen  the decoded citizen view, may be null if decoding failed.
+     * @param dim      the dimension.
+     */
+    public static void handleColonyViewCitizensMessage(final int colonyId, @Nullable final CitizenDataView citizen, final int dim)
+    {
+        final ColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+        view.handleColonyViewCitizensMessage(citizen);
+    }
+
+    /**
+     * Applies the changes of a citizen to its view, if the view of the colony exists.
+     *
+     * @param colonyId  ID of the colony.
+     * @param citizenId ID of the citizen.
+     * @param buf       {@link ByteBuf} with the changed fields.
+     * @param dim       the dimension.
+     */
+    public static void handleColonyViewCitizenDeltaMessage(final int colonyId, final int citizenId, final ByteBuf buf, final int dim)
+    {
+        final ColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+        view.handleColonyViewCitizenDeltaMessage(citizenId, buf);
+    }
+
     /**
      * Returns result of {@link ColonyView#handleColonyViewWorkOrderMessage(ByteBuf)}
      * (int, ByteBuf)} if {@link #getColonyView(int, int)} gives a not-null result.
@@ -1063,6 +1255,26 @@ public final class ColonyManager
         }
     }
 
+    /**
+     * Adds an already decoded building view to the view of its colony.
+     *
+     * @param colonyId ID of the colony.
+     * @param building the decoded building view, created for the view of {@link #getColonyViewForNetwork(int, int)}.
+     * @param dim      the dimension.
+     */
+    public static void handleColonyBuildingViewMessage(final int colonyId, @Nullable final AbstractBuildingView building, final int dim)
+    {
+        final ColonyView view = getColonyView(colonyId, dim);
+        if (view != null)
+        {
+            view.handleColonyBuildingViewMessage(building);
+        }
+        else
+        {
+            Log.getLogger().error(String.format("Colony view does not exist for ID #%d", colonyId));
+        }
+    }
+
     /**
      * Returns result of {@link ColonyView#handleColonyViewRemoveBuildingMessage(BlockPos)}
      * if {@link #getColonyView(int, int)} gives a not-null result. If {@link
@@ -1181,19 +1393,6 @@ public final class ColonyManager
      */
     public static int getTopColonyId()
     {
-        int top = 0;
-        for (final World world : FMLCommonHandler.instance().getMinecraftServerInstance().worlds)
-        {
-            final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
-            if (cap != null)
-            {
-                final int tempTop = cap.getTopID();
-                if (tempTop > top)
-                {
-                    top = tempTop;
-                }
-            }
-        }
-        return top;
+        return ColonyRegistry.getTopId();
     }
 }
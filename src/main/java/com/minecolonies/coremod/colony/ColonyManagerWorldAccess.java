@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.util.StructureDiff;
+import com.minecolonies.coremod.util.FieldStateIndex;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -12,7 +14,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal events and to block updates in fields and structures under construction.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -20,8 +22,9 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
-
+        FieldStateIndex.onBlockUpdate(worldIn, pos);
+        StructureDiff.onBlockUpdate(worldIn, pos);
+        ColonyManager.onBlockUpdate(worldIn, pos, oldState, newState);
     }
 
     @Override
@@ -90,6 +93,7 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void onEntityRemoved(@NotNull final Entity entity)
     {
+        ColonyManager.onEntityRemoved(entity.world, entity);
         if (entity instanceof EntityCitizen)
         {
             final CitizenData citizen = ((EntityCitizen) entity).getCitizenData();
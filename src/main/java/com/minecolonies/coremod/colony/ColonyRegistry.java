@@ -0,0 +1,303 @@
+package com.minecolonies.coremod.colony;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.TreeMultimap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the colonies of all loaded worlds on the server, kept up to date by the colony manager capabilities.
+ * Colonies are identified by dimension and id, as colony ids are only unique within a dimension.
+ * Keeps an immutable snapshot of all colonies for iteration, the colonies by owner,
+ * and the colonies by hours since the last contact, for the abandoned colony queries.
+ * Only used from the server thread.
+ */
+public final class ColonyRegistry
+{
+    /**
+     * All colonies by dimension and id.
+     */
+    private static final Map<Long, Colony> colonies = new TreeMap<>();
+
+    /**
+     * The immutable list of all colonies, rebuilt on change.
+     */
+    private static volatile List<Colony> snapshot = ImmutableList.of();
+
+    /**
+     * The colonies by owner, ordered by colony id and dimension, and the owner each colony is indexed with.
+     */
+    private static final SetMultimap<UUID, Colony> byOwner =
+      TreeMultimap.create(Ordering.natural(), Comparator.comparingInt(Colony::getID).thenComparingInt(Colony::getDimension));
+    private static final Map<Colony, UUID>         owners  = new HashMap<>();
+
+    /**
+     * The colonies by hours since the last contact, and the hours each colony is indexed with.
+     */
+    private static final TreeMap<Integer, Set<Colony>> byLastContact = new TreeMap<>();
+    private static final Map<Colony, Integer>          lastContacts  = new HashMap<>();
+
+    /**
+     * The highest colony id registered.
+     */
+    private static int topId = 0;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private ColonyRegistry()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Register a created or loaded colony, replaces a colony with the same dimension and id.
+     *
+     * @param colony the colony.
+     */
+    public static void add(@NotNull final Colony colony)
+    {
+        final Colony previous = colonies.put(key(colony.getDimension(), colony.getID()), colony);
+        if (previous != null)
+        {
+            unindex(previous);
+        }
+
+        topId = Math.max(topId, colony.getID());
+        indexOwner(colony);
+        indexLastContact(colony);
+        snapshot = ImmutableList.copyOf(colonies.values());
+    }
+
+    /**
+     * Remove a deleted colony.
+     *
+     * @param dimension the dimension of the colony.
+     * @param id        the id of the colony.
+     */
+    public static void remove(final int dimension, final int id)
+    {
+        final Colony colony = colonies.remove(key(dimension, id));
+        if (colony != null)
+        {
+            unindex(colony);
+            snapshot = ImmutableList.copyOf(colonies.values());
+        }
+    }
+
+    /**
+     * Remove all colonies of an unloaded dimension, the top id is lowered to the one of the remaining colonies.
+     *
+     * @param dimension the dimension.
+     */
+    public static void removeDimension(final int dimension)
+    {
+        final Iterator<Colony> iterator = colonies.values().iterator();
+        boolean changed = false;
+        while (iterator.hasNext())
+        {
+            final Colony colony = iterator.next();
+            if (colony.getDimension() == dimension)
+            {
+                iterator.remove();
+                unindex(colony);
+                changed = true;
+            }
+        }
+
+        if (changed)
+        {
+            snapshot = ImmutableList.copyOf(colonies.values());
+        }
+
+        topId = 0;
+        for (final Colony colony : colonies.values())
+        {
+            topId = Math.max(topId, colony.getID());
+        }
+    }
+
+    /**
+     * Update the owner index after the permissions of a colony changed.
+     *
+     * @param colony the colony.
+     */
+    public static void onOwnerChanged(@NotNull final Colony colony)
+    {
+        if (isRegistered(colony))
+        {
+            indexOwner(colony);
+        }
+    }
+
+    /**
+     * Update the staleness index after the hours since the last contact of a colony changed.
+     *
+     * @param colony the colony.
+     */
+    public static void onLastContactChanged(@NotNull final Colony colony)
+    {
+        if (isRegistered(colony))
+        {
+            indexLastContact(colony);
+        }
+    }
+
+    /**
+     * Get all colonies.
+     *
+     * @return an immutable list of all colonies, ordered by dimension and id.
+     */
+    @NotNull
+    public static List<Colony> getColonies()
+    {
+        return snapshot;
+    }
+
+    /**
+     * Get the first colony of an owner, the one with the lowest id.
+     *
+     * @param owner the owner.
+     * @return the colony or null.
+     */
+    @Nullable
+    public static Colony getColonyByOwner(@NotNull final UUID owner)
+    {
+        final Set<Colony> owned = byOwner.get(owner);
+        return owned.isEmpty() ? null : owned.iterator().next();
+    }
+
+    /**
+     * Get the colonies without a contact for at least some hours.
+     *
+     * @param hours the minimum amount of hours since the last contact.
+     * @return a list of colonies, the longest abandoned last.
+     */
+    @NotNull
+    public static List<Colony> getColoniesAbandonedSince(final int hours)
+    {
+        final List<Colony> abandoned = new ArrayList<>();
+        for (final Set<Colony> bucket : byLastContact.tailMap(hours, true).values())
+        {
+            abandoned.addAll(bucket);
+        }
+        return abandoned;
+    }
+
+    /**
+     * Get the highest colony id registered in the loaded worlds.
+     *
+     * @return the id.
+     */
+    public static int getTopId()
+    {
+        return topId;
+    }
+
+    /**
+     * Check if this colony instance is the registered one.
+     *
+     * @param colony the colony.
+     * @return true if so.
+     */
+    private static boolean isRegistered(@NotNull final Colony colony)
+    {
+        return colonies.get(key(colony.getDimension(), colony.getID())) == colony;
+    }
+
+    /**
+     * (Re)index the owner of a colony.
+     *
+     * @param colony the colony.
+     */
+    private static void indexOwner(@NotNull final Colony colony)
+    {
+        final UUID owner = colony.getPermissions().getOwner();
+        final UUID previous = owner == null ? owners.remove(colony) : owners.put(colony, owner);
+        if (previous != null)
+        {
+            byOwner.remove(previous, colony);
+        }
+        if (owner != null)
+        {
+            byOwner.put(owner, colony);
+        }
+    }
+
+    /**
+     * (Re)index the hours since the last contact of a colony.
+     *
+     * @param colony the colony.
+     */
+    private static void indexLastContact(@NotNull final Colony colony)
+    {
+        final int hours = colony.getLastContactInHours();
+        final Integer previous = lastContacts.put(colony, hours);
+        if (previous != null)
+        {
+            if (previous == hours)
+            {
+                return;
+            }
+            removeFromBucket(previous, colony);
+        }
+        byLastContact.computeIfAbsent(hours, h -> new LinkedHashSet<>()).add(colony);
+    }
+
+    /**
+     * Remove a colony from all indices but the colony map.
+     *
+     * @param colony the colony.
+     */
+    private static void unindex(@NotNull final Colony colony)
+    {
+        final UUID owner = owners.remove(colony);
+        if (owner != null)
+        {
+            byOwner.remove(owner, colony);
+        }
+
+        final Integer hours = lastContacts.remove(colony);
+        if (hours != null)
+        {
+            removeFromBucket(hours, colony);
+        }
+    }
+
+    /**
+     * Remove a colony from a bucket of the staleness index, and the bucket if it's empty.
+     *
+     * @param hours  the hours of the bucket.
+     * @param colony the colony.
+     */
+    private static void removeFromBucket(final int hours, @NotNull final Colony colony)
+    {
+        final Set<Colony> bucket = byLastContact.get(hours);
+        if (bucket != null)
+        {
+            bucket.remove(colony);
+            if (bucket.isEmpty())
+            {
+                byLastContact.remove(hours);
+            }
+        }
+    }
+
+    /**
+     * The key of a colony.
+     *
+     * @param dimension the dimension.
+     * @param id        the colony id.
+     * @return the key.
+     */
+    private static long key(final int dimension, final int id)
+    {
+        return ((long) dimension << 32) | (id & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,406 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.util.ChunkDataHelper;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.CONSOLE_DAMAGE_SOURCE;
+
+/**
+ * The deletion of a colony, done in steps over multiple ticks: the citizens, the buildings block by block, the chunk claims and at last the colony itself.
+ * The progress is saved with the colony, so the deletion continues where it stopped after a restart.
+ */
+public class ColonyTeardownJob
+{
+    /**
+     * NBT tags of the progress.
+     */
+    private static final String TAG_DESTROY           = "destroy";
+    private static final String TAG_PHASE             = "phase";
+    private static final String TAG_BUILDING          = "building";
+    private static final String TAG_BLOCK             = "block";
+    private static final String TAG_CHUNK             = "chunk";
+    private static final String TAG_RANGE             = "range";
+    private static final String TAG_BUFFER            = "buffer";
+    private static final String TAG_CITIZENS_REMOVED  = "citizensRemoved";
+    private static final String TAG_BUILDINGS_REMOVED = "buildingsRemoved";
+
+    /**
+     * The phases of the deletion, in order.
+     */
+    public enum Phase
+    {
+        CITIZENS,
+        BUILDINGS,
+        CHUNKS,
+        DONE
+    }
+
+    /**
+     * The id and dimension of the colony.
+     */
+    private final int colonyId;
+    private final int dimension;
+
+    /**
+     * If the buildings are destroyed as well.
+     */
+    private final boolean canDestroy;
+
+    /**
+     * The chunk range the colony claimed, kept in case the config changes before the deletion finished.
+     */
+    private final int range;
+    private final int buffer;
+
+    /**
+     * The current phase.
+     */
+    private Phase phase = Phase.CITIZENS;
+
+    /**
+     * The building which is being deconstructed and the index of its next block.
+     */
+    @Nullable
+    private BlockPos building;
+    private int      blockIndex;
+
+    /**
+     * The index of the next chunk to unclaim.
+     */
+    private int chunkIndex;
+
+    /**
+     * The amount of removed citizens and buildings.
+     */
+    private int citizensRemoved;
+    private int buildingsRemoved;
+
+    /**
+     * Why the deletion stopped, null while it runs.
+     * Not saved, a failed deletion is tried again after a restart.
+     */
+    @Nullable
+    private String failure;
+
+    /**
+     * Create the deletion of a colony.
+     *
+     * @param colony     the colony.
+     * @param canDestroy if the buildings should be destroyed as well.
+     */
+    public ColonyTeardownJob(@NotNull final Colony colony, final boolean canDestroy)
+    {
+        this(colony.getID(), colony.getDimension(), canDestroy, Configurations.gameplay.workingRangeTownHallChunks, Configurations.gameplay.townHallPaddingChunk);
+    }
+
+    /**
+     * Create the deletion of a colony.
+     *
+     * @param colonyId   the id of the colony.
+     * @param dimension  the dimension of the colony.
+     * @param canDestroy if the buildings should be destroyed as well.
+     * @param range      the claimed chunk range.
+     * @param buffer     the claimed chunk buffer.
+     */
+    private ColonyTeardownJob(final int colonyId, final int dimension, final boolean canDestroy, final int range, final int buffer)
+    {
+        this.colonyId = colonyId;
+        this.dimension = dimension;
+        this.canDestroy = canDestroy;
+        this.range = range;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Load the deletion of a colony which was saved before it finished.
+     *
+     * @param colony   the colony.
+     * @param compound the compound with the progress.
+     * @return the deletion.
+     */
+    @NotNull
+    public static ColonyTeardownJob readFromNBT(@NotNull final Colony colony, @NotNull final NBTTagCompound compound)
+    {
+        final ColonyTeardownJob job = new ColonyTeardownJob(colony.getID(),
+          colony.getDimension(),
+          compound.getBoolean(TAG_DESTROY),
+          compound.getInteger(TAG_RANGE),
+          compound.getInteger(TAG_BUFFER));
+        job.phase = Phase.values()[compound.getInteger(TAG_PHASE)];
+        if (compound.hasKey(TAG_BUILDING))
+        {
+            job.building = BlockPosUtil.readFromNBT(compound, TAG_BUILDING);
+        }
+        job.blockIndex = compound.getInteger(TAG_BLOCK);
+        job.chunkIndex = compound.getInteger(TAG_CHUNK);
+        job.citizensRemoved = compound.getInteger(TAG_CITIZENS_REMOVED);
+        job.buildingsRemoved = compound.getInteger(TAG_BUILDINGS_REMOVED);
+        return job;
+    }
+
+    /**
+     * Save the progress.
+     *
+     * @param compound the compound to write to.
+     */
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        compound.setBoolean(TAG_DESTROY, canDestroy);
+        compound.setInteger(TAG_RANGE, range);
+        compound.setInteger(TAG_BUFFER, buffer);
+        compound.setInteger(TAG_PHASE, phase.ordinal());
+        if (building != null)
+        {
+            BlockPosUtil.writeToNBT(compound, TAG_BUILDING, building);
+        }
+        compound.setInteger(TAG_BLOCK, blockIndex);
+        compound.setInteger(TAG_CHUNK, chunkIndex);
+        compound.setInteger(TAG_CITIZENS_REMOVED, citizensRemoved);
+        compound.setInteger(TAG_BUILDINGS_REMOVED, buildingsRemoved);
+    }
+
+    /**
+     * Do the next steps of the deletion, a step is a citizen, a block or a chunk.
+     *
+     * @param colony the colony.
+     * @param budget the max amount of steps.
+     * @return the amount of steps done.
+     */
+    public int tick(@NotNull final Colony colony, final int budget)
+    {
+        int steps = 0;
+        while (steps < budget && phase != Phase.DONE)
+        {
+            switch (phase)
+            {
+                case CITIZENS:
+                    steps += removeNextCitizen(colony);
+                    break;
+                case BUILDINGS:
+                    steps += removeBuildings(colony, budget - steps);
+                    break;
+                case CHUNKS:
+                    steps += unclaimChunks(colony, budget - steps);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return steps;
+    }
+
+    /**
+     * Kill the next citizen of the colony.
+     *
+     * @param colony the colony.
+     * @return the amount of steps done.
+     */
+    private int removeNextCitizen(@NotNull final Colony colony)
+    {
+        final Iterator<CitizenData> iterator = colony.getCitizenManager().getCitizenMap().values().iterator();
+        if (!iterator.hasNext())
+        {
+            phase = canDestroy ? Phase.BUILDINGS : Phase.CHUNKS;
+            return 0;
+        }
+
+        final CitizenData citizen = iterator.next();
+        Log.getLogger().info("Kill Citizen " + citizen.getName());
+        citizen.getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.onDeath(CONSOLE_DAMAGE_SOURCE));
+        if (colony.getCitizenManager().getCitizen(citizen.getId()) == citizen)
+        {
+            colony.getCitizenManager().removeCitizen(citizen);
+        }
+        citizensRemoved++;
+        return 1;
+    }
+
+    /**
+     * Deconstruct the current building, and destroy it once all its blocks are gone.
+     *
+     * @param colony the colony.
+     * @param budget the max amount of steps.
+     * @return the amount of steps done.
+     */
+    private int removeBuildings(@NotNull final Colony colony, final int budget)
+    {
+        AbstractBuilding current = building == null ? null : colony.getBuildingManager().getBuilding(building);
+        if (current == null)
+        {
+            final Iterator<AbstractBuilding> iterator = colony.getBuildingManager().getBuildings().values().iterator();
+            if (!iterator.hasNext())
+            {
+                building = null;
+                phase = Phase.CHUNKS;
+                return 0;
+            }
+            current = iterator.next();
+            building = current.getLocation();
+            blockIndex = 0;
+            Log.getLogger().info("Delete Building at " + building);
+        }
+
+        final int blockCount = current.getDeconstructionBlockCount();
+        final int end = Math.min(blockCount, blockIndex + budget);
+        current.deconstruct(blockIndex, end);
+        final int steps = end - blockIndex;
+        blockIndex = end;
+        if (blockIndex < blockCount)
+        {
+            return steps;
+        }
+
+        final World world = colony.getWorld();
+        current.destroy();
+        if (world.getBlockState(current.getLocation()).getBlock() instanceof AbstractBlockHut)
+        {
+            Log.getLogger().info("Found Block, deleting " + world.getBlockState(current.getLocation()).getBlock());
+            world.setBlockToAir(current.getLocation());
+        }
+        buildingsRemoved++;
+        building = null;
+        blockIndex = 0;
+        return steps + 1;
+    }
+
+    /**
+     * Unclaim the next chunks of the colony.
+     *
+     * @param colony the colony.
+     * @param budget the max amount of steps.
+     * @return the amount of steps done.
+     */
+    private int unclaimChunks(@NotNull final Colony colony, final int budget)
+    {
+        final World world = colony.getWorld();
+        if (chunkIndex == 0)
+        {
+            ChunkDataHelper.loadChunkAndAddData(world, colony.getCenter(), false, colonyId);
+        }
+
+        final ChunkPos center = new ChunkPos(colony.getCenter());
+        final int end = Math.min(getChunkCount(), chunkIndex + budget);
+        ChunkDataHelper.claimChunksInRange(colonyId, dimension, false, center.x, center.z, range, buffer, world, chunkIndex, end);
+        final int steps = end - chunkIndex;
+        chunkIndex = end;
+        if (chunkIndex >= getChunkCount())
+        {
+            phase = Phase.DONE;
+        }
+        return Math.max(1, steps);
+    }
+
+    /**
+     * Check if all steps are done and the colony can be removed.
+     *
+     * @return true if so.
+     */
+    public boolean isDone()
+    {
+        return phase == Phase.DONE;
+    }
+
+    /**
+     * Stop the deletion because a step failed, the colony stays excluded from ticking until the next restart.
+     *
+     * @param e the exception of the step.
+     */
+    public void fail(@NotNull final RuntimeException e)
+    {
+        failure = e.toString();
+    }
+
+    /**
+     * Get why the deletion stopped.
+     *
+     * @return the failure or null if it still runs.
+     */
+    @Nullable
+    public String getFailure()
+    {
+        return failure;
+    }
+
+    /**
+     * Get the id of the colony.
+     *
+     * @return the id.
+     */
+    public int getColonyId()
+    {
+        return colonyId;
+    }
+
+    /**
+     * Get the dimension of the colony.
+     *
+     * @return the dimension.
+     */
+    public int getDimension()
+    {
+        return dimension;
+    }
+
+    /**
+     * Get the current phase.
+     *
+     * @return the phase.
+     */
+    @NotNull
+    public Phase getPhase()
+    {
+        return phase;
+    }
+
+    /**
+     * Get the amount of removed citizens.
+     *
+     * @return the amount.
+     */
+    public int getCitizensRemoved()
+    {
+        return citizensRemoved;
+    }
+
+    /**
+     * Get the amount of removed buildings.
+     *
+     * @return the amount.
+     */
+    public int getBuildingsRemoved()
+    {
+        return buildingsRemoved;
+    }
+
+    /**
+     * Get the amount of unclaimed chunks.
+     *
+     * @return the amount.
+     */
+    public int getChunksUnclaimed()
+    {
+        return chunkIndex;
+    }
+
+    /**
+     * Get the amount of chunks to unclaim.
+     *
+     * @return the amount.
+     */
+    public int getChunkCount()
+    {
+        return ChunkDataHelper.getChunkCountInRange(range, buffer);
+    }
+}
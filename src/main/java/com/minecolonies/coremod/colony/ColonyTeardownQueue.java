@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queue of colony deletions which are executed over multiple ticks with a step budget per world tick.
+ * A colony in the queue doesn't tick anymore, the queue is restored from the saved colonies on load.
+ * A deletion whose step failed stays in the queue, so its colony keeps being excluded and saved as being deleted.
+ */
+public final class ColonyTeardownQueue
+{
+    /**
+     * The queued deletions, by dimension.
+     */
+    private static final Map<Integer, Deque<ColonyTeardownJob>> jobs = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyTeardownQueue()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Add a deletion to the queue of its world, unless the colony is already being deleted.
+     *
+     * @param job the deletion to add.
+     * @return true if it was added.
+     */
+    public static boolean add(@NotNull final ColonyTeardownJob job)
+    {
+        if (getJob(job.getColonyId(), job.getDimension()) != null)
+        {
+            return false;
+        }
+        jobs.computeIfAbsent(job.getDimension(), dim -> new ArrayDeque<>()).add(job);
+        return true;
+    }
+
+    /**
+     * Get the deletion of a colony.
+     *
+     * @param colony the colony.
+     * @return the deletion or null if the colony isn't being deleted.
+     */
+    @Nullable
+    public static ColonyTeardownJob getJob(@NotNull final Colony colony)
+    {
+        return getJob(colony.getID(), colony.getDimension());
+    }
+
+    /**
+     * Check if a colony is being deleted.
+     *
+     * @param colony the colony.
+     * @return true if so.
+     */
+    public static boolean isTearingDown(@NotNull final Colony colony)
+    {
+        return getJob(colony) != null;
+    }
+
+    /**
+     * Get all queued deletions.
+     *
+     * @return a list of the deletions, in queue order per dimension.
+     */
+    @NotNull
+    public static List<ColonyTeardownJob> getJobs()
+    {
+        final List<ColonyTeardownJob> list = new ArrayList<>();
+        jobs.values().forEach(list::addAll);
+        return list;
+    }
+
+    /**
+     * Do the next steps of the queued deletions in this world, and remove the colonies of the finished ones.
+     * Failed deletions are skipped.
+     *
+     * @param world the world which ticks.
+     */
+    public static void onWorldTick(@NotNull final World world)
+    {
+        final Deque<ColonyTeardownJob> queue = jobs.get(world.provider.getDimension());
+        if (queue == null || queue.isEmpty())
+        {
+            return;
+        }
+
+        int budget = Math.max(1, Configurations.gameplay.colonyTeardownStepsPerTick);
+        final Iterator<ColonyTeardownJob> iterator = queue.iterator();
+        while (budget > 0 && iterator.hasNext())
+        {
+            final ColonyTeardownJob job = iterator.next();
+            if (job.getFailure() != null)
+            {
+                continue;
+            }
+
+            final Colony colony = ColonyManager.getColonyByWorld(job.getColonyId(), world);
+            if (colony == null)
+            {
+                iterator.remove();
+                continue;
+            }
+
+            try
+            {
+                budget -= job.tick(colony, budget);
+                if (job.isDone())
+                {
+                    ColonyManager.removeColony(colony);
+                    iterator.remove();
+                }
+            }
+            catch (final RuntimeException e)
+            {
+                job.fail(e);
+                Log.getLogger().warn("Deleting Colony " + job.getColonyId() + " errored, it stays queued until the next restart:", e);
+            }
+        }
+    }
+
+    /**
+     * Drop the queued deletions of a world when it unloads, they are restored with the colonies on load.
+     *
+     * @param world the world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        jobs.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Get the deletion of a colony.
+     *
+     * @param colonyId  the id of the colony.
+     * @param dimension the dimension of the colony.
+     * @return the deletion or null if the colony isn't being deleted.
+     */
+    @Nullable
+    private static ColonyTeardownJob getJob(final int colonyId, final int dimension)
+    {
+        final Deque<ColonyTeardownJob> queue = jobs.get(dimension);
+        if (queue == null)
+        {
+            return null;
+        }
+
+        for (final ColonyTeardownJob job : queue)
+        {
+            if (job.getColonyId() == colonyId)
+            {
+                return job;
+            }
+        }
+        return null;
+    }
+}
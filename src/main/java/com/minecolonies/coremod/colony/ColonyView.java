@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.registry.BuildingRegistry;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
@@ -56,6 +57,14 @@ public final class ColonyView implements IColony
     //  Citizenry
     @NotNull
     private final Map<Integer, CitizenDataView>       citizens    = new HashMap<>();
+
+    /**
+     * Versions of the citizens, the players and the open requests, increased every time they change.
+     * Lets windows update their lists only when needed.
+     */
+    private int citizensVersion = 0;
+    private int playersVersion  = 0;
+    private int requestsVersion = 0;
     private       String                              name        = "Unknown";
     private int      dimensionId;
     private BlockPos center = BlockPos.ORIGIN;
@@ -98,22 +107,22 @@ public final class ColonyView implements IColony
     /**
      * Last barbarian spawnpoints.
      */
-    private final List<BlockPos> lastSpawnPoints = new ArrayList<>();
+    private List<BlockPos> lastSpawnPoints = new ArrayList<>();
 
     /**
      * The Positions which players can freely interact.
      */
-    private final Set<BlockPos> freePositions = new HashSet<>();
+    private Set<BlockPos> freePositions = new HashSet<>();
 
     /**
      * The Blocks which players can freely interact with.
      */
-    private final Set<Block> freeBlocks = new HashSet<>();
+    private Set<Block> freeBlocks = new HashSet<>();
 
     /**
      * The Set of waypoints.
      */
-    private final Set<BlockPos> wayPoints = new HashSet<>();
+    private Set<BlockPos> wayPoints = new HashSet<>();
 
     /**
      * The overall happiness of the colony.
@@ -486,6 +495,36 @@ public final class ColonyView implements IColony
         return Collections.unmodifiableMap(citizens);
     }
 
+    /**
+     * Get the version of the citizens, which changes every time a citizen is added, updated or removed.
+     *
+     * @return the version.
+     */
+    public int getCitizensVersion()
+    {
+        return citizensVersion;
+    }
+
+    /**
+     * Get the version of the players, which changes every time the permissions are updated.
+     *
+     * @return the version.
+     */
+    public int getPlayersVersion()
+    {
+        return playersVersion;
+    }
+
+    /**
+     * Get the version of the open requests, which changes every time the request manager or a building is updated.
+     *
+     * @return the version.
+     */
+    public int getRequestsVersion()
+    {
+        return requestsVersion;
+    }
+
     /**
      * Getter for the workOrders.
      *
@@ -516,71 +555,160 @@ public final class ColonyView implements IColony
      */
     @Nullable
     public IMessage handleColonyViewMessage(@NotNull final ByteBuf buf, @NotNull final World world, final boolean isNewSubscription)
+    {
+        return applySnapshot(Snapshot.read(this, buf), world, isNewSubscription);
+    }
+
+    /**
+     * Apply network data which has already been decoded, only swaps references so it is cheap on the client thread.
+     *
+     * @param snapshot          the decoded data, prepared for this view.
+     * @param world             the client world.
+     * @param isNewSubscription Whether this is a new subscription of not.
+     * @return null == no response.
+     */
+    @Nullable
+    public IMessage applySnapshot(@NotNull final Snapshot snapshot, @NotNull final World world, final boolean isNewSubscription)
     {
         this.world = world;
         //  General Attributes
-        name = ByteBufUtils.readUTF8String(buf);
-        dimensionId = buf.readInt();
-        center = BlockPosUtil.readFromByteBuf(buf);
-        manualHiring = buf.readBoolean();
+        name = snapshot.name;
+        dimensionId = snapshot.dimensionId;
+        center = snapshot.center;
+        manualHiring = snapshot.manualHiring;
         //  Citizenry
-        citizenCount = buf.readInt();
+        citizenCount = snapshot.citizenCount;
 
         if (isNewSubscription)
         {
             citizens.clear();
             townHall = null;
             buildings.clear();
+            citizensVersion++;
+            requestsVersion++;
         }
 
-        freePositions.clear();
-        freeBlocks.clear();
-        wayPoints.clear();
-        lastSpawnPoints.clear();
+        freeBlocks = snapshot.freeBlocks;
+        freePositions = snapshot.freePositions;
+        this.overallHappiness = snapshot.overallHappiness;
+        this.hasColonyWarehouse = snapshot.hasColonyWarehouse;
+        wayPoints = snapshot.wayPoints;
+        this.lastContactInHours = snapshot.lastContactInHours;
+        this.manualHousing = snapshot.manualHousing;
+        this.moveIn = snapshot.moveIn;
 
-        final int blockListSize = buf.readInt();
-        for (int i = 0; i < blockListSize; i++)
+        if (snapshot.requestManager != null)
         {
-            freeBlocks.add(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            this.requestManager = snapshot.requestManager;
+            requestsVersion++;
         }
 
-        final int posListSize = buf.readInt();
-        for (int i = 0; i < posListSize; i++)
-        {
-            freePositions.add(BlockPosUtil.readFromByteBuf(buf));
-        }
-        this.overallHappiness = buf.readDouble();
-        this.hasColonyWarehouse = buf.readBoolean();
+        lastSpawnPoints = snapshot.lastSpawnPoints;
+        this.teamColonyColor = snapshot.teamColonyColor;
+        this.printProgress = snapshot.printProgress;
+        this.boughtCitizenCost = snapshot.boughtCitizenCost;
+        return null;
+    }
 
-        final int wayPointListSize = buf.readInt();
-        for (int i = 0; i < wayPointListSize; i++)
-        {
-            wayPoints.add(BlockPosUtil.readFromByteBuf(buf));
-        }
-        this.lastContactInHours = buf.readInt();
-        this.manualHousing = buf.readBoolean();
-        this.moveIn = buf.readBoolean();
+    /**
+     * Colony view network data decoded off the client thread.
+     * The collections are handed over to the view, so a snapshot is applied only once.
+     */
+    public static final class Snapshot
+    {
+        private final String          name;
+        private final int             dimensionId;
+        private final BlockPos        center;
+        private final boolean         manualHiring;
+        private final int             citizenCount;
+        private final Set<Block>      freeBlocks     = new HashSet<>();
+        private final Set<BlockPos>   freePositions  = new HashSet<>();
+        private final double          overallHappiness;
+        private final boolean         hasColonyWarehouse;
+        private final Set<BlockPos>   wayPoints      = new HashSet<>();
+        private final int             lastContactInHours;
+        private final boolean         manualHousing;
+        private final boolean         moveIn;
+        @Nullable
+        private final IRequestManager requestManager;
+        private final List<BlockPos>  lastSpawnPoints = new ArrayList<>();
+        private final TextFormatting  teamColonyColor;
+        private final boolean         printProgress;
+        private final int             boughtCitizenCost;
 
-        if (buf.readBoolean())
+        /**
+         * Decode the network data of a colony view.
+         *
+         * @param view the view the data is for, the request manager is created for it.
+         * @param buf  {@link ByteBuf} to read from.
+         */
+        private Snapshot(@NotNull final ColonyView view, @NotNull final ByteBuf buf)
         {
-            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
-        }
+            name = ByteBufUtils.readUTF8String(buf);
+            dimensionId = buf.readInt();
+            center = BlockPosUtil.readFromByteBuf(buf);
+            manualHiring = buf.readBoolean();
+            citizenCount = buf.readInt();
+
+            final int blockListSize = buf.readInt();
+            for (int i = 0; i < blockListSize; i++)
+            {
+                freeBlocks.add(Block.getBlockFromName(ByteBufUtils.readUTF8String(buf)));
+            }
 
-        final int barbSpawnListSize = buf.readInt();
-        for (int i = 0; i < barbSpawnListSize; i++)
-        {
-            lastSpawnPoints.add(BlockPosUtil.readFromByteBuf(buf));
-        }
-        Collections.reverse(lastSpawnPoints);
+            final int posListSize = buf.readInt();
+            for (int i = 0; i < posListSize; i++)
+            {
+                freePositions.add(BlockPosUtil.readFromByteBuf(buf));
+            }
+            overallHappiness = buf.readDouble();
+            hasColonyWarehouse = buf.readBoolean();
 
-        this.teamColonyColor = TextFormatting.values()[buf.readInt()];
+            final int wayPointListSize = buf.readInt();
+            for (int i = 0; i < wayPointListSize; i++)
+            {
+                wayPoints.add(BlockPosUtil.readFromByteBuf(buf));
+            }
+            lastContactInHours = buf.readInt();
+            manualHousing = buf.readBoolean();
+            moveIn = buf.readBoolean();
 
-        this.printProgress = buf.readBoolean();
+            if (buf.readBoolean())
+            {
+                final NBTTagCompound compound = ByteBufUtils.readTag(buf);
+                final StandardRequestManager manager = new StandardRequestManager(view);
+                manager.deserializeNBT(compound);
+                requestManager = manager;
+            }
+            else
+            {
+                requestManager = null;
+            }
 
-        this.boughtCitizenCost = buf.readInt();
-        return null;
+            final int barbSpawnListSize = buf.readInt();
+            for (int i = 0; i < barbSpawnListSize; i++)
+            {
+                lastSpawnPoints.add(BlockPosUtil.readFromByteBuf(buf));
+            }
+            Collections.reverse(lastSpawnPoints);
+
+            teamColonyColor = TextFormatting.values()[buf.readInt()];
+            printProgress = buf.readBoolean();
+            boughtCitizenCost = buf.readInt();
+        }
+
+        /**
+         * Decode the network data of a colony view, safe to call from the network thread.
+         *
+         * @param view the view the data is for.
+         * @param buf  {@link ByteBuf} to read from.
+         * @return the decoded snapshot.
+         */
+        @NotNull
+        public static Snapshot read(@NotNull final ColonyView view, @NotNull final ByteBuf buf)
+        {
+            return new Snapshot(view, buf);
+        }
     }
 
     /**
@@ -593,6 +721,7 @@ public final class ColonyView implements IColony
     public IMessage handlePermissionsViewMessage(@NotNull final ByteBuf buf)
     {
         permissions.deserialize(buf);
+        playersVersion++;
         return null;
     }
 
@@ -628,12 +757,53 @@ public final class ColonyView implements IColony
     @Nullable
     public IMessage handleColonyViewCitizensMessage(final int id, final ByteBuf buf)
     {
-        final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
+        return handleColonyViewCitizensMessage(CitizenData.createCitizenDataView(id, buf));
+    }
+
+    /**
+     * Add or replace an already decoded citizen view.
+     *
+     * @param citizen the citizen view, null if decoding failed.
+     * @return null == no response.
+     */
+    @Nullable
+    public IMessage handleColonyViewCitizensMessage(@Nullable final CitizenDataView citizen)
+    {
         if (citizen != null)
         {
             citizens.put(citizen.getId(), citizen);
+            citizensVersion++;
+        }
+
+        return null;
+    }
+
+    /**
+     * Apply the changed fields of a citizen to its existing view.
+     *
+     * @param id  ID of the citizen.
+     * @param buf Network data with the changed fields.
+     * @return null == no response.
+     */
+    @Nullable
+    public IMessage handleColonyViewCitizenDeltaMessage(final int id, final ByteBuf buf)
+    {
+        final CitizenDataView citizen = citizens.get(id);
+        if (citizen == null)
+        {
+            // The complete view is always sent first, a missing view means the colony view was replaced since.
+            return null;
         }
 
+        try
+        {
+            citizen.deserializeDelta(buf);
+            citizensVersion++;
+        }
+        catch (final RuntimeException ex)
+        {
+            Log.getLogger().error(String.format("A CitizenData.View delta for #%d could not be applied.", id), ex);
+        }
         return null;
     }
 
@@ -646,7 +816,10 @@ public final class ColonyView implements IColony
     @Nullable
     public IMessage handleColonyViewRemoveCitizenMessage(final int citizen)
     {
-        citizens.remove(citizen);
+        if (citizens.remove(citizen) != null)
+        {
+            citizensVersion++;
+        }
         return null;
     }
 
@@ -693,10 +866,22 @@ public final class ColonyView implements IColony
     @Nullable
     public IMessage handleColonyBuildingViewMessage(final BlockPos buildingId, @NotNull final ByteBuf buf)
     {
-        @Nullable final AbstractBuildingView building = BuildingRegistry.createBuildingView(this, buildingId, buf);
+        return handleColonyBuildingViewMessage(BuildingRegistry.createBuildingView(this, buildingId, buf));
+    }
+
+    /**
+     * Add or replace an already decoded building view.
+     *
+     * @param building the building view, created for this colony view, null if decoding failed.
+     * @return null == no response.
+     */
+    @Nullable
+    public IMessage handleColonyBuildingViewMessage(@Nullable final AbstractBuildingView building)
+    {
         if (building != null)
         {
             buildings.put(building.getID(), building);
+            requestsVersion++;
 
             if (building instanceof BuildingTownHall.View)
             {
@@ -90,6 +90,11 @@ public class HappinessData
      */
     private List<DeathModifierData> deathModifier = new ArrayList();
 
+    /**
+     * The sum of the modifiers of the deaths, kept with the list.
+     */
+    private double deathModifierSum;
+
 
     /**
      * Creating a default constructor
@@ -182,6 +187,7 @@ public class HappinessData
             data.setAdjustment(adjustment);
             deathModifier.add(data);
         }
+        recalculateDeathModifier();
     }
 
     /**
@@ -233,6 +239,7 @@ public class HappinessData
             data.setAdjustment(adjustment);
             deathModifier.add(data);
         }
+        recalculateDeathModifier();
     }
 
 
@@ -279,6 +286,7 @@ public class HappinessData
         this.housing = data.housing;
 
         this.deathModifier = data.deathModifier;
+        this.deathModifierSum = data.deathModifierSum;
         this.housingRatioModifier = data.housingRatioModifier;
     }
 
@@ -297,6 +305,7 @@ public class HappinessData
         }
     	final DeathModifierData data = new DeathModifierData(0, modifier, numDays);
     	deathModifier.add(data);
+        deathModifierSum += modifier;
     }
 
     /**
@@ -306,18 +315,19 @@ public class HappinessData
      */
     public double getDeathModifier()
     {
-        double value = 0;
-        for (int index = 0; index < deathModifier.size(); index++)
-        {
-            value += deathModifier.get(index).getModifier();
-    	}
+        return Math.min(deathModifierSum, MAX_DEATH_MODIFIER);
+    }
 
-        if (value > MAX_DEATH_MODIFIER)
+    /**
+     * Sum the modifiers of the deaths again, after the list has been replaced or changed.
+     */
+    private void recalculateDeathModifier()
+    {
+        deathModifierSum = 0;
+        for (final DeathModifierData data : deathModifier)
         {
-            value = MAX_DEATH_MODIFIER;
+            deathModifierSum += data.getModifier();
         }
-
-        return value;
     }
 
 
@@ -359,7 +369,7 @@ public class HappinessData
                 index--;
             }
         }
-
+        recalculateDeathModifier();
     }
 
 
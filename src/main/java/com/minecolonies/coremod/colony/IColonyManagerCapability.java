@@ -94,12 +94,19 @@ public interface IColonyManagerCapability
         @Override
         public Colony createColony(@NotNull final World w, @NotNull final BlockPos pos)
         {
-            return colonies.create(w, pos);
+            final Colony colony = colonies.create(w, pos);
+            ColonyRegistry.add(colony);
+            return colony;
         }
 
         @Override
         public void deleteColony(final int id)
         {
+            final Colony colony = colonies.get(id);
+            if (colony != null)
+            {
+                ColonyRegistry.remove(colony.getDimension(), id);
+            }
             colonies.remove(id);
         }
 
@@ -119,6 +126,7 @@ public interface IColonyManagerCapability
         public void addColony(final Colony colony)
         {
             colonies.add(colony);
+            ColonyRegistry.add(colony);
         }
 
         @Override
@@ -410,9 +410,9 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         buf.writeInt(resolvers.size());
         for (final IRequestResolver<?> resolver : resolvers)
         {
-            ByteBufUtils.writeTag(buf, StandardFactoryController.getInstance().serialize(resolver.getRequesterId()));
+            StandardFactoryController.getInstance().writeToBuffer(buf, resolver.getRequesterId());
         }
-        ByteBufUtils.writeTag(buf, StandardFactoryController.getInstance().serialize(getRequesterId()));
+        StandardFactoryController.getInstance().writeToBuffer(buf, getRequesterId());
         ByteBufUtils.writeTag(buf, requestSystemCompound);
     }
 
@@ -500,17 +500,41 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
      * Deconstruct the building on destroyed.
      */
     public void deconstruct()
+    {
+        deconstruct(0, getDeconstructionBlockCount());
+    }
+
+    /**
+     * Get the amount of blocks {@link #deconstruct()} destroys.
+     *
+     * @return the amount of blocks.
+     */
+    public int getDeconstructionBlockCount()
     {
         final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> tuple = getCorners();
-        for (int x = tuple.getFirst().getFirst(); x < tuple.getFirst().getSecond(); x++)
+        final int sizeX = Math.max(0, tuple.getFirst().getSecond() - tuple.getFirst().getFirst());
+        final int sizeZ = Math.max(0, tuple.getSecond().getSecond() - tuple.getSecond().getFirst());
+        return sizeX * sizeZ * Math.max(0, this.getHeight() + 1);
+    }
+
+    /**
+     * Destroy a slice of the blocks of the building, to spread the deconstruction over multiple ticks.
+     * The blocks are numbered by x, then z, then y, from 0 to {@link #getDeconstructionBlockCount()} exclusive.
+     *
+     * @param from the index of the first block of the slice.
+     * @param to   the index after the last block of the slice.
+     */
+    public void deconstruct(final int from, final int to)
+    {
+        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> tuple = getCorners();
+        final int sizeZ = tuple.getSecond().getSecond() - tuple.getSecond().getFirst();
+        final int sizeY = this.getHeight() + 1;
+        for (int index = from; index < to; index++)
         {
-            for (int z = tuple.getSecond().getFirst(); z < tuple.getSecond().getSecond(); z++)
-            {
-                for (int y = getLocation().getY() - 1; y < getLocation().getY() + this.getHeight(); y++)
-                {
-                    getColony().getWorld().destroyBlock(new BlockPos(x, y, z), false);
-                }
-            }
+            final int x = tuple.getFirst().getFirst() + index / (sizeZ * sizeY);
+            final int z = tuple.getSecond().getFirst() + (index / sizeY) % sizeZ;
+            final int y = getLocation().getY() - 1 + index % sizeY;
+            getColony().getWorld().destroyBlock(new BlockPos(x, y, z), false);
         }
     }
 
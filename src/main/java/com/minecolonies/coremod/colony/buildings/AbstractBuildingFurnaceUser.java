@@ -1,7 +1,10 @@
 package com.minecolonies.coremod.colony.buildings;
 
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceTracker;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFurnace;
 import net.minecraft.item.ItemStack;
@@ -11,6 +14,7 @@ import net.minecraft.nbt.NBTUtil;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -35,11 +39,21 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
      */
     private static final String TAG_FURNACES = "furnaces";
 
+    /**
+     * The ticks between two polls of the furnace states.
+     */
+    private static final int FURNACE_POLL_INTERVAL = 40;
+
     /**
      * List of registered furnaces.
      */
     private final List<BlockPos> furnaces = new ArrayList<>();
 
+    /**
+     * The state of the registered furnaces.
+     */
+    private final FurnaceTracker furnaceTracker = new FurnaceTracker();
+
     /**
      * Instantiates a new cook building.
      *
@@ -61,6 +75,33 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
         return new ArrayList<>(furnaces);
     }
 
+    /**
+     * Get the tracker of the furnace states and of the fuel and smeltables in the building.
+     *
+     * @return the tracker.
+     */
+    public FurnaceTracker getFurnaceTracker()
+    {
+        return furnaceTracker;
+    }
+
+    @Override
+    public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        super.onWorldTick(event);
+        if (event.world.getTotalWorldTime() % FURNACE_POLL_INTERVAL == 0)
+        {
+            furnaceTracker.poll(event.world, furnaces);
+        }
+    }
+
+    @Override
+    public void onRequestComplete(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
+    {
+        super.onRequestComplete(manager, token);
+        furnaceTracker.invalidateTally();
+    }
+
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
@@ -93,6 +134,7 @@ public abstract class AbstractBuildingFurnaceUser extends AbstractFilterableList
         if (block instanceof BlockFurnace && !furnaces.contains(pos))
         {
             furnaces.add(pos);
+            furnaceTracker.update(pos, world.getTileEntity(pos));
         }
         markDirty();
     }
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.buildings;
 
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
@@ -12,6 +13,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceTracker;
 import com.minecolonies.coremod.colony.buildings.views.FilterableListView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.PublicWorkerCraftingProductionResolver;
@@ -26,6 +28,7 @@ import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -52,11 +55,21 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
      */
     private static final String TAG_FURNACES = "furnaces";
 
+    /**
+     * The ticks between two polls of the furnace states.
+     */
+    private static final int FURNACE_POLL_INTERVAL = 40;
+
     /**
      * List of registered furnaces.
      */
     private final List<BlockPos> furnaces = new ArrayList<>();
 
+    /**
+     * The state of the registered furnaces.
+     */
+    private final FurnaceTracker furnaceTracker = new FurnaceTracker();
+
     /**
      * Extra amount of recipes the crafters can learn.
      */
@@ -133,6 +146,33 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
         return new ArrayList<>(furnaces);
     }
 
+    /**
+     * Get the tracker of the furnace states and of the fuel in the building.
+     *
+     * @return the tracker.
+     */
+    public FurnaceTracker getFurnaceTracker()
+    {
+        return furnaceTracker;
+    }
+
+    @Override
+    public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        super.onWorldTick(event);
+        if (event.world.getTotalWorldTime() % FURNACE_POLL_INTERVAL == 0)
+        {
+            furnaceTracker.poll(event.world, furnaces);
+        }
+    }
+
+    @Override
+    public void onRequestComplete(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
+    {
+        super.onRequestComplete(manager, token);
+        furnaceTracker.invalidateTally();
+    }
+
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
@@ -165,6 +205,7 @@ public abstract class AbstractBuildingSmelterCrafter extends AbstractFilterableL
         if (block instanceof BlockFurnace && !furnaces.contains(pos))
         {
             furnaces.add(pos);
+            furnaceTracker.update(pos, world.getTileEntity(pos));
         }
         markDirty();
     }
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.buildings;
 
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -71,9 +72,9 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
     private StructureIterator.Stage progressStage;
 
     /**
-     * Contains all resources needed for a certain build.
+     * Contains all resources needed for a certain build, by their item, damage and nbt.
      */
-    private HashMap<String, BuildingBuilderResource> neededResources = new HashMap<>();
+    private HashMap<ItemKey, BuildingBuilderResource> neededResources = new HashMap<>();
 
     /**
      * The progress counter of the builder.
@@ -137,8 +138,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
             final NBTTagCompound neededRes = neededResTagList.getCompoundTagAt(i);
             final ItemStack stack = new ItemStack(neededRes);
             final BuildingBuilderResource resource = new BuildingBuilderResource(stack, ItemStackUtils.getSize(stack));
-            final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-            neededResources.put(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode, resource);
+            neededResources.put(ItemKey.of(stack), resource);
         }
 
         if (compound.hasKey(TAG_PROGRESS_POS))
@@ -252,9 +252,8 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
                 return;
             }
 
-            for (@NotNull final Map.Entry<String, BuildingBuilderResource> entry : neededResources.entrySet())
+            for (@NotNull final BuildingBuilderResource resource : neededResources.values())
             {
-                final BuildingBuilderResource resource = entry.getValue();
 
                 resource.setAvailable(0);
 
@@ -279,11 +278,23 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      *
      * @return a new Hashmap.
      */
-    public Map<String, BuildingBuilderResource> getNeededResources()
+    public Map<ItemKey, BuildingBuilderResource> getNeededResources()
     {
         return new HashMap<>(neededResources);
     }
 
+    /**
+     * Get the needed resource of a stack for the current build, comparing damage and nbt.
+     *
+     * @param stack the stack.
+     * @return the resource or null if it isn't needed.
+     */
+    @Nullable
+    public BuildingBuilderResource getNeededResource(@NotNull final ItemStack stack)
+    {
+        return neededResources.get(ItemKey.of(stack));
+    }
+
     /**
      * Add a new resource to the needed list.
      *
@@ -296,17 +307,16 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
         {
             return;
         }
-        final int hashCode = res.hasTagCompound() ? res.getTagCompound().hashCode() : 0;
-        BuildingBuilderResource resource = this.neededResources.get(res.getTranslationKey() + ":" + res.getItemDamage() + "-" + hashCode);
+        final ItemKey key = ItemKey.of(res);
+        final BuildingBuilderResource resource = this.neededResources.get(key);
         if (resource == null)
         {
-            resource = new BuildingBuilderResource(res, amount);
+            this.neededResources.put(key, new BuildingBuilderResource(res, amount));
         }
         else
         {
             resource.setAmount(resource.getAmount() + amount);
         }
-        this.neededResources.put(res.getTranslationKey() + ":" + res.getItemDamage() + "-" + hashCode, resource);
         this.markDirty();
     }
 
@@ -318,21 +328,17 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     public void reduceNeededResource(final ItemStack res, final int amount)
     {
-        final int hashCode = res.hasTagCompound() ? res.getTagCompound().hashCode() : 0;
-        int preAmount = 0;
-        final String name = res.getTranslationKey() + ":" + res.getItemDamage() + "-" + hashCode;
-        if (this.neededResources.containsKey(name))
-        {
-            preAmount = this.neededResources.get(name).getAmount();
-        }
+        final ItemKey key = ItemKey.of(res);
+        final BuildingBuilderResource resource = this.neededResources.get(key);
+        final int preAmount = resource == null ? 0 : resource.getAmount();
 
         if (preAmount - amount <= 0)
         {
-            this.neededResources.remove(name);
+            this.neededResources.remove(key);
         }
         else
         {
-            this.neededResources.get(name).setAmount(preAmount - amount);
+            resource.setAmount(preAmount - amount);
         }
         this.markDirty();
     }
@@ -354,8 +360,7 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     public boolean requiresResourceForBuilding(final ItemStack stack)
     {
-        final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-        return neededResources.containsKey(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
+        return neededResources.containsKey(ItemKey.of(stack));
     }
 
     /**
@@ -33,7 +33,6 @@ import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
-import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -508,7 +507,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
         buf.writeInt(storages.size());
         for(final IRecipeStorage storage: storages)
         {
-            ByteBufUtils.writeTag(buf, StandardFactoryController.getInstance().serialize(storage));
+            StandardFactoryController.getInstance().writeToBuffer(buf, storage);
         }
 
         buf.writeBoolean(canCraftComplexRecipes());
@@ -648,7 +647,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
             final int recipesSize = buf.readInt();
             for(int i = 0; i < recipesSize; i++)
             {
-                final IRecipeStorage storage = StandardFactoryController.getInstance().deserialize(ByteBufUtils.readTag(buf));
+                final IRecipeStorage storage = StandardFactoryController.getInstance().readFromBuffer(buf);
                 if(storage != null)
                 {
                     recipes.add(storage);
@@ -55,6 +55,16 @@ public abstract class AbstractCitizenAssignable extends AbstractSchematicProvide
         super.writeToNBT(compound);
     }
 
+    @Override
+    public void setBuildingLevel(final int level)
+    {
+        super.setBuildingLevel(level);
+        for (final CitizenData citizen : assignedCitizen)
+        {
+            colony.getCitizenManager().updateHappinessContribution(citizen);
+        }
+    }
+
     /**
      * Returns the colony of the building.
      *
@@ -0,0 +1,283 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityFurnace;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.Constants.*;
+
+/**
+ * Tracks the state of the furnaces of a building, so its worker doesn't have to look at every furnace on each decision.
+ * The state of a furnace is updated when the worker interacted with it and by a coarse poll of the building,
+ * each furnace is kept in the queue of the action it needs next.
+ * Also keeps the amount of fuel and smeltables in the building until something moved items in or out of it.
+ */
+public class FurnaceTracker
+{
+    /**
+     * Retrieve the result of a burning furnace if there are more than this.
+     */
+    private static final int RETRIEVE_RESULT_IF_MORE_THAN = 10;
+
+    /**
+     * The actions a furnace can need.
+     */
+    public enum Action
+    {
+        NONE,
+        RETRIEVE,
+        NEEDS_FUEL,
+        NEEDS_SMELTABLE,
+        NEEDS_FUEL_AND_SMELTABLE
+    }
+
+    /**
+     * The last known state of a furnace.
+     */
+    private static final class FurnaceState
+    {
+        private boolean burning;
+        private int     smeltable;
+        private int     fuel;
+        private int     result;
+        private Action  action = Action.NONE;
+    }
+
+    /**
+     * The last known state of every tracked furnace.
+     */
+    private final Map<BlockPos, FurnaceState> states = new HashMap<>();
+
+    /**
+     * The furnaces which need an action, in the order they started to need it.
+     */
+    private final Map<Action, Set<BlockPos>> queues = new EnumMap<>(Action.class);
+
+    /**
+     * The amount of fuel and smeltables in the building, -1 if unknown.
+     */
+    private int fuelInBuilding      = -1;
+    private int smeltableInBuilding = -1;
+
+    /**
+     * Create a tracker without furnaces.
+     */
+    public FurnaceTracker()
+    {
+        for (final Action action : Action.values())
+        {
+            if (action != Action.NONE)
+            {
+                queues.put(action, new LinkedHashSet<>());
+            }
+        }
+    }
+
+    /**
+     * Update the state of a furnace from its tile entity, or stop tracking it if it isn't a furnace anymore.
+     *
+     * @param pos    the position of the furnace.
+     * @param entity the tile entity at the position.
+     */
+    public void update(@NotNull final BlockPos pos, @Nullable final TileEntity entity)
+    {
+        if (!(entity instanceof TileEntityFurnace))
+        {
+            remove(pos);
+            return;
+        }
+
+        final TileEntityFurnace furnace = (TileEntityFurnace) entity;
+        final FurnaceState state = states.computeIfAbsent(pos, p -> new FurnaceState());
+        state.burning = furnace.isBurning();
+        state.smeltable = ItemStackUtils.getSize(furnace.getStackInSlot(SMELTABLE_SLOT));
+        state.fuel = ItemStackUtils.getSize(furnace.getStackInSlot(FUEL_SLOT));
+        state.result = ItemStackUtils.getSize(furnace.getStackInSlot(RESULT_SLOT));
+
+        final Action action = computeAction(state);
+        if (action != state.action)
+        {
+            if (state.action != Action.NONE)
+            {
+                queues.get(state.action).remove(pos);
+            }
+            if (action != Action.NONE)
+            {
+                queues.get(action).add(pos);
+            }
+            state.action = action;
+        }
+    }
+
+    /**
+     * Stop tracking a furnace.
+     *
+     * @param pos the position of the furnace.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        final FurnaceState state = states.remove(pos);
+        if (state != null && state.action != Action.NONE)
+        {
+            queues.get(state.action).remove(pos);
+        }
+    }
+
+    /**
+     * Update all loaded furnaces of the building from their tile entities, and forget the item tally of the building,
+     * to notice what happened without the worker.
+     *
+     * @param world    the world.
+     * @param furnaces the furnaces of the building.
+     */
+    public void poll(@NotNull final World world, @NotNull final Collection<BlockPos> furnaces)
+    {
+        for (final BlockPos pos : furnaces)
+        {
+            if (world.isBlockLoaded(pos))
+            {
+                update(pos, world.getTileEntity(pos));
+            }
+        }
+        states.keySet().removeIf(pos -> !furnaces.contains(pos) && removeFromQueues(pos));
+        invalidateTally();
+    }
+
+    /**
+     * Get the furnace which has finished smeltables to retrieve.
+     *
+     * @return the position of the furnace or null if none.
+     */
+    @Nullable
+    public BlockPos getNextToRetrieve()
+    {
+        return first(queues.get(Action.RETRIEVE));
+    }
+
+    /**
+     * Get the idle furnace which can be filled with the materials at hand.
+     *
+     * @param hasFuel      if there is fuel.
+     * @param hasSmeltable if there are smeltables.
+     * @return the position of the furnace or null if none.
+     */
+    @Nullable
+    public BlockPos getNextToFill(final boolean hasFuel, final boolean hasSmeltable)
+    {
+        BlockPos pos = null;
+        if (hasFuel)
+        {
+            pos = first(queues.get(Action.NEEDS_FUEL));
+        }
+        if (pos == null && hasSmeltable)
+        {
+            pos = first(queues.get(Action.NEEDS_SMELTABLE));
+        }
+        if (pos == null && hasFuel && hasSmeltable)
+        {
+            pos = first(queues.get(Action.NEEDS_FUEL_AND_SMELTABLE));
+        }
+        return pos;
+    }
+
+    /**
+     * Get the amount of fuel in the building, counted again only if something changed the building inventory since the last count.
+     *
+     * @param building the building.
+     * @return the amount.
+     */
+    public int getFuelInBuilding(@NotNull final ICapabilityProvider building)
+    {
+        if (fuelInBuilding < 0)
+        {
+            fuelInBuilding = InventoryUtils.getItemCountInProvider(building, TileEntityFurnace::isItemFuel);
+        }
+        return fuelInBuilding;
+    }
+
+    /**
+     * Get the amount of smeltables in the building, counted again only if something changed the building inventory since the last count.
+     *
+     * @param building    the building.
+     * @param isSmeltable the predicate of the smeltables of the worker.
+     * @return the amount.
+     */
+    public int getSmeltableInBuilding(@NotNull final ICapabilityProvider building, @NotNull final Predicate<ItemStack> isSmeltable)
+    {
+        if (smeltableInBuilding < 0)
+        {
+            smeltableInBuilding = InventoryUtils.getItemCountInProvider(building, isSmeltable);
+        }
+        return smeltableInBuilding;
+    }
+
+    /**
+     * Forget the item tally of the building, to be called when items have been moved in or out of the building.
+     */
+    public void invalidateTally()
+    {
+        fuelInBuilding = -1;
+        smeltableInBuilding = -1;
+    }
+
+    /**
+     * Decide what a furnace needs next, following the rules of the furnace users.
+     *
+     * @param state the state of the furnace.
+     * @return the action.
+     */
+    @NotNull
+    private static Action computeAction(@NotNull final FurnaceState state)
+    {
+        if ((!state.burning && state.result > 0) || state.result > RETRIEVE_RESULT_IF_MORE_THAN)
+        {
+            return Action.RETRIEVE;
+        }
+        if (state.burning)
+        {
+            return Action.NONE;
+        }
+        if (state.smeltable > 0)
+        {
+            return state.fuel > 0 ? Action.NONE : Action.NEEDS_FUEL;
+        }
+        return state.fuel > 0 ? Action.NEEDS_SMELTABLE : Action.NEEDS_FUEL_AND_SMELTABLE;
+    }
+
+    /**
+     * Remove a furnace from the queue it is in.
+     *
+     * @param pos the position of the furnace.
+     * @return true, to be used in a removal predicate.
+     */
+    private boolean removeFromQueues(@NotNull final BlockPos pos)
+    {
+        for (final Set<BlockPos> queue : queues.values())
+        {
+            queue.remove(pos);
+        }
+        return true;
+    }
+
+    /**
+     * Get the first element of a queue.
+     *
+     * @param queue the queue.
+     * @return the element or null if empty.
+     */
+    @Nullable
+    private static BlockPos first(@NotNull final Set<BlockPos> queue)
+    {
+        return queue.isEmpty() ? null : queue.iterator().next();
+    }
+}
@@ -319,18 +319,18 @@ public abstract class AbstractBuildingView implements IRequester
         final int resolverSize = buf.readInt();
         for (int i = 0; i < resolverSize; i++)
         {
-            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            if (compound != null)
+            final IToken<?> token = StandardFactoryController.getInstance().readFromBuffer(buf);
+            if (token != null)
             {
-                list.add(StandardFactoryController.getInstance().deserialize(compound));
+                list.add(token);
             }
         }
 
         resolvers = ImmutableList.copyOf(list);
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        if (compound != null)
+        final IToken<?> token = StandardFactoryController.getInstance().readFromBuffer(buf);
+        if (token != null)
         {
-            requesterId = StandardFactoryController.getInstance().deserialize(compound);
+            requesterId = token;
         }
 
         loadRequestSystemFromNBT(ByteBufUtils.readTag(buf));
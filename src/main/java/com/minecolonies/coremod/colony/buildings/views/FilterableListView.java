@@ -23,6 +23,11 @@ public abstract class FilterableListView extends AbstractBuildingWorker.View
      */
     private final List<ItemStorage> listOfItems = new ArrayList<>();
 
+    /**
+     * Version of the list of items, increased every time it changes.
+     */
+    private int version = 0;
+
     /**
      * Creates the view representation of the building.
      *
@@ -44,6 +49,7 @@ public abstract class FilterableListView extends AbstractBuildingWorker.View
         if(!listOfItems.contains(item))
         {
             listOfItems.add(item);
+            version++;
         }
     }
 
@@ -64,7 +70,19 @@ public abstract class FilterableListView extends AbstractBuildingWorker.View
     public void removeItem(final ItemStorage item)
     {
         MineColonies.getNetwork().sendToServer(new AssignFilterableItemMessage(this, item, false));
-        listOfItems.remove(item);
+        if (listOfItems.remove(item))
+        {
+            version++;
+        }
+    }
+
+    /**
+     * Get the version of the list of items, which changes every time items are added or removed.
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
     }
 
     @Override
@@ -77,5 +95,6 @@ public abstract class FilterableListView extends AbstractBuildingWorker.View
         {
             listOfItems.add(new ItemStorage(ByteBufUtils.readItemStack(buf)));
         }
+        version++;
     }
 }
@@ -7,6 +7,7 @@ import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.client.gui.WindowHutLumberjack;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractFilterableListBuilding;
@@ -76,7 +77,7 @@ public class BuildingLumberjack extends AbstractFilterableListBuilding
             {
                 final ItemStack stack = getMainCitizen().getInventory().getStackInSlot(i);
 
-                if (ItemStackUtils.isEmpty(stack) || !ItemStackUtils.isStackSapling(stack))
+                if (ItemStackUtils.isEmpty(stack) || !ColonyManager.getCompatibilityManager().isSapling(stack))
                 {
                     continue;
                 }
@@ -17,9 +17,11 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.WarehouseRequestResolver;
+import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.coremod.tileentities.TileEntityRack;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import com.minecolonies.coremod.util.SortingTask;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
@@ -33,7 +35,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -72,11 +78,22 @@ public class BuildingWareHouse extends AbstractBuilding
      */
     private static final int MAX_STORAGE_UPGRADE = 3;
 
+    /**
+     * The amount of slots the sorting fixes per tick.
+     */
+    private static final int SLOTS_SORTED_PER_TICK = 32;
+
     /**
      * The tileEntity of the building.
      */
     private TileEntityWareHouse tileEntity;
 
+    /**
+     * The sorting of the racks in progress, null if none.
+     */
+    @Nullable
+    private SortingTask sortingTask;
+
     /**
      * Storage upgrade level.
      */
@@ -157,6 +174,79 @@ public class BuildingWareHouse extends AbstractBuilding
         return new ArrayList<>(Collections.unmodifiableList(registeredDeliverymen));
     }
 
+    /**
+     * Start sorting the racks over the next ticks, a sorting in progress starts over.
+     */
+    public void startSorting()
+    {
+        final IItemHandler handler = getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+        if (handler instanceof CombinedItemHandler)
+        {
+            sortingTask = new SortingTask((CombinedItemHandler) handler);
+        }
+    }
+
+    /**
+     * Stop the sorting in progress, the racks stay as they are.
+     */
+    public void cancelSorting()
+    {
+        if (sortingTask != null)
+        {
+            sortingTask.cancel();
+            sortingTask = null;
+        }
+    }
+
+    /**
+     * Check if the racks are being sorted.
+     *
+     * @return true if so.
+     */
+    public boolean isSorting()
+    {
+        return sortingTask != null;
+    }
+
+    @Override
+    public void onWorldTick(final TickEvent.WorldTickEvent event)
+    {
+        super.onWorldTick(event);
+        if (sortingTask == null)
+        {
+            return;
+        }
+
+        // Never write into racks of unloaded chunks, wait until they're back.
+        for (final BlockPos pos : getAdditionalCountainers())
+        {
+            if (!event.world.isBlockLoaded(pos))
+            {
+                return;
+            }
+        }
+
+        final IItemHandler handler = getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+        if (!(handler instanceof CombinedItemHandler) || sortingTask.tick((CombinedItemHandler) handler, SLOTS_SORTED_PER_TICK))
+        {
+            sortingTask = null;
+        }
+    }
+
+    @Override
+    public void onUpgradeComplete(final int newLevel)
+    {
+        cancelSorting();
+        super.onUpgradeComplete(newLevel);
+    }
+
+    @Override
+    public void onDestroyed()
+    {
+        cancelSorting();
+        super.onDestroyed();
+    }
+
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
@@ -300,6 +390,7 @@ public class BuildingWareHouse extends AbstractBuilding
                 }
             }
             storageUpgrade++;
+            cancelSorting();
         }
         markDirty();
     }
@@ -20,6 +20,7 @@ import com.minecolonies.coremod.network.messages.ColonyViewBuildingViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveBuildingMessage;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
+import com.minecolonies.coremod.util.ColonyProfiler;
 import com.minecolonies.coremod.util.ColonyUtils;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
@@ -173,12 +174,14 @@ public class BuildingManager implements IBuildingManager
         {
             if (event.world.isBlockLoaded(building.getLocation()))
             {
+                final long start = ColonyProfiler.start();
                 if (tickCounter == 20)
                 {
                     building.secondsWorldTick(event);
                 }
 
                 building.onWorldTick(event);
+                ColonyProfiler.record(colony, ColonyProfiler.Section.BUILDING, building.getClass(), start);
             }
         }
 
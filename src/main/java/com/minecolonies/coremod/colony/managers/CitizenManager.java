@@ -56,6 +56,34 @@ public class CitizenManager implements ICitizenManager
      */
     private int topCitizenId = 0;
 
+    /**
+     * The happiness inputs of each citizen, as they are counted in the aggregates below.
+     */
+    private final Map<Integer, HappinessContribution> happinessContributions = new HashMap<>();
+
+    /**
+     * The sum of the levels of the guard buildings, of the other worker buildings and of the homes of the citizens.
+     */
+    private int guardLevels   = 0;
+    private int workerLevels  = 0;
+    private int housingLevels = 0;
+
+    /**
+     * The sum of the saturation of the citizens.
+     */
+    private double saturationSum = 0;
+
+    /**
+     * The happiness inputs of a citizen.
+     */
+    private static final class HappinessContribution
+    {
+        private int    guardLevels;
+        private int    workerLevels;
+        private int    housingLevels;
+        private double saturation;
+    }
+
     /**
      * Max citizens without housing.
      */
@@ -85,6 +113,7 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_CITIZENS, Constants.NBT.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(CitizenData::getId, Function.identity())));
+        citizens.values().forEach(this::updateHappinessContribution);
     }
 
     private CitizenData deserializeCitizen(@NotNull final NBTTagCompound compound)
@@ -117,16 +146,39 @@ public class CitizenManager implements ICitizenManager
                 {
                     if (citizen.isDirty() || hasNewSubscribers)
                     {
-                        subscribers.stream()
-                          .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                          .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        // Each message is serialized once: the delta clears the dirty fields, so it is shared by all players which have the view.
+                        ColonyViewCitizenViewMessage full = null;
+                        ColonyViewCitizenViewMessage delta = null;
+                        for (final EntityPlayerMP player : subscribers)
+                        {
+                            if (!oldSubscribers.contains(player))
+                            {
+                                if (full == null)
+                                {
+                                    full = new ColonyViewCitizenViewMessage(colony, citizen, false);
+                                }
+                                MineColonies.getNetwork().sendTo(full, player);
+                            }
+                            else if (citizen.isDirty())
+                            {
+                                if (delta == null)
+                                {
+                                    delta = new ColonyViewCitizenViewMessage(colony, citizen, true);
+                                }
+                                MineColonies.getNetwork().sendTo(delta, player);
+                            }
+                        }
                     }
                 }
             }
 
-            subscribers.stream()
-              .filter(player -> !oldSubscribers.contains(player))
-              .forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
+            if (subscribers.stream().anyMatch(player -> !oldSubscribers.contains(player)))
+            {
+                updateHappinessLevels();
+                subscribers.stream()
+                  .filter(player -> !oldSubscribers.contains(player))
+                  .forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
+            }
         }
     }
 
@@ -200,6 +252,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCitizen();
         citizens.put(citizenData.getId(), citizenData);
+        updateHappinessContribution(citizenData);
 
         return citizenData;
     }
@@ -209,6 +262,11 @@ public class CitizenManager implements ICitizenManager
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        final HappinessContribution contribution = happinessContributions.remove(citizen.getId());
+        if (contribution != null)
+        {
+            addHappinessContribution(contribution, -1);
+        }
 
         if (citizen.getWorkBuilding() != null)
         {
@@ -343,87 +401,113 @@ public class CitizenManager implements ICitizenManager
     @Override
     public void checkCitizensForHappiness()
     {
-        int guards = 1;
-        int housing = 0;
-        int workers = 1;
-        boolean hasJob = false; 
-        boolean hasHouse = false;
-        double saturation = 0;
         for (final CitizenData citizen : getCitizens())
         {
-            hasJob = false; 
-            hasHouse = false; 
-            final AbstractBuildingWorker buildingWorker = citizen.getWorkBuilding();
-            if (buildingWorker != null)
+            if (citizen.getCitizenEntity().isPresent())
             {
-                hasJob = true;
-                if (buildingWorker instanceof AbstractBuildingGuards)
-                {
-                    guards += buildingWorker.getBuildingLevel();
-                }
-                else
-                {
-                    workers += buildingWorker.getBuildingLevel();
-                }
+                citizen.getCitizenHappinessHandler().processDailyHappiness(citizen.getHomeBuilding() != null, citizen.getWorkBuilding() != null);
             }
+        }
 
-            final AbstractBuilding home = citizen.getHomeBuilding();
-            if (home != null)
-            {
-                hasHouse = true;
-                housing += home.getBuildingLevel();
-            }
+        updateHappinessLevels();
 
-            if (citizen.getCitizenEntity().isPresent())
-            {
-                citizen.getCitizenHappinessHandler().processDailyHappiness(hasHouse, hasJob);
-            }
-            saturation += citizen.getSaturation();
+        final int relation = (1 + workerLevels) / (1 + guardLevels);
+        if (relation > 1)
+        {
+            colony.getHappinessData().setHousingModifier(relation * HAPPINESS_FACTOR);
         }
+    }
 
-        final int averageHousing = housing / Math.max(1, getCitizens().size());
+    @Override
+    public void updateHappinessContribution(@NotNull final CitizenData citizen)
+    {
+        if (citizens.get(citizen.getId()) != citizen)
+        {
+            return;
+        }
+
+        final HappinessContribution contribution = happinessContributions.computeIfAbsent(citizen.getId(), id -> new HappinessContribution());
+        addHappinessContribution(contribution, -1);
+
+        contribution.guardLevels = 0;
+        contribution.workerLevels = 0;
+        final AbstractBuildingWorker buildingWorker = citizen.getWorkBuilding();
+        if (buildingWorker instanceof AbstractBuildingGuards)
+        {
+            contribution.guardLevels = buildingWorker.getBuildingLevel();
+        }
+        else if (buildingWorker != null)
+        {
+            contribution.workerLevels = buildingWorker.getBuildingLevel();
+        }
 
+        final AbstractBuilding home = citizen.getHomeBuilding();
+        contribution.housingLevels = home == null ? 0 : home.getBuildingLevel();
+        contribution.saturation = citizen.getSaturation();
+
+        addHappinessContribution(contribution, 1);
+    }
+
+    /**
+     * Add or remove the inputs of a citizen to the aggregates.
+     *
+     * @param contribution the inputs of the citizen.
+     * @param sign         1 to add, -1 to remove.
+     */
+    private void addHappinessContribution(@NotNull final HappinessContribution contribution, final int sign)
+    {
+        guardLevels += sign * contribution.guardLevels;
+        workerLevels += sign * contribution.workerLevels;
+        housingLevels += sign * contribution.housingLevels;
+        saturationSum += sign * contribution.saturation;
+    }
+
+    /**
+     * Set the housing, saturation and guard levels of the colony happiness from the aggregates.
+     */
+    private void updateHappinessLevels()
+    {
+        final HappinessData happinessData = colony.getHappinessData();
+        final int averageHousing = housingLevels / Math.max(1, citizens.size());
         if (averageHousing > 1)
         {
-            colony.getHappinessData().setHousing(HappinessData.INCREASE);
+            happinessData.setHousing(HappinessData.INCREASE);
         }
         else if (averageHousing < 1)
         {
-            colony.getHappinessData().setHousing(HappinessData.DECREASE);
+            happinessData.setHousing(HappinessData.DECREASE);
         }
         else
         {
-            colony.getHappinessData().setHousing(HappinessData.STABLE);
+            happinessData.setHousing(HappinessData.STABLE);
         }
 
-        final int averageSaturation = (int) (saturation / getCitizens().size());
+        final int averageSaturation = citizens.isEmpty() ? 0 : (int) (saturationSum / citizens.size());
         if (averageSaturation < WELL_SATURATED_LIMIT)
         {
-            colony.getHappinessData().setSaturation(HappinessData.DECREASE);
+            happinessData.setSaturation(HappinessData.DECREASE);
         }
         else if (averageSaturation > WELL_SATURATED_LIMIT)
         {
-            colony.getHappinessData().setSaturation(HappinessData.INCREASE);
+            happinessData.setSaturation(HappinessData.INCREASE);
         }
         else
         {
-            colony.getHappinessData().setSaturation(HappinessData.STABLE);
+            happinessData.setSaturation(HappinessData.STABLE);
         }
 
-        final int relation = workers / guards;
-
+        final int relation = (1 + workerLevels) / (1 + guardLevels);
         if (relation > 1)
         {
-            colony.getHappinessData().setHousingModifier(relation * HAPPINESS_FACTOR);
-            colony.getHappinessData().setGuards(HappinessData.DECREASE);
+            happinessData.setGuards(HappinessData.DECREASE);
         }
         else if (relation < 1)
         {
-            colony.getHappinessData().setGuards(HappinessData.INCREASE);
+            happinessData.setGuards(HappinessData.INCREASE);
         }
         else
         {
-            colony.getHappinessData().setGuards(HappinessData.STABLE);
+            happinessData.setGuards(HappinessData.STABLE);
         }
     }
 
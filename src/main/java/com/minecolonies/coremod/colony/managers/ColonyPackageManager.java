@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyRegistry;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.managers.interfaces.IColonyPackageManager;
 import com.minecolonies.coremod.colony.permissions.Permissions;
@@ -22,7 +23,9 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE;
@@ -87,6 +90,7 @@ public class ColonyPackageManager implements IColonyPackageManager
     public void setLastContactInHours(final int lastContactInHours)
     {
         this.lastContactInHours = lastContactInHours;
+        ColonyRegistry.onLastContactChanged(colony);
     }
 
     @Override
@@ -142,6 +146,7 @@ public class ColonyPackageManager implements IColonyPackageManager
             {
                 ticksPassed = 0;
                 lastContactInHours++;
+                ColonyRegistry.onLastContactChanged(colony);
                 colony.markDirty();
             }
             ticksPassed++;
@@ -150,6 +155,7 @@ public class ColonyPackageManager implements IColonyPackageManager
         {
             lastContactInHours = 0;
             ticksPassed = 0;
+            ColonyRegistry.onLastContactChanged(colony);
             colony.markDirty();
         }
 
@@ -242,12 +248,18 @@ public class ColonyPackageManager implements IColonyPackageManager
         final WorkManager workManager = colony.getWorkManager();
         if (workManager.isDirty() || hasNewSubscribers)
         {
-            for (final AbstractWorkOrder workOrder : workManager.getWorkOrders().values())
+            final List<AbstractWorkOrder> changedWorkOrders = workManager.getChangedWorkOrders();
+            for (final EntityPlayerMP player : subscribers)
             {
-                if (!(workOrder instanceof WorkOrderBuildMiner))
+                //  New subscribers get all work orders, the others only the ones which changed.
+                final Collection<AbstractWorkOrder> workOrders =
+                  oldSubscribers.contains(player) ? changedWorkOrders : workManager.getWorkOrders().values();
+                for (final AbstractWorkOrder workOrder : workOrders)
                 {
-                    subscribers.stream().filter(player -> workManager.isDirty() || !oldSubscribers.contains(player))
-                            .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(colony, workOrder), player));
+                    if (!(workOrder instanceof WorkOrderBuildMiner))
+                    {
+                        MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(colony, workOrder), player);
+                    }
                 }
             }
 
@@ -0,0 +1,303 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.managers.interfaces.IEntityIndexManager;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Index of the items, xp orbs, animals and hostiles in the chunks of the colony.
+ * Entities are bucketed by category and chunk section. A chunk is indexed from its entity lists the first time it is queried,
+ * afterwards the index follows the chunk section and removal events of the entities.
+ */
+public class EntityIndexManager implements IEntityIndexManager
+{
+    /**
+     * The entity categories of the index.
+     */
+    private static final int ITEMS      = 0;
+    private static final int XP_ORBS    = 1;
+    private static final int ANIMALS    = 2;
+    private static final int HOSTILES   = 3;
+    private static final int CATEGORIES = 4;
+
+    /**
+     * How far an entity may stick out of its chunk section, as in the vanilla lookup.
+     */
+    private static final double MAX_ENTITY_RADIUS = 2.0D;
+
+    /**
+     * The highest chunk section.
+     */
+    private static final int MAX_SECTION = 15;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The indexed entities of every category, by chunk section.
+     */
+    private final List<Map<Long, List<Entity>>> buckets = new ArrayList<>(CATEGORIES);
+
+    /**
+     * The chunk section every indexed entity is bucketed in, by entity id.
+     */
+    private final Map<Integer, Long> sections = new HashMap<>();
+
+    /**
+     * The chunks of the colony which have been indexed.
+     */
+    private final Set<Long> indexedChunks = new HashSet<>();
+
+    /**
+     * Creates the EntityIndexManager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public EntityIndexManager(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+        for (int i = 0; i < CATEGORIES; i++)
+        {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    @NotNull
+    @Override
+    public <T extends Entity> List<T> getEntities(
+      @NotNull final Class<T> type,
+      @NotNull final AxisAlignedBB area,
+      @Nullable final Predicate<? super T> filter,
+      @NotNull final List<T> result)
+    {
+        result.clear();
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return result;
+        }
+
+        final int category = getCategory(type);
+        if (category == -1)
+        {
+            result.addAll(world.getEntitiesWithinAABB(type, area, filter == null ? null : filter::test));
+            return result;
+        }
+
+        final int minX = MathHelper.floor((area.minX - MAX_ENTITY_RADIUS) / 16.0D);
+        final int maxX = MathHelper.floor((area.maxX + MAX_ENTITY_RADIUS) / 16.0D);
+        final int minY = MathHelper.clamp(MathHelper.floor((area.minY - MAX_ENTITY_RADIUS) / 16.0D), 0, MAX_SECTION);
+        final int maxY = MathHelper.clamp(MathHelper.floor((area.maxY + MAX_ENTITY_RADIUS) / 16.0D), 0, MAX_SECTION);
+        final int minZ = MathHelper.floor((area.minZ - MAX_ENTITY_RADIUS) / 16.0D);
+        final int maxZ = MathHelper.floor((area.maxZ + MAX_ENTITY_RADIUS) / 16.0D);
+
+        final Map<Long, List<Entity>> categoryBuckets = buckets.get(category);
+        for (int chunkX = minX; chunkX <= maxX; chunkX++)
+        {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++)
+            {
+                if (!indexedChunks.contains(ChunkPos.asLong(chunkX, chunkZ)) && !indexChunk(world, chunkX, chunkZ))
+                {
+                    final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                    if (chunk != null)
+                    {
+                        chunk.getEntitiesOfTypeWithinAABB(type, area, result, filter == null ? null : filter::test);
+                    }
+                    continue;
+                }
+
+                for (int sectionY = minY; sectionY <= maxY; sectionY++)
+                {
+                    final List<Entity> bucket = categoryBuckets.get(getSectionKey(chunkX, sectionY, chunkZ));
+                    if (bucket == null)
+                    {
+                        continue;
+                    }
+
+                    for (int i = 0; i < bucket.size(); i++)
+                    {
+                        final Entity entity = bucket.get(i);
+                        if (type.isInstance(entity) && !entity.isDead && area.intersects(entity.getEntityBoundingBox()))
+                        {
+                            final T typed = type.cast(entity);
+                            if (filter == null || filter.test(typed))
+                            {
+                                result.add(typed);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onEntityEnteringSection(@NotNull final Entity entity, final int chunkX, final int sectionY, final int chunkZ)
+    {
+        if (getCategory(entity) == -1)
+        {
+            return;
+        }
+
+        if (!indexedChunks.contains(ChunkPos.asLong(chunkX, chunkZ)))
+        {
+            onEntityRemoved(entity);
+            return;
+        }
+        add(entity, getSectionKey(chunkX, MathHelper.clamp(sectionY, 0, MAX_SECTION), chunkZ));
+    }
+
+    @Override
+    public void onEntityRemoved(@NotNull final Entity entity)
+    {
+        final Long section = sections.remove(entity.getEntityId());
+        if (section == null)
+        {
+            return;
+        }
+
+        final int category = getCategory(entity);
+        final List<Entity> bucket = category == -1 ? null : buckets.get(category).get(section);
+        if (bucket != null)
+        {
+            bucket.remove(entity);
+            if (bucket.isEmpty())
+            {
+                buckets.get(category).remove(section);
+            }
+        }
+    }
+
+    @Override
+    public void onChunkUnload(final int chunkX, final int chunkZ)
+    {
+        indexedChunks.remove(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Index the entities of a loaded chunk if it belongs to the colony.
+     *
+     * @param world  the colony world.
+     * @param chunkX the x coordinate of the chunk.
+     * @param chunkZ the z coordinate of the chunk.
+     * @return true if the chunk is indexed now.
+     */
+    private boolean indexChunk(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            return false;
+        }
+
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() != colony.getID())
+        {
+            return false;
+        }
+
+        indexedChunks.add(ChunkPos.asLong(chunkX, chunkZ));
+        for (int sectionY = 0; sectionY < chunk.getEntityLists().length; sectionY++)
+        {
+            final long section = getSectionKey(chunkX, sectionY, chunkZ);
+            for (final Entity entity : chunk.getEntityLists()[sectionY])
+            {
+                if (getCategory(entity) != -1)
+                {
+                    add(entity, section);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add an entity to a section, removing it from its previous one.
+     *
+     * @param entity  the entity.
+     * @param section the section key.
+     */
+    private void add(@NotNull final Entity entity, final long section)
+    {
+        final Long previous = sections.get(entity.getEntityId());
+        if (previous != null && previous == section)
+        {
+            return;
+        }
+
+        onEntityRemoved(entity);
+        sections.put(entity.getEntityId(), section);
+        buckets.get(getCategory(entity)).computeIfAbsent(section, key -> new ArrayList<>()).add(entity);
+    }
+
+    /**
+     * Pack the coordinates of a chunk section into a key.
+     *
+     * @param chunkX   the x coordinate of the chunk.
+     * @param sectionY the chunk section.
+     * @param chunkZ   the z coordinate of the chunk.
+     * @return the key.
+     */
+    private static long getSectionKey(final int chunkX, final int sectionY, final int chunkZ)
+    {
+        return ((long) chunkX & 0x3FFFFFFL) << 30 | ((long) chunkZ & 0x3FFFFFFL) << 4 | (sectionY & 0xF);
+    }
+
+    /**
+     * Get the index category of an entity.
+     *
+     * @param entity the entity.
+     * @return the category or -1 if it is not indexed.
+     */
+    private static int getCategory(@NotNull final Entity entity)
+    {
+        return getCategory(entity.getClass());
+    }
+
+    /**
+     * Get the index category of an entity class, the category of a class includes all of its subclasses.
+     *
+     * @param type the entity class.
+     * @return the category or -1 if it is not indexed.
+     */
+    private static int getCategory(@NotNull final Class<?> type)
+    {
+        if (EntityItem.class.isAssignableFrom(type))
+        {
+            return ITEMS;
+        }
+        if (EntityXPOrb.class.isAssignableFrom(type))
+        {
+            return XP_ORBS;
+        }
+        if (EntityAnimal.class.isAssignableFrom(type))
+        {
+            return ANIMALS;
+        }
+        if (IMob.class.isAssignableFrom(type))
+        {
+            return HOSTILES;
+        }
+        return -1;
+    }
+}
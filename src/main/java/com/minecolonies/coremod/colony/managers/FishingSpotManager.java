@@ -0,0 +1,372 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import com.minecolonies.coremod.colony.managers.interfaces.IFishingSpotManager;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.Pond;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Catalog of the fishing spots around the fisherman huts of the colony, shared by all fishermen.
+ * The chunk sections around a hut are scanned one per tick once a fisherman of the hut asks for a spot,
+ * and rescanned when a block in them changes. Sections whose chunk isn't loaded when their turn comes are forgotten,
+ * and queued again by the next spot request of the hut. A spot is a water block at the shore of a pond which passes {@link Pond#createWater}.
+ */
+public class FishingSpotManager implements IFishingSpotManager
+{
+    /**
+     * The horizontal distance around a hut which is scanned, and in which its fishermen get spots.
+     */
+    private static final int SCAN_RADIUS = 16;
+
+    /**
+     * The distance below and above a hut which is scanned.
+     */
+    private static final int SCAN_DEPTH  = 16;
+    private static final int SCAN_HEIGHT = 8;
+
+    /**
+     * The highest chunk section.
+     */
+    private static final int MAX_SECTION = 15;
+
+    /**
+     * The minimum square distance between two spots, as for the ponds found by path finding.
+     */
+    private static final int MIN_SPOT_DISTANCE_SQ = 40;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The spots of every scanned chunk section, by section origin.
+     */
+    private final Map<BlockPos, List<BlockPos>> spots = new HashMap<>();
+
+    /**
+     * The id of the fisherman who claimed a spot, by spot.
+     */
+    private final Map<BlockPos, Integer> claims = new HashMap<>();
+
+    /**
+     * How often a spot has been claimed, to share the spots evenly.
+     */
+    private final Map<BlockPos, Integer> uses = new HashMap<>();
+
+    /**
+     * The chunk sections waiting to be scanned, by section origin.
+     */
+    private final Deque<BlockPos> scanQueue = new ArrayDeque<>();
+    private final Set<BlockPos>   queued    = new HashSet<>();
+
+    /**
+     * Creates the FishingSpotManager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public FishingSpotManager(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Nullable
+    @Override
+    public BlockPos claimSpot(@NotNull final CitizenData citizen, @NotNull final BlockPos hut)
+    {
+        release(citizen.getId());
+        queueHut(hut);
+
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return null;
+        }
+
+        BlockPos best = findFreeSpot(citizen.getId(), hut);
+        while (best != null && Pond.createWater(world, best) == null)
+        {
+            invalidateSpot(best);
+            best = findFreeSpot(citizen.getId(), hut);
+        }
+
+        if (best != null)
+        {
+            claim(citizen.getId(), best);
+        }
+        return best;
+    }
+
+    @Override
+    public void claimFoundSpot(@NotNull final CitizenData citizen, @NotNull final BlockPos spot)
+    {
+        release(citizen.getId());
+        final List<BlockPos> sectionSpots = spots.computeIfAbsent(getSection(spot), section -> new ArrayList<>());
+        if (!sectionSpots.contains(spot))
+        {
+            sectionSpots.add(spot);
+        }
+        claim(citizen.getId(), spot);
+    }
+
+    @Override
+    public void invalidateSpot(@NotNull final BlockPos spot)
+    {
+        final List<BlockPos> sectionSpots = spots.get(getSection(spot));
+        if (sectionSpots != null)
+        {
+            sectionSpots.remove(spot);
+        }
+        claims.remove(spot);
+        uses.remove(spot);
+    }
+
+    @Override
+    public void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        final BlockPos section = getSection(pos);
+        if (spots.containsKey(section) && queued.add(section))
+        {
+            scanQueue.add(section);
+        }
+    }
+
+    @Override
+    public void onWorldTick(@NotNull final World world)
+    {
+        final BlockPos section = scanQueue.peek();
+        if (section == null)
+        {
+            return;
+        }
+
+        scanQueue.poll();
+        queued.remove(section);
+
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(section.getX() >> 4, section.getZ() >> 4);
+        if (chunk == null)
+        {
+            // Forget the section, the next spot request of its hut queues it again.
+            spots.remove(section);
+            return;
+        }
+        scanSection(world, chunk, section);
+    }
+
+    /**
+     * Queue all chunk sections around a hut which haven't been scanned yet.
+     *
+     * @param hut the location of the hut.
+     */
+    private void queueHut(@NotNull final BlockPos hut)
+    {
+        final int minY = MathHelper.clamp((hut.getY() - SCAN_DEPTH) >> 4, 0, MAX_SECTION);
+        final int maxY = MathHelper.clamp((hut.getY() + SCAN_HEIGHT) >> 4, 0, MAX_SECTION);
+        for (int chunkX = (hut.getX() - SCAN_RADIUS) >> 4; chunkX <= (hut.getX() + SCAN_RADIUS) >> 4; chunkX++)
+        {
+            for (int chunkZ = (hut.getZ() - SCAN_RADIUS) >> 4; chunkZ <= (hut.getZ() + SCAN_RADIUS) >> 4; chunkZ++)
+            {
+                for (int sectionY = minY; sectionY <= maxY; sectionY++)
+                {
+                    final BlockPos section = new BlockPos(chunkX << 4, sectionY << 4, chunkZ << 4);
+                    if (!spots.containsKey(section) && queued.add(section))
+                    {
+                        scanQueue.add(section);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the spots of a chunk section with the spots found in it now.
+     * The section is read from its block storage, the world is only queried at the border and for the pond check.
+     *
+     * @param world   the world.
+     * @param chunk   the loaded chunk of the section.
+     * @param section the section origin.
+     */
+    private void scanSection(@NotNull final World world, @NotNull final Chunk chunk, @NotNull final BlockPos section)
+    {
+        final List<BlockPos> sectionSpots = new ArrayList<>();
+        spots.put(section, sectionSpots);
+
+        final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[section.getY() >> 4];
+        if (storage == Chunk.NULL_BLOCK_STORAGE || storage.isEmpty())
+        {
+            return;
+        }
+
+        for (int y = 0; y < 16; y++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    if (storage.get(x, y, z).getBlock() != Blocks.WATER)
+                    {
+                        continue;
+                    }
+
+                    final BlockPos pos = section.add(x, y, z);
+                    final IBlockState above = y < 15 ? storage.get(x, y + 1, z) : world.getBlockState(pos.up());
+                    if (above.getMaterial() == Material.AIR && isShore(world, pos) && !isNearSpot(pos) && Pond.createWater(world, pos) != null)
+                    {
+                        sectionSpots.add(pos);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a fisherman can stand next to a water block.
+     *
+     * @param world the world.
+     * @param water the water block.
+     * @return true if one of its neighbours is solid ground with room above.
+     */
+    private static boolean isShore(@NotNull final World world, @NotNull final BlockPos water)
+    {
+        for (final EnumFacing facing : EnumFacing.HORIZONTALS)
+        {
+            final BlockPos ground = water.offset(facing);
+            if (world.getBlockState(ground).getMaterial().isSolid()
+                  && !world.getBlockState(ground.up()).getMaterial().blocksMovement()
+                  && !world.getBlockState(ground.up(2)).getMaterial().blocksMovement())
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if there is a spot close to a position already.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isNearSpot(@NotNull final BlockPos pos)
+    {
+        for (final List<BlockPos> sectionSpots : spots.values())
+        {
+            for (final BlockPos spot : sectionSpots)
+            {
+                if (spot.distanceSq(pos) < MIN_SPOT_DISTANCE_SQ)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the least used spot in range of a hut which isn't claimed by another fisherman, the closest one on a tie.
+     *
+     * @param citizenId the id of the fisherman.
+     * @param hut       the location of his hut.
+     * @return the spot or null.
+     */
+    @Nullable
+    private BlockPos findFreeSpot(final int citizenId, @NotNull final BlockPos hut)
+    {
+        BlockPos best = null;
+        int bestUses = Integer.MAX_VALUE;
+        double bestDistance = Double.MAX_VALUE;
+        for (final List<BlockPos> sectionSpots : spots.values())
+        {
+            for (final BlockPos spot : sectionSpots)
+            {
+                final double distance = spot.distanceSq(hut);
+                if (distance > SCAN_RADIUS * SCAN_RADIUS || isClaimedByOther(spot, citizenId))
+                {
+                    continue;
+                }
+
+                final int spotUses = uses.getOrDefault(spot, 0);
+                if (spotUses < bestUses || (spotUses == bestUses && distance < bestDistance))
+                {
+                    best = spot;
+                    bestUses = spotUses;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Check if a spot is claimed by another fisherman who is still fishing there, dropping outdated claims.
+     *
+     * @param spot      the spot.
+     * @param citizenId the id of the asking fisherman.
+     * @return true if so.
+     */
+    private boolean isClaimedByOther(@NotNull final BlockPos spot, final int citizenId)
+    {
+        final Integer claimant = claims.get(spot);
+        if (claimant == null || claimant == citizenId)
+        {
+            return false;
+        }
+
+        final CitizenData citizen = colony.getCitizenManager().getCitizen(claimant);
+        final JobFisherman job = citizen == null ? null : citizen.getJob(JobFisherman.class);
+        if (job == null || !spot.equals(job.getWater()))
+        {
+            claims.remove(spot);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Claim a spot for a fisherman.
+     *
+     * @param citizenId the id of the fisherman.
+     * @param spot      the spot.
+     */
+    private void claim(final int citizenId, @NotNull final BlockPos spot)
+    {
+        claims.put(spot, citizenId);
+        uses.merge(spot, 1, Integer::sum);
+    }
+
+    /**
+     * Release the spot a fisherman claimed.
+     *
+     * @param citizenId the id of the fisherman.
+     */
+    private void release(final int citizenId)
+    {
+        claims.values().remove(citizenId);
+    }
+
+    /**
+     * Get the origin of the chunk section of a position.
+     *
+     * @param pos the position.
+     * @return the section origin.
+     */
+    @NotNull
+    private static BlockPos getSection(@NotNull final BlockPos pos)
+    {
+        return new BlockPos(pos.getX() & ~15, pos.getY() & ~15, pos.getZ() & ~15);
+    }
+}
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.blockout.Log;
 import com.minecolonies.coremod.colony.Colony;
@@ -66,7 +67,32 @@ public class RaidManager implements IRaiderManager
     /**
      * List of raiders registered to the colony.
      */
-    private final List<UUID> horde = new ArrayList<>();
+    private final Set<UUID> horde = new LinkedHashSet<>();
+
+    /**
+     * Cached entities of the horde, rebuilt at most once per tick or when the horde changes.
+     */
+    private final List<AbstractEntityMinecoloniesMob> hordeSnapshot = new ArrayList<>();
+
+    /**
+     * Read only view on the cached horde entities handed out to callers.
+     */
+    private final List<AbstractEntityMinecoloniesMob> hordeView = Collections.unmodifiableList(hordeSnapshot);
+
+    /**
+     * The world time the horde snapshot was built at.
+     */
+    private long hordeSnapshotTime = -1;
+
+    /**
+     * If the horde changed since the snapshot was built.
+     */
+    private boolean hordeDirty = true;
+
+    /**
+     * Version of the horde, increased every time the raiders of the snapshot change.
+     */
+    private int hordeVersion = 0;
 
     /**
      * Creates the RaidManager for a colony.
@@ -190,21 +216,20 @@ public class RaidManager implements IRaiderManager
     @Override
     public void registerRaider(@NotNull final AbstractEntityMinecoloniesMob raider)
     {
-        this.horde.add(raider.getUniqueID());
+        if (this.horde.add(raider.getUniqueID()))
+        {
+            hordeDirty = true;
+        }
     }
 
     @Override
     public void unregisterRaider(@NotNull final AbstractEntityMinecoloniesMob raider, final WorldServer world)
     {
-        for(final UUID uuid : new ArrayList<>(horde))
+        if (horde.remove(raider.getUniqueID()))
         {
-            final Entity raiderEntity = world.getEntityFromUuid(uuid);
-            if(raiderEntity == null || !raiderEntity.isEntityAlive() || uuid.equals(raider.getUniqueID()))
-            {
-                horde.remove(uuid);
-            }
+            hordeDirty = true;
         }
-
+        refreshHorde(world, true);
         sendHordeMessage();
     }
 
@@ -274,22 +299,74 @@ public class RaidManager implements IRaiderManager
     @Override
     public List<AbstractEntityMinecoloniesMob> getHorde(final WorldServer world)
     {
-        final List<AbstractEntityMinecoloniesMob> raiders = new ArrayList<>();
-        for (final UUID uuid : new ArrayList<>(horde))
+        refreshHorde(world, false);
+        return hordeView;
+    }
+
+    @Override
+    public boolean isRaiderInRange(final WorldServer world, @NotNull final BlockPos pos, final double range)
+    {
+        refreshHorde(world, false);
+        for (int i = 0; i < hordeSnapshot.size(); i++)
         {
-            final Entity raider = world.getEntityFromUuid(uuid);
+            if (MathUtils.twoDimDistance(hordeSnapshot.get(i).getPosition(), pos) < range)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getHordeVersion(final WorldServer world)
+    {
+        refreshHorde(world, false);
+        return hordeVersion;
+    }
+
+    /**
+     * Resolves the raider UUIDs to their entities if the snapshot is outdated.
+     * Raiders which died or left the world are dropped from the horde.
+     *
+     * @param world the serverWorld.
+     * @param force rebuild even if the snapshot of this tick is still valid.
+     */
+    private void refreshHorde(final WorldServer world, final boolean force)
+    {
+        final long time = world.getTotalWorldTime();
+        if (!force && !hordeDirty && time == hordeSnapshotTime)
+        {
+            return;
+        }
+
+        boolean removed = false;
+        hordeSnapshot.clear();
+        final Iterator<UUID> iterator = horde.iterator();
+        while (iterator.hasNext())
+        {
+            final Entity raider = world.getEntityFromUuid(iterator.next());
             if (!(raider instanceof AbstractEntityMinecoloniesMob) || !raider.isEntityAlive())
             {
-                horde.remove(uuid);
-                sendHordeMessage();
+                iterator.remove();
+                removed = true;
             }
             else
             {
-                raiders.add((AbstractEntityMinecoloniesMob) raider);
+                hordeSnapshot.add((AbstractEntityMinecoloniesMob) raider);
             }
+        }
 
+        if (hordeDirty || removed)
+        {
+            hordeVersion++;
+        }
+        hordeDirty = false;
+        hordeSnapshotTime = time;
+
+        if (removed && !force)
+        {
+            sendHordeMessage();
         }
-        return raiders;
     }
 
     @Override
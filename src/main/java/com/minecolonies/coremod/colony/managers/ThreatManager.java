@@ -0,0 +1,269 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
+import com.minecolonies.coremod.colony.buildings.views.MobEntryView;
+import com.minecolonies.coremod.colony.managers.interfaces.IThreatManager;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static com.minecolonies.api.util.constant.GuardConstants.LINE_OF_SIGHT_CACHE_TICKS;
+import static com.minecolonies.api.util.constant.GuardConstants.THREAT_REFRESH_INTERVAL;
+
+/**
+ * Threat map shared by all guards of the colony.
+ * Hostile entities are bucketed by chunk, every chunk is scanned at most once per refresh interval,
+ * and only if a guard is searching in it.
+ */
+public class ThreatManager implements IThreatManager
+{
+    /**
+     * Highest block a chunk scan has to cover.
+     */
+    private static final int WORLD_HEIGHT = 256;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * The scanned hostile entities, by chunk.
+     */
+    private final Map<Long, List<EntityLivingBase>> threatsByChunk = new HashMap<>();
+
+    /**
+     * The guard buildings of the colony at the last refresh.
+     */
+    private final List<AbstractBuildingGuards> guardBuildings = new ArrayList<>();
+
+    /**
+     * The entity classes each guard building attacks.
+     */
+    private final Map<AbstractBuildingGuards, Set<Class<?>>> attackClasses = new HashMap<>();
+
+    /**
+     * Cached results of the attack class check, by guard building and concrete entity class.
+     */
+    private final Map<AbstractBuildingGuards, Map<Class<?>, Boolean>> attackableCache = new HashMap<>();
+
+    /**
+     * Line of sight results by guard and target id, the value holds the check time and the result in the lowest bit.
+     */
+    private final Map<Long, Long> lineOfSightCache = new HashMap<>();
+
+    /**
+     * World time of the last refresh.
+     */
+    private long lastRefresh = -1;
+
+    /**
+     * Creates the ThreatManager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public ThreatManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Nullable
+    @Override
+    public EntityLivingBase getClosestTarget(
+      @NotNull final EntityCitizen guard,
+      @NotNull final AbstractBuildingGuards building,
+      @NotNull final AxisAlignedBB area,
+      @NotNull final Predicate<EntityLivingBase> valid,
+      @NotNull final Predicate<EntityLivingBase> priority)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return null;
+        }
+        refreshIfOutdated(world);
+
+        final int minX = ((int) Math.floor(area.minX)) >> 4;
+        final int maxX = ((int) Math.floor(area.maxX)) >> 4;
+        final int minZ = ((int) Math.floor(area.minZ)) >> 4;
+        final int maxZ = ((int) Math.floor(area.maxZ)) >> 4;
+
+        double closest = Double.MAX_VALUE;
+        EntityLivingBase targetEntity = null;
+        for (int chunkX = minX; chunkX <= maxX; chunkX++)
+        {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++)
+            {
+                final List<EntityLivingBase> threats = getThreatsInChunk(world, chunkX, chunkZ);
+                for (int i = 0; i < threats.size(); i++)
+                {
+                    final EntityLivingBase entity = threats.get(i);
+                    if (!entity.isEntityAlive() || !area.intersects(entity.getEntityBoundingBox()) || !canAttack(building, entity) || !valid.test(entity))
+                    {
+                        continue;
+                    }
+
+                    if (priority.test(entity))
+                    {
+                        return entity;
+                    }
+
+                    final double distance = guard.getDistanceSq(entity);
+                    if (distance < closest)
+                    {
+                        closest = distance;
+                        targetEntity = entity;
+                    }
+                }
+            }
+        }
+        return targetEntity;
+    }
+
+    @Override
+    public boolean canGuardSee(@NotNull final EntityCitizen guard, @NotNull final EntityLivingBase target)
+    {
+        final long time = guard.world.getTotalWorldTime();
+        final long key = ((long) guard.getEntityId() << 32) | (target.getEntityId() & 0xFFFFFFFFL);
+        final Long cached = lineOfSightCache.get(key);
+        if (cached != null && time - (cached >> 1) < LINE_OF_SIGHT_CACHE_TICKS)
+        {
+            return (cached & 1) == 1;
+        }
+
+        final boolean canSee = guard.canEntityBeSeen(target);
+        lineOfSightCache.put(key, (time << 1) | (canSee ? 1 : 0));
+        return canSee;
+    }
+
+    /**
+     * Drop the scanned chunks and cached checks once the refresh interval passed.
+     *
+     * @param world the colony world.
+     */
+    private void refreshIfOutdated(@NotNull final World world)
+    {
+        final long time = world.getTotalWorldTime();
+        if (lastRefresh >= 0 && time - lastRefresh < THREAT_REFRESH_INTERVAL)
+        {
+            return;
+        }
+        lastRefresh = time;
+
+        threatsByChunk.clear();
+        guardBuildings.clear();
+        for (final AbstractBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (building instanceof AbstractBuildingGuards)
+            {
+                guardBuildings.add((AbstractBuildingGuards) building);
+            }
+        }
+        attackClasses.clear();
+        attackableCache.clear();
+        lineOfSightCache.values().removeIf(value -> time - (value >> 1) >= LINE_OF_SIGHT_CACHE_TICKS);
+    }
+
+    /**
+     * Get the threats of a chunk, scanning it if it hasn't been scanned since the last refresh.
+     *
+     * @param world  the colony world.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the living entities in the chunk which any guard building might attack.
+     */
+    private List<EntityLivingBase> getThreatsInChunk(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final List<EntityLivingBase> cached = threatsByChunk.get(key);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final List<EntityLivingBase> threats = new ArrayList<>();
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk != null)
+        {
+            final int x = chunkX << 4;
+            final int z = chunkZ << 4;
+            chunk.getEntitiesOfTypeWithinAABB(EntityLivingBase.class,
+              new AxisAlignedBB(x, 0, z, x + 16, WORLD_HEIGHT, z + 16),
+              threats,
+              entity -> entity != null && isPossibleThreat(entity));
+        }
+        threatsByChunk.put(key, threats);
+        return threats;
+    }
+
+    /**
+     * Check if any guard building of the colony attacks this entity.
+     *
+     * @param entity the entity.
+     * @return true if so.
+     */
+    private boolean isPossibleThreat(@NotNull final EntityLivingBase entity)
+    {
+        for (final AbstractBuildingGuards building : guardBuildings)
+        {
+            if (canAttack(building, entity))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the guards of a building are allowed to attack an entity.
+     *
+     * @param building the guard building.
+     * @param entity   the entity.
+     * @return true if so.
+     */
+    private boolean canAttack(@NotNull final AbstractBuildingGuards building, @NotNull final EntityLivingBase entity)
+    {
+        return attackableCache.computeIfAbsent(building, b -> new HashMap<>())
+                 .computeIfAbsent(entity.getClass(), entityClass -> {
+                     for (final Class<?> attackClass : getAttackClasses(building))
+                     {
+                         if (attackClass.isAssignableFrom(entityClass))
+                         {
+                             return true;
+                         }
+                     }
+                     return false;
+                 });
+    }
+
+    /**
+     * Get the classes the guards of a building are allowed to attack.
+     *
+     * @param building the guard building.
+     * @return the set of classes.
+     */
+    private Set<Class<?>> getAttackClasses(@NotNull final AbstractBuildingGuards building)
+    {
+        return attackClasses.computeIfAbsent(building, b -> {
+            final Set<Class<?>> classes = new HashSet<>();
+            for (final MobEntryView mobEntry : b.getMobsToAttack())
+            {
+                if (mobEntry.hasAttack() && mobEntry.getEntityEntry() != null)
+                {
+                    classes.add(mobEntry.getEntityEntry().getEntityClass());
+                }
+            }
+            return classes;
+        });
+    }
+}
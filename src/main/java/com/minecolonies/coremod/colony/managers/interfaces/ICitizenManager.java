@@ -158,6 +158,13 @@ public interface ICitizenManager
      */
     void checkCitizensForHappiness();
 
+    /**
+     * Update the colony happiness aggregates with the current job, home and saturation of a citizen.
+     * To be called when one of them or the level of its buildings changed.
+     * @param citizen the citizen.
+     */
+    void updateHappinessContribution(@NotNull final CitizenData citizen);
+
     /**
      * Actions to execute on a specific world tick event.
      * @param event the event.
@@ -0,0 +1,58 @@
+package com.minecolonies.coremod.colony.managers.interfaces;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Interface for the colony entity index, which keeps the items, xp orbs, animals and hostiles in the chunks of the colony by chunk section.
+ */
+public interface IEntityIndexManager
+{
+    /**
+     * Collect the entities of a type in an area.
+     * Items, xp orbs, animals and hostiles in chunks of the colony are read from the index, everything else is looked up in the world.
+     *
+     * @param type   the entity class.
+     * @param area   the area to search in.
+     * @param filter additional check the entities have to fulfill, null to accept all.
+     * @param result the list to fill, it is cleared first and can be reused by the caller.
+     * @param <T>    the entity type.
+     * @return the result list.
+     */
+    @NotNull
+    <T extends Entity> List<T> getEntities(
+      @NotNull final Class<T> type,
+      @NotNull final AxisAlignedBB area,
+      @Nullable final Predicate<? super T> filter,
+      @NotNull final List<T> result);
+
+    /**
+     * Update the index when an entity enters a chunk section, which is also the case when it spawns or its chunk loads.
+     *
+     * @param entity   the entity.
+     * @param chunkX   the x coordinate of the chunk.
+     * @param sectionY the chunk section.
+     * @param chunkZ   the z coordinate of the chunk.
+     */
+    void onEntityEnteringSection(@NotNull final Entity entity, final int chunkX, final int sectionY, final int chunkZ);
+
+    /**
+     * Remove an entity from the index once it left the world.
+     *
+     * @param entity the entity.
+     */
+    void onEntityRemoved(@NotNull final Entity entity);
+
+    /**
+     * Drop the index of a chunk which unloads, it is rebuilt from the chunk the next time it is queried.
+     *
+     * @param chunkX the x coordinate of the chunk.
+     * @param chunkZ the z coordinate of the chunk.
+     */
+    void onChunkUnload(final int chunkX, final int chunkZ);
+}
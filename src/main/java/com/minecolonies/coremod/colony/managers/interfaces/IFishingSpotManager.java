@@ -0,0 +1,54 @@
+package com.minecolonies.coremod.colony.managers.interfaces;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface for the colony fishing spot manager, which keeps a catalog of the fishing spots around the fisherman huts
+ * and hands them out to the fishermen of the colony.
+ */
+public interface IFishingSpotManager
+{
+    /**
+     * Claim the least used free fishing spot in range of a fisherman hut, releasing the previous spot of the fisherman.
+     * The area around the hut is queued for scanning if it isn't cataloged yet.
+     *
+     * @param citizen the fisherman.
+     * @param hut     the location of the fisherman hut.
+     * @return the water block of the spot or null if there is no free spot (yet).
+     */
+    @Nullable
+    BlockPos claimSpot(@NotNull final CitizenData citizen, @NotNull final BlockPos hut);
+
+    /**
+     * Add a spot a fisherman found on his own to the catalog and claim it for him.
+     *
+     * @param citizen the fisherman.
+     * @param spot    the water block of the spot.
+     */
+    void claimFoundSpot(@NotNull final CitizenData citizen, @NotNull final BlockPos spot);
+
+    /**
+     * Remove a spot a fisherman couldn't fish at from the catalog.
+     *
+     * @param spot the water block of the spot.
+     */
+    void invalidateSpot(@NotNull final BlockPos spot);
+
+    /**
+     * Queue the chunk section of a changed block for rescanning, if it has been scanned before.
+     *
+     * @param pos the changed position.
+     */
+    void onBlockChanged(@NotNull final BlockPos pos);
+
+    /**
+     * Scan the next queued chunk section, to be executed on each colony world tick.
+     *
+     * @param world the ticking world.
+     */
+    void onWorldTick(@NotNull final World world);
+}
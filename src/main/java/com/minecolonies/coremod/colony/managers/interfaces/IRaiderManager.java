@@ -86,11 +86,29 @@ public interface IRaiderManager
 
     /**
      * Gets the horde of raiders approaching the colony.
+     * The list is a cached read only snapshot which is rebuilt at most once per tick, don't hold on to it.
      * @param world the serverWorld.
      * @return the list of entities.
      */
     List<AbstractEntityMinecoloniesMob> getHorde(final WorldServer world);
 
+    /**
+     * Check if any raider of the horde is within a two dimensional range of a position.
+     * @param world the serverWorld.
+     * @param pos the position.
+     * @param range the range.
+     * @return true if so.
+     */
+    boolean isRaiderInRange(final WorldServer world, @NotNull final BlockPos pos, final double range);
+
+    /**
+     * Get the version of the horde, which changes every time raiders join or leave it.
+     * Lets callers keep values derived from the horde until the version changes.
+     * @param world the serverWorld.
+     * @return the version.
+     */
+    int getHordeVersion(final WorldServer world);
+
     /**
      * Register a certain raider origin schematic to the colony..
      * @param ship the ship description.
@@ -0,0 +1,43 @@
+package com.minecolonies.coremod.colony.managers.interfaces;
+
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Interface for the colony threat manager, which keeps track of the hostile entities around the guards of the colony.
+ */
+public interface IThreatManager
+{
+    /**
+     * Get the closest entity in an area which the guards of a building are allowed to attack.
+     *
+     * @param guard    the guard looking for a target.
+     * @param building the guard building defining which mobs to attack.
+     * @param area     the area to search in.
+     * @param valid    additional check a target has to fulfill.
+     * @param priority targets matching this are returned right away, even if they are not the closest.
+     * @return the target or null if none found.
+     */
+    @Nullable
+    EntityLivingBase getClosestTarget(
+      @NotNull final EntityCitizen guard,
+      @NotNull final AbstractBuildingGuards building,
+      @NotNull final AxisAlignedBB area,
+      @NotNull final Predicate<EntityLivingBase> valid,
+      @NotNull final Predicate<EntityLivingBase> priority);
+
+    /**
+     * Check if a guard can see an entity, the result is cached for a few ticks.
+     *
+     * @param guard  the guard.
+     * @param target the entity to check.
+     * @return true if the guard can see it.
+     */
+    boolean canGuardSee(@NotNull final EntityCitizen guard, @NotNull final EntityLivingBase target);
+}
@@ -49,7 +49,9 @@ public enum ForgePermissionNodes
     SCAN("com.minecolonies.coremod.Scan", DefaultPermissionLevel.OP, "Can scan structures."),
     CLAIM("com.minecolonies.coremod.Claim", DefaultPermissionLevel.OP, "Can claim structures."),
     LOOT_GEN("com.minecolonies.coremod.lootGen", DefaultPermissionLevel.OP, "Can lootGen minecolonies building blocks."),
-    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!")
+    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!"),
+    COLONY_PROFILE("com.minecolonies.coremod.ColonyProfile", DefaultPermissionLevel.OP, "Can view the tick time profile of colonies."),
+    COLONY_DELETIONS("com.minecolonies.coremod.ColonyDeletions", DefaultPermissionLevel.OP, "Can view the progress of colony deletions.")
     ;
 
     @NotNull private final String nodeName;
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.permissions.Player;
 import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.util.Utils;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyRegistry;
 import com.minecolonies.coremod.network.PacketUtils;
 import com.minecolonies.coremod.util.AchievementUtils;
 import com.mojang.authlib.GameProfile;
@@ -213,6 +214,7 @@ public class Permissions implements IPermissions
         if(colony != null)
         {
             colony.markDirty();
+            ColonyRegistry.onOwnerChanged(colony);
         }
     }
 
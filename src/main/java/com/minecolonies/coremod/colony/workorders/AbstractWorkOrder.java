@@ -72,6 +72,12 @@ public abstract class AbstractWorkOrder
      */
     private   boolean  changed = false;
 
+    /**
+     * The work manager the workOrder has been added to, null if it hasn't been added.
+     */
+    @Nullable
+    private   WorkManager manager;
+
     /**
      * The location to built at.
      */
@@ -236,7 +242,7 @@ public abstract class AbstractWorkOrder
      */
     public void setPriority(final int priority)
     {
-        this.priority = priority;
+        update(() -> this.priority = priority);
     }
 
     /**
@@ -315,7 +321,7 @@ public abstract class AbstractWorkOrder
     public void setClaimedBy(@Nullable final CitizenData citizen)
     {
         changed = true;
-        claimedBy = (citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getLocation() : null;
+        update(() -> claimedBy = (citizen != null && citizen.getWorkBuilding() != null) ? citizen.getWorkBuilding().getLocation() : null);
     }
 
     /**
@@ -324,7 +330,7 @@ public abstract class AbstractWorkOrder
      */
     public void setClaimedBy(final BlockPos builder)
     {
-        claimedBy = builder;
+        update(() -> claimedBy = builder);
     }
 
     /**
@@ -333,7 +339,34 @@ public abstract class AbstractWorkOrder
     public void clearClaimedBy()
     {
         changed = true;
-        claimedBy = null;
+        update(() -> claimedBy = null);
+    }
+
+    /**
+     * Set the work manager the workOrder has been added to.
+     *
+     * @param manager the manager, or null when it got removed.
+     */
+    void setManager(@Nullable final WorkManager manager)
+    {
+        this.manager = manager;
+    }
+
+    /**
+     * Change the priority or the claim, through the work manager if added to one so it can keep its indices.
+     *
+     * @param change the change.
+     */
+    private void update(@NotNull final Runnable change)
+    {
+        if (manager == null)
+        {
+            change.run();
+        }
+        else
+        {
+            manager.onWorkOrderUpdate(this, change);
+        }
     }
 
     /**
@@ -11,9 +11,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
  * Handles work orders for a colony.
@@ -21,6 +21,13 @@ import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 public class WorkManager
 {
     private static final String                          TAG_WORK_ORDERS = "workOrders";
+
+    /**
+     * The order of the indexed work orders, highest priority first and the oldest first on a tie.
+     */
+    private static final Comparator<AbstractWorkOrder> PRIORITY_ORDER =
+      Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed().thenComparingInt(AbstractWorkOrder::getID);
+
     //  Once a second
     //private static final int    WORK_ORDER_FULFILL_INCREMENT = 1 * 20;
     /**
@@ -35,6 +42,37 @@ public class WorkManager
      */
     private              boolean                         dirty           = false;
 
+    /**
+     * The ids of the work orders which changed since the last view sync.
+     */
+    private final Set<Integer> changedWorkOrders = new HashSet<>();
+
+    /**
+     * The work orders by requested type, built the first time a type is requested.
+     */
+    private final Map<Class<?>, TypeIndex> typeIndices = new HashMap<>();
+
+    /**
+     * The claimed work orders by the position of the claiming building.
+     */
+    private final Map<BlockPos, Set<AbstractWorkOrder>> claimedOrders = new HashMap<>();
+
+    /**
+     * The work orders of a type in priority order.
+     */
+    private static final class TypeIndex
+    {
+        /**
+         * All work orders of the type.
+         */
+        private final NavigableSet<AbstractWorkOrder> all = new TreeSet<>(PRIORITY_ORDER);
+
+        /**
+         * The unclaimed work orders of the type.
+         */
+        private final NavigableSet<AbstractWorkOrder> unclaimed = new TreeSet<>(PRIORITY_ORDER);
+    }
+
     /**
      * Constructor, saves reference to the colony.
      *
@@ -66,6 +104,9 @@ public class WorkManager
         if (workOrder != null)
         {
             workOrders.remove(orderId);
+            unindex(workOrder);
+            workOrder.setManager(null);
+            changedWorkOrders.remove(orderId);
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
             colony.markDirty();
@@ -105,7 +146,7 @@ public class WorkManager
     }
 
     /**
-     * Get an unclaimed work order of a specified type.
+     * Get the unclaimed work order of a specified type with the highest priority.
      *
      * @param type the class of the type of work order to find.
      * @param <W>  the type of work order to return.
@@ -115,38 +156,32 @@ public class WorkManager
     @Nullable
     public <W extends AbstractWorkOrder> W getUnassignedWorkOrder(@NotNull final Class<W> type)
     {
-        for (@NotNull final AbstractWorkOrder o : workOrders.values())
-        {
-            if (!o.isClaimed() && type.isInstance(o))
-            {
-                return type.cast(o);
-            }
-        }
-
-        return null;
+        final NavigableSet<AbstractWorkOrder> unclaimed = getTypeIndex(type).unclaimed;
+        return unclaimed.isEmpty() ? null : type.cast(unclaimed.first());
     }
 
     /**
-     * Get all work orders of a specified type.
+     * Get all work orders of a specified type, by priority.
      *
      * @param type the class of the type of work order to find.
      * @param <W>  the type of work order to return.
      * @return a list of all work orders of the given type.
      */
+    @SuppressWarnings(UNCHECKED)
     public <W extends AbstractWorkOrder> List<W> getWorkOrdersOfType(@NotNull final Class<W> type)
     {
-        return workOrders.values().stream().filter(type::isInstance).map(type::cast).collect(Collectors.toList());
+        return new ArrayList<>((Collection<W>) getTypeIndex(type).all);
     }
 
     /**
      * Get all work orders.
      *
-     * @return a list of all work orders.
+     * @return an unmodifiable map of all work orders by id.
      */
     @NotNull
     public Map<Integer, AbstractWorkOrder> getWorkOrders()
     {
-        return workOrders;
+        return Collections.unmodifiableMap(workOrders);
     }
 
     /**
@@ -158,7 +193,16 @@ public class WorkManager
     public void clearWorkForCitizen(@NotNull final CitizenData citizen)
     {
         dirty = true;
-        workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(AbstractWorkOrder::clearClaimedBy);
+        if (citizen.getWorkBuilding() == null)
+        {
+            return;
+        }
+
+        final Set<AbstractWorkOrder> claimed = claimedOrders.get(citizen.getWorkBuilding().getLocation());
+        if (claimed != null)
+        {
+            new ArrayList<>(claimed).forEach(AbstractWorkOrder::clearClaimedBy);
+        }
     }
 
     /**
@@ -225,7 +269,15 @@ public class WorkManager
             order.setID(topWorkOrderId);
         }
 
-        workOrders.put(order.getID(), order);
+        final AbstractWorkOrder previous = workOrders.put(order.getID(), order);
+        if (previous != null)
+        {
+            unindex(previous);
+            previous.setManager(null);
+        }
+        order.setManager(this);
+        index(order);
+        changedWorkOrders.add(order.getID());
         order.onAdded(colony, readingFromNbt);
     }
 
@@ -246,11 +298,15 @@ public class WorkManager
                 if (!o.isValid(colony))
                 {
                     iter.remove();
+                    unindex(o);
+                    o.setManager(null);
+                    changedWorkOrders.remove(o.getID());
+                    colony.removeWorkOrderInView(o.getID());
                     dirty = true;
                 }
                 else if (o.hasChanged())
                 {
-                    dirty = true;
+                    markChanged(o);
                     o.resetChange();
                 }
             }
@@ -262,13 +318,149 @@ public class WorkManager
      *
      * @param type the type of workOrder which is required.
      * @param builder the builder wanting to claim it.
-     * @return the list.
+     * @return the list of the unclaimed work orders of the type and the ones claimed by the builder.
      */
+    @SuppressWarnings(UNCHECKED)
     public <W extends AbstractWorkOrder> List<W> getOrderedList(@NotNull final Class<W> type, final BlockPos builder)
     {
-        return workOrders.values().stream().filter(o -> (!o.isClaimed() || o.getClaimedBy().equals(builder)) && type.isInstance(o)).map(o -> (W) o)
-                .sorted(Comparator.comparingInt(AbstractWorkOrder::getPriority).reversed())
-                .collect(Collectors.toList());
+        final List<W> list = new ArrayList<>((Collection<W>) getTypeIndex(type).unclaimed);
+        final Set<AbstractWorkOrder> claimed = claimedOrders.get(builder);
+        if (claimed != null)
+        {
+            final int unclaimedSize = list.size();
+            claimed.stream().filter(type::isInstance).forEach(o -> list.add((W) o));
+            if (list.size() > unclaimedSize)
+            {
+                list.sort(PRIORITY_ORDER);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Apply a change to the priority or the claim of an added work order, keeping it indexed.
+     *
+     * @param order  the work order.
+     * @param change the change.
+     */
+    void onWorkOrderUpdate(@NotNull final AbstractWorkOrder order, @NotNull final Runnable change)
+    {
+        unindex(order);
+        change.run();
+        index(order);
+        markChanged(order);
+    }
+
+    /**
+     * Get the work orders which changed since the last view sync.
+     *
+     * @return the work orders.
+     */
+    @NotNull
+    public List<AbstractWorkOrder> getChangedWorkOrders()
+    {
+        final List<AbstractWorkOrder> changed = new ArrayList<>();
+        for (final int id : changedWorkOrders)
+        {
+            final AbstractWorkOrder order = workOrders.get(id);
+            if (order != null)
+            {
+                changed.add(order);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Mark a work order to be sent to the subscribers.
+     *
+     * @param order the work order.
+     */
+    private void markChanged(@NotNull final AbstractWorkOrder order)
+    {
+        dirty = true;
+        changedWorkOrders.add(order.getID());
+    }
+
+    /**
+     * Get the index of a type, building it from all work orders the first time.
+     *
+     * @param type the type.
+     * @return the index.
+     */
+    @NotNull
+    private TypeIndex getTypeIndex(@NotNull final Class<?> type)
+    {
+        return typeIndices.computeIfAbsent(type, t -> {
+            final TypeIndex index = new TypeIndex();
+            for (final AbstractWorkOrder order : workOrders.values())
+            {
+                if (t.isInstance(order))
+                {
+                    index.all.add(order);
+                    if (!order.isClaimed())
+                    {
+                        index.unclaimed.add(order);
+                    }
+                }
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Add a work order to the indices.
+     *
+     * @param order the work order.
+     */
+    private void index(@NotNull final AbstractWorkOrder order)
+    {
+        for (final Map.Entry<Class<?>, TypeIndex> entry : typeIndices.entrySet())
+        {
+            if (entry.getKey().isInstance(order))
+            {
+                entry.getValue().all.add(order);
+                if (!order.isClaimed())
+                {
+                    entry.getValue().unclaimed.add(order);
+                }
+            }
+        }
+
+        if (order.isClaimed())
+        {
+            claimedOrders.computeIfAbsent(order.getClaimedBy(), pos -> new HashSet<>()).add(order);
+        }
+    }
+
+    /**
+     * Remove a work order from the indices, before its priority or claim changes.
+     *
+     * @param order the work order.
+     */
+    private void unindex(@NotNull final AbstractWorkOrder order)
+    {
+        for (final Map.Entry<Class<?>, TypeIndex> entry : typeIndices.entrySet())
+        {
+            if (entry.getKey().isInstance(order))
+            {
+                entry.getValue().all.remove(order);
+                entry.getValue().unclaimed.remove(order);
+            }
+        }
+
+        if (order.isClaimed())
+        {
+            final Set<AbstractWorkOrder> claimed = claimedOrders.get(order.getClaimedBy());
+            if (claimed != null)
+            {
+                claimed.remove(order);
+                if (claimed.isEmpty())
+                {
+                    claimedOrders.remove(order.getClaimedBy());
+                }
+            }
+        }
     }
 
     /**
@@ -284,10 +476,18 @@ public class WorkManager
     /**
      * Sets if changes has been made.
      *
-     * @param dirty true if so. False to reset.
+     * @param dirty true if so, which sends all work orders again. False to reset.
      */
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (dirty)
+        {
+            changedWorkOrders.addAll(workOrders.keySet());
+        }
+        else
+        {
+            changedWorkOrders.clear();
+        }
     }
 }
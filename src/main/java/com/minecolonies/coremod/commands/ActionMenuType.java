@@ -217,6 +217,22 @@ public enum ActionMenuType implements IMenuType
             DoRaidTonightCommand.class,
             new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.REQUIRED)
             )),
+    COLONY_PROFILE(new ActionMenu(
+            "ColonyProfile",
+            "profile",
+            ForgePermissionNodes.COLONY_PROFILE,
+            ColonyProfileCommand.class,
+            new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.OPTIONAL),
+            new ActionArgument("minutes", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL),
+            new ActionArgument("top", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL),
+            new ActionArgument("export", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+            )),
+    COLONY_DELETIONS(new ActionMenu(
+            "ColonyDeletions",
+            "deletions",
+            ForgePermissionNodes.COLONY_DELETIONS,
+            ColonyDeletionsCommand.class
+            )),
     REQUEST_SYSTEM_RESET(new ActionMenu(
             "Request System Reset",
             "reset",
@@ -30,7 +30,9 @@ public enum NavigationMenuType implements IMenuType
         ActionMenuType.DO_RAID_NOW,
         ActionMenuType.DO_RAID_TONIGHT,
         ActionMenuType.CLAIM,
-        ActionMenuType.LOAD_BACKUP
+        ActionMenuType.LOAD_BACKUP,
+        ActionMenuType.COLONY_PROFILE,
+        ActionMenuType.COLONY_DELETIONS
     )),
 
     REQUEST_SYSTEM(new NavigationMenu("rs",
@@ -0,0 +1,122 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.coremod.colony.ColonyTeardownJob;
+import com.minecolonies.coremod.colony.ColonyTeardownQueue;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Show the progress of the colony deletions which are still running.
+ */
+public class ColonyDeletionsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final  String DESC           = "deletions";
+    private static final String NO_DELETIONS   = "No colony is being deleted.";
+    private static final String HEADER         = "§2Colonies being deleted:";
+    private static final String DELETION_LINE  = "§2Colony %d (dim %d): §f%s, %d citizens and %d buildings removed, %d/%d chunks unclaimed";
+    private static final String FAILURE_LINE   = "§4  Failed, retried after a restart: §f%s";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ColonyDeletionsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyDeletionsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    /**
+     * Print a line per queued deletion.
+     *
+     * @param sender the sender of the command.
+     */
+    private void executeShared(@NotNull final ICommandSender sender)
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString("Must be OP to use command"));
+            return;
+        }
+
+        final List<ColonyTeardownJob> jobs = ColonyTeardownQueue.getJobs();
+        if (jobs.isEmpty())
+        {
+            sender.sendMessage(new TextComponentString(NO_DELETIONS));
+            return;
+        }
+
+        sender.sendMessage(new TextComponentString(HEADER));
+        for (final ColonyTeardownJob job : jobs)
+        {
+            sender.sendMessage(new TextComponentString(String.format(DELETION_LINE,
+              job.getColonyId(),
+              job.getDimension(),
+              job.getPhase().name().toLowerCase(),
+              job.getCitizensRemoved(),
+              job.getBuildingsRemoved(),
+              job.getChunksUnclaimed(),
+              job.getChunkCount())));
+            if (job.getFailure() != null)
+            {
+                sender.sendMessage(new TextComponentString(String.format(FAILURE_LINE, job.getFailure())));
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,194 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.util.ColonyProfiler;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Show which colonies, sections, building types and AI states used the most tick time in the last minutes.
+ */
+public class ColonyProfileCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final  String DESC                    = "profile";
+    private static final String NO_COLONY_FOUND_MESSAGE = "Colony not found.";
+    private static final String HEADER                  = "§2Colony profile of the last %d ticks:";
+    private static final String COLONIES_HEADER         = "§2Slowest colonies:";
+    private static final String ENTRIES_HEADER          = "§2Slowest sections:";
+    private static final String COLONY_LINE             = "§2#%d §fcolony %d (dim %d): %.3f ms/t, max %.2f ms";
+    private static final String ENTRY_LINE              = "§2#%d §fcolony %d (dim %d) §2%s §f%s: %.3f ms/t, %d calls, max %.2f ms";
+    private static final String EXPORTED                = "Profile written to %s";
+    private static final String EXPORT_FAILED           = "Unable to write the profile, see the log for details.";
+    private static final String PROFILE_FILE            = "profile-%s.csv";
+
+    /**
+     * The windows shown when no amount of minutes is given.
+     */
+    private static final int DEFAULT_MINUTES = 1;
+
+    /**
+     * The amount of lines per table when no amount is given.
+     */
+    private static final int DEFAULT_TOP = 10;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0D;
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ColonyProfileCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyProfileCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "[ColonyId] [minutes] [top] [export]";
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender,
+          actionMenuState.getColonyForArgument("colony"),
+          actionMenuState.getIntValueForArgument("minutes", DEFAULT_MINUTES),
+          actionMenuState.getIntValueForArgument("top", DEFAULT_TOP),
+          actionMenuState.getBooleanValueForArgument("export", false));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        Colony colony = null;
+        if (args.length != 0)
+        {
+            colony = ColonyManager.getColonyByWorld(getIthArgument(args, 0, -1), server.getWorld(0));
+            if (colony == null)
+            {
+                sender.sendMessage(new TextComponentString(NO_COLONY_FOUND_MESSAGE));
+                return;
+            }
+        }
+
+        executeShared(sender, colony, getIthArgument(args, 1, DEFAULT_MINUTES), getIthArgument(args, 2, DEFAULT_TOP), args.length > 3 && Boolean.parseBoolean(args[3]));
+    }
+
+    /**
+     * Print the profile tables and optionally write them as CSV into the world folder.
+     *
+     * @param sender  the sender of the command.
+     * @param colony  the colony to show, or null for all colonies.
+     * @param minutes the amount of minutes to sum.
+     * @param top     the amount of lines per table.
+     * @param export  if the entries should be written as CSV.
+     */
+    private void executeShared(@NotNull final ICommandSender sender, @Nullable final Colony colony, final int minutes, final int top, final boolean export)
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString("Must be OP to use command"));
+            return;
+        }
+
+        final List<ColonyProfiler.Entry> entries = ColonyProfiler.getEntries(colony, minutes);
+        final long ticks = ColonyProfiler.getTicks(minutes);
+        sender.sendMessage(new TextComponentString(String.format(HEADER, ticks)));
+
+        if (colony == null)
+        {
+            sender.sendMessage(new TextComponentString(COLONIES_HEADER));
+            final List<ColonyProfiler.Entry> totals = ColonyProfiler.getColonyTotals(entries);
+            for (int i = 0; i < totals.size() && i < top; i++)
+            {
+                final ColonyProfiler.Entry total = totals.get(i);
+                sender.sendMessage(new TextComponentString(String.format(Locale.US, COLONY_LINE,
+                  i + 1,
+                  total.getColonyId(),
+                  total.getDimension(),
+                  total.getNanos() / NANOS_PER_MILLI / ticks,
+                  total.getMaxNanos() / NANOS_PER_MILLI)));
+            }
+        }
+
+        sender.sendMessage(new TextComponentString(ENTRIES_HEADER));
+        for (int i = 0; i < entries.size() && i < top; i++)
+        {
+            final ColonyProfiler.Entry entry = entries.get(i);
+            sender.sendMessage(new TextComponentString(String.format(Locale.US, ENTRY_LINE,
+              i + 1,
+              entry.getColonyId(),
+              entry.getDimension(),
+              entry.getSection(),
+              entry.getName(),
+              entry.getNanos() / NANOS_PER_MILLI / ticks,
+              entry.getCalls(),
+              entry.getMaxNanos() / NANOS_PER_MILLI)));
+        }
+
+        if (export)
+        {
+            final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+            final File file = new File(saveDir, String.format(PROFILE_FILE, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date())));
+            if (ColonyProfiler.exportCsv(file, entries, ticks))
+            {
+                sender.sendMessage(new TextComponentString(String.format(EXPORTED, file.getPath())));
+            }
+            else
+            {
+                sender.sendMessage(new TextComponentString(EXPORT_FAILED));
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
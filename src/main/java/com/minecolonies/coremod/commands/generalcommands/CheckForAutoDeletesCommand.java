@@ -93,14 +93,14 @@ public class CheckForAutoDeletesCommand extends AbstractSingleCommand implements
 
         final List<Colony> coloniesToDelete = new ArrayList<>();
 
-        for (int index = 0; colonies.size() - 1 >= index; index++)
+        if (Configurations.gameplay.autoDeleteColoniesInHours != 0)
         {
-            final Colony colony = colonies.get(index);
-
-            if (colony.canBeAutoDeleted() && Configurations.gameplay.autoDeleteColoniesInHours != 0
-                  && colony.getLastContactInHours() >= Configurations.gameplay.autoDeleteColoniesInHours)
+            for (final Colony colony : ColonyManager.getColoniesAbandonedSince(Configurations.gameplay.autoDeleteColoniesInHours))
             {
-                coloniesToDelete.add(colony);
+                if (colony.canBeAutoDeleted())
+                {
+                    coloniesToDelete.add(colony);
+                }
             }
         }
 
@@ -1,14 +1,12 @@
 package com.minecolonies.coremod.commands.generalcommands;
 
 import com.minecolonies.api.configuration.Configurations;
-import com.minecolonies.api.util.BlockPosUtil;
-import com.minecolonies.coremod.colony.Colony;
-import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import com.minecolonies.coremod.commands.ActionMenuState;
 import com.minecolonies.coremod.commands.IActionCommand;
 import com.minecolonies.coremod.commands.MinecoloniesCommand;
 import com.minecolonies.coremod.util.ServerUtils;
+import com.minecolonies.coremod.util.TeleportCandidatePool;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.entity.player.EntityPlayer;
@@ -21,7 +19,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 
 import static com.minecolonies.coremod.commands.AbstractSingleCommand.Commands.RTP;
 
@@ -34,10 +31,8 @@ public class RandomTeleportCommand extends AbstractSingleCommand implements IAct
 {
     public static final  String DESC             = "rtp";
     private static final int    ATTEMPTS         = Configurations.gameplay.numberOfAttemptsForSafeTP;
-    private static final int    UPPER_BOUNDS     = Configurations.gameplay.maxDistanceFromWorldSpawn * 2;
     private static final int    LOWER_BOUNDS     = Configurations.gameplay.maxDistanceFromWorldSpawn;
     private static final int    SPAWN_NO_TP      = Configurations.gameplay.minDistanceFromWorldSpawn;
-    private static final int    STARTING_Y       = 250;
     private static final double SAFETY_DROP      = 6;
     private static final int    FALL_DISTANCE    = 5;
     private static final String CANT_FIND_PLAYER = "No player found for teleport, please define one.";
@@ -127,86 +122,44 @@ public class RandomTeleportCommand extends AbstractSingleCommand implements IAct
 
     /**
      * Method used to teleport the player.
+     * Checks the teleport cooldown first, then takes a location of the candidate pool,
+     * and only searches on its own when the pool is empty.
      *
      * @param sender           the sender to have access to the world.
      * @param playerToTeleport the player which shall be teleported.
      */
     private static void teleportPlayer(final ICommandSender sender, final EntityPlayer playerToTeleport)
     {
-        //Now the position will be calculated, we will try up to 4 times to find a save position.
-        int attCounter = 0;
-        while (attCounter <= ATTEMPTS)
+        if (!MinecoloniesCommand.canExecuteCommand((EntityPlayer) sender))
         {
-            attCounter++;
-            /* this math is to get negative numbers */
-            final int x = getRandCoordinate();
-            final int z = getRandCoordinate();
-
-            if (sender.getEntityWorld().getWorldBorder().getSize()
-                    < (sender.getEntityWorld().getSpawnPoint().getDistance(x, sender.getEntityWorld().getSpawnPoint().getY(), z)))
-            {
-                continue;
-            }
-
-            final BlockPos tpPos = new BlockPos(x, STARTING_Y, z);
-
-            final Colony colony = ColonyManager.getClosestColony(sender.getEntityWorld(), tpPos);
-            /* Check for a close by colony*/
-            if (colony != null && BlockPosUtil.getDistance2D(colony.getCenter(), tpPos) < Configurations.gameplay.workingRangeTownHall * 2 + Configurations.gameplay.townHallPadding)
-            {
-                continue;
-            }
-
-            /*Search for a ground position*/
-            final BlockPos groundPosition = BlockPosUtil.findLand(tpPos, sender.getEntityWorld());
-
-            /*If no position found*/
-            if (groundPosition == null)
-            {
-                continue;
-            }
-
-            final boolean foundPosition = BlockPosUtil.isPositionSafe(sender.getEntityWorld(), groundPosition.down());
-
-            if (foundPosition)
-            {
-                if (MinecoloniesCommand.canExecuteCommand((EntityPlayer) sender))
-                {
-                    playerToTeleport.sendMessage(new TextComponentString("Buckle up buttercup, this ain't no joy ride!!!"));
-                    playerToTeleport.setHealth(playerToTeleport.getMaxHealth());
-                    playerToTeleport.setPositionAndUpdate(groundPosition.getX(), groundPosition.getY() + SAFETY_DROP, groundPosition.getZ());
-                    playerToTeleport.setHealth(playerToTeleport.getMaxHealth());
-
-                    //.fallDistance is used to cancel out fall damage  basically if you have -5 it will reduce fall damage by 2.5 hearts
-                    playerToTeleport.fallDistance = -FALL_DISTANCE;
-                }
-                else
-                {
-                    sender.sendMessage(
-                            new TextComponentString("Please wait at least " + Configurations.gameplay.teleportBuffer + " seconds to teleport again"));
-                }
-                return;
-            }
+            sender.sendMessage(
+                    new TextComponentString("Please wait at least " + Configurations.gameplay.teleportBuffer + " seconds to teleport again"));
+            return;
         }
-        sender.sendMessage(new TextComponentString("Couldn't find a safe spot.  Try again in a moment."));
-    }
 
-    /**
-     * Get a random coordinate to teleport to.
-     */
-    private static int getRandCoordinate()
-    {
-        final Random rnd = new Random();
+        BlockPos groundPosition = TeleportCandidatePool.poll(sender.getEntityWorld());
 
-        int x = rnd.nextInt(UPPER_BOUNDS) - LOWER_BOUNDS;
+        //If the pool is empty, we will try up to ATTEMPTS times to find a save position.
+        int attCounter = 0;
+        while (groundPosition == null && attCounter <= ATTEMPTS)
+        {
+            attCounter++;
+            groundPosition = TeleportCandidatePool.findCandidate(sender.getEntityWorld());
+        }
 
-        /* keeping X out of the spawn radius */
-        while (x > -SPAWN_NO_TP && x < SPAWN_NO_TP)
+        if (groundPosition == null)
         {
-            x = rnd.nextInt(UPPER_BOUNDS) - LOWER_BOUNDS;
+            sender.sendMessage(new TextComponentString("Couldn't find a safe spot.  Try again in a moment."));
+            return;
         }
 
-        return x;
+        playerToTeleport.sendMessage(new TextComponentString("Buckle up buttercup, this ain't no joy ride!!!"));
+        playerToTeleport.setHealth(playerToTeleport.getMaxHealth());
+        playerToTeleport.setPositionAndUpdate(groundPosition.getX(), groundPosition.getY() + SAFETY_DROP, groundPosition.getZ());
+        playerToTeleport.setHealth(playerToTeleport.getMaxHealth());
+
+        //.fallDistance is used to cancel out fall damage  basically if you have -5 it will reduce fall damage by 2.5 hearts
+        playerToTeleport.fallDistance = -FALL_DISTANCE;
     }
 
     @NotNull
@@ -13,7 +13,6 @@ import com.minecolonies.api.entity.ai.pathfinding.IWalkToProxy;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
-import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.*;
@@ -22,9 +21,9 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobStudent;
+import com.minecolonies.coremod.colony.managers.interfaces.IRaiderManager;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.entity.ai.minimal.*;
-import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.entity.citizenhandlers.*;
 import com.minecolonies.coremod.entity.pathfinding.EntityCitizenWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathNavigate;
@@ -183,6 +182,22 @@ public class EntityCitizen extends AbstractEntityCitizen
      */
     private boolean hidingFromRain = false;
 
+    /**
+     * The health and max health the view was last marked dirty with.
+     */
+    private float viewHealth    = -1;
+    private float viewMaxHealth = -1;
+
+    /**
+     * Version of the colony horde {@link #raidersPresent} was checked at.
+     */
+    private int seenHordeVersion = -1;
+
+    /**
+     * If the colony horde had raiders at the seen version.
+     */
+    private boolean raidersPresent = false;
+
     /**
      * IsChild flag
      */
@@ -426,15 +441,8 @@ public class EntityCitizen extends AbstractEntityCitizen
         {
             if (damageSource.getTrueSource() instanceof EntityPlayer && !world.isRemote)
             {
-                boolean isBarbarianClose = false;
-                for (final AbstractEntityMinecoloniesMob barbarian : this.getCitizenColonyHandler().getColony().getRaiderManager().getHorde((WorldServer) world))
-                {
-                    if (MathUtils.twoDimDistance(barbarian.getPosition(), this.getPosition()) < BARB_DISTANCE_FOR_FREE_DEATH)
-                    {
-                        isBarbarianClose = true;
-                        break;
-                    }
-                }
+                final boolean isBarbarianClose = this.getCitizenColonyHandler().getColony().getRaiderManager()
+                                                   .isRaiderInRange((WorldServer) world, this.getPosition(), BARB_DISTANCE_FOR_FREE_DEATH);
                 for (final Player player : PermissionUtils.getPlayersWithAtLeastRank(citizenColonyHandler.getColony(), Rank.OFFICER))
                 {
                     if (player.getID().equals(damageSource.getTrueSource().getUniqueID()) && !isBarbarianClose)
@@ -595,9 +603,12 @@ public class EntityCitizen extends AbstractEntityCitizen
     {
         super.onLivingUpdate();
 
-        if (recentlyHit > 0)
+        // Damage, potions, regeneration and health modifiers all change the health, compare it to the one last marked for the view.
+        if (citizenData != null && !CompatibilityUtils.getWorld(this).isRemote && (getHealth() != viewHealth || getMaxHealth() != viewMaxHealth))
         {
-            markDirty();
+            viewHealth = getHealth();
+            viewMaxHealth = getMaxHealth();
+            markDirty(CitizenData.VIEW_HEALTH);
         }
         if (CompatibilityUtils.getWorld(this).isRemote)
         {
@@ -734,7 +745,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                         }
                     }
                     this.citizenData.setName(name);
-                    this.citizenData.markDirty();
+                    this.citizenData.markDirty(CitizenData.VIEW_IDENTITY);
                     super.setCustomNameTag(name);
                 }
                 return;
@@ -761,7 +772,6 @@ public class EntityCitizen extends AbstractEntityCitizen
             }
 
             heal(healAmount);
-            citizenData.markDirty();
         }
     }
 
@@ -910,6 +920,36 @@ public class EntityCitizen extends AbstractEntityCitizen
         }
     }
 
+    /**
+     * Mark the given fields of the citizen dirty to synch them with the client.
+     *
+     * @param fields the changed field groups, a combination of the VIEW_ bits of {@link CitizenData}.
+     */
+    public void markDirty(final int fields)
+    {
+        if (citizenData != null)
+        {
+            citizenData.markDirty(fields);
+        }
+    }
+
+    /**
+     * Check if the colony is being raided, looking at the horde again only when its version changed.
+     *
+     * @param raiderManager the raider manager of the colony.
+     * @return true if raiders are in the colony.
+     */
+    private boolean areRaidersPresent(@NotNull final IRaiderManager raiderManager)
+    {
+        final int hordeVersion = raiderManager.getHordeVersion((WorldServer) world);
+        if (hordeVersion != seenHordeVersion)
+        {
+            seenHordeVersion = hordeVersion;
+            raidersPresent = !raiderManager.getHorde((WorldServer) world).isEmpty();
+        }
+        return raidersPresent;
+    }
+
     @NotNull
     public DesiredActivity getDesiredActivity()
     {
@@ -923,7 +963,7 @@ public class EntityCitizen extends AbstractEntityCitizen
             return DesiredActivity.MOURN;
         }
 
-        if (getCitizenColonyHandler().getColony() != null && !world.isRemote && (!getCitizenColonyHandler().getColony().getRaiderManager().getHorde((WorldServer) world).isEmpty()))
+        if (getCitizenColonyHandler().getColony() != null && !world.isRemote && areRaidersPresent(getCitizenColonyHandler().getColony().getRaiderManager()))
         {
             isDay = false;
             return DesiredActivity.SLEEP;
@@ -939,7 +979,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                     isDay = false;
                     final double decreaseBy = citizenColonyHandler.getPerBuildingFoodCost() * 2;
                     citizenData.decreaseSaturation(decreaseBy);
-                    citizenData.markDirty();
+                    citizenData.markDirty(CitizenData.VIEW_SATURATION);
                 }
 
                 citizenStatusHandler.setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.sleeping"));
@@ -1021,7 +1061,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         }
         this.isChild = isChild;
         this.getDataManager().set(DATA_IS_CHILD, isChild);
-        markDirty();
+        markDirty(CitizenData.VIEW_IDENTITY);
     }
 
     /**
@@ -1054,7 +1094,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost());
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.VIEW_SATURATION);
         }
     }
 
@@ -1066,7 +1106,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost() / 100.0);
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.VIEW_SATURATION);
         }
     }
 
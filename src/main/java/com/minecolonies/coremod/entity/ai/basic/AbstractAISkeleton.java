@@ -12,6 +12,7 @@ import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.coremod.entity.ai.util.ChatSpamFilter;
+import com.minecolonies.coremod.util.ColonyProfiler;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -147,7 +148,13 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
         }
         else
         {
+            final IAIState state = stateMachine.getState();
+            final long start = ColonyProfiler.start();
             stateMachine.tick();
+            if (job.getColony() != null)
+            {
+                ColonyProfiler.record(job.getColony(), ColonyProfiler.Section.AI, state, start);
+            }
             tickCounter = 1;
         }
     }
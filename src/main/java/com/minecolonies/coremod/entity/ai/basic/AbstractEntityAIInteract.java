@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.managers.interfaces.IStatisticAchievementManager;
 import net.minecraft.block.Block;
@@ -18,7 +19,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * This is the base class of all worker AIs.
@@ -90,6 +90,11 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     @Nullable
     private List<BlockPos> items;
 
+    /**
+     * Reused list of the item entities found by the last search.
+     */
+    private final List<EntityItem> nearbyItems = new ArrayList<>();
+
     /**
      * Creates the abstract part of the AI.
      * Always use this constructor!
@@ -329,12 +334,28 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
      */
     public void searchForItems(final AxisAlignedBB boundingBox)
     {
-        items = world.getEntitiesWithinAABB(EntityItem.class, boundingBox)
-                  .stream()
-                  .filter(item -> item != null && !item.isDead &&
-                                    (!item.getEntityData().hasKey("PreventRemoteMovement") || !item.getEntityData().getBoolean("PreventRemoteMovement")))
-                  .map(BlockPosUtil::fromEntity)
-                  .collect(Collectors.toList());
+        final Colony colony = worker.getCitizenColonyHandler().getColony();
+        if (colony == null)
+        {
+            nearbyItems.clear();
+            nearbyItems.addAll(world.getEntitiesWithinAABB(EntityItem.class, boundingBox));
+        }
+        else
+        {
+            colony.getEntityIndexManager().getEntities(EntityItem.class, boundingBox, null, nearbyItems);
+        }
+
+        items = new ArrayList<>(nearbyItems.size());
+        for (int i = 0; i < nearbyItems.size(); i++)
+        {
+            final EntityItem item = nearbyItems.get(i);
+            if (item != null && !item.isDead
+                  && (!item.getEntityData().hasKey("PreventRemoteMovement") || !item.getEntityData().getBoolean("PreventRemoteMovement")))
+            {
+                items.add(BlockPosUtil.fromEntity(item));
+            }
+        }
+        nearbyItems.clear();
     }
 
     /**
@@ -7,6 +7,7 @@ import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingSmelterCrafter;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceTracker;
 import com.minecolonies.coremod.colony.jobs.AbstractJobCrafter;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
@@ -61,30 +62,29 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
         return AbstractBuildingSmelterCrafter.class;
     }
 
+    /**
+     * Get the tracker of the furnaces of the building.
+     * @return the tracker.
+     */
+    private FurnaceTracker getFurnaceTracker()
+    {
+        return getOwnBuilding(AbstractBuildingSmelterCrafter.class).getFurnaceTracker();
+    }
+
     /**
      * Get the furnace which has finished smeltables.
-     * For this check each furnace which has been registered to the building.
-     * Check if the furnace is turned off and has something in the result slot
-     * or check if the furnace has more than x results.
+     * That is a furnace which is turned off and has something in the result slot
+     * or a furnace which has more than x results, as last seen by the furnace tracker of the building.
      * @return the position of the furnace.
      */
     private BlockPos getPositionOfOvenToRetrieveFrom()
     {
-        for (final BlockPos pos : ((AbstractBuildingSmelterCrafter) getOwnBuilding()).getFurnaces())
+        final BlockPos pos = getFurnaceTracker().getNextToRetrieve();
+        if (pos != null)
         {
-            final TileEntity entity = world.getTileEntity(pos);
-            if (entity instanceof TileEntityFurnace)
-            {
-                final TileEntityFurnace furnace = (TileEntityFurnace) entity;
-                final int countInResultSlot = isEmpty(furnace.getStackInSlot(RESULT_SLOT)) ? 0 : furnace.getStackInSlot(RESULT_SLOT).getCount();
-                if ((!furnace.isBurning() && countInResultSlot > 0 && isEmpty(furnace.getStackInSlot(SMELTABLE_SLOT))))
-                {
-                    worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_RETRIEVING));
-                    return pos;
-                }
-            }
+            worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_RETRIEVING));
         }
-        return null;
+        return pos;
     }
 
     @Override
@@ -103,6 +103,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
                 }
                 else
                 {
+                    // Looks at the items in the furnaces, which the furnace tracker doesn't keep. Only reached when the input is missing everywhere else.
                     for (final BlockPos pos : ((AbstractBuildingSmelterCrafter) getOwnBuilding()).getFurnaces())
                     {
                         final TileEntity entity = world.getTileEntity(pos);
@@ -150,13 +151,15 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
         final TileEntity entity = world.getTileEntity(walkTo);
         if (!(entity instanceof TileEntityFurnace) || (isEmpty(((TileEntityFurnace) entity).getStackInSlot(RESULT_SLOT))))
         {
+            getFurnaceTracker().update(walkTo, entity);
             walkTo = null;
             return START_WORKING;
         }
 
+        extractFromFurnace((TileEntityFurnace) entity);
+        getFurnaceTracker().update(walkTo, entity);
         walkTo = null;
 
-        extractFromFurnace((TileEntityFurnace) entity);
         //Do we have the requested item in the inventory now?
         final int resultCount = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), stack -> currentRecipeStorage.getPrimaryOutput().isItemEqual(stack));
         if (resultCount > 0)
@@ -184,26 +187,17 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
 
     /**
      * Checks if the worker has enough fuel and/or smeltable to start smelting.
+     * Takes the first idle furnace the furnace tracker knows to need what there is, the smeltable is at hand while crafting.
      * @param amountOfFuel the total amount of fuel.
-     * @return START_USING_FURNACE if enough, else check for additional worker specific jobs.
+     * @return START_USING_FURNACE if enough, else stay in the current state.
      */
     private IAIState checkIfAbleToSmelt(final int amountOfFuel)
     {
-        for (final BlockPos pos : ((AbstractBuildingSmelterCrafter) getOwnBuilding()).getFurnaces())
+        final BlockPos pos = getFurnaceTracker().getNextToFill(amountOfFuel > 0, true);
+        if (pos != null)
         {
-            final TileEntity entity = world.getTileEntity(pos);
-
-            if(entity instanceof TileEntityFurnace && !((TileEntityFurnace) entity).isBurning())
-            {
-                final TileEntityFurnace furnace = (TileEntityFurnace) entity;
-                if ((amountOfFuel > 0 && hasSmeltableInFurnaceAndNoFuel(furnace))
-                      || (hasFuelInFurnaceAndNoSmeltable(furnace))
-                      || (amountOfFuel > 0 && hasNeitherFuelNorSmeltAble(furnace)))
-                {
-                    walkTo = pos;
-                    return START_USING_FURNACE;
-                }
-            }
+            walkTo = pos;
+            return START_USING_FURNACE;
         }
 
         return getState();
@@ -224,6 +218,10 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
 
         if (walkTo == null || world.getBlockState(walkTo).getBlock() != Blocks.FURNACE)
         {
+            if (walkTo != null)
+            {
+                getFurnaceTracker().update(walkTo, world.getTileEntity(walkTo));
+            }
             walkTo = null;
             setDelay(STANDARD_DELAY);
             return START_WORKING;
@@ -257,6 +255,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
                   new InvWrapper(furnace), FUEL_SLOT);
             }
         }
+        getFurnaceTracker().update(walkTo, entity);
         walkTo = null;
         setDelay(STANDARD_DELAY);
         return START_WORKING;
@@ -297,7 +296,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
             return RETRIEVING_END_PRODUCT_FROM_FURNACE;
         }
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), TileEntityFurnace::isItemFuel);
+        final int amountOfFuelInBuilding = getFurnaceTracker().getFuelInBuilding(getOwnBuilding());
         final int amountOfFuelInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel);
 
         if (amountOfFuelInBuilding + amountOfFuelInInv <= 0 && !getOwnBuilding().hasWorkerOpenRequestsOfType(worker.getCitizenData(), TypeToken.of(StackList.class)))
@@ -308,6 +307,7 @@ public abstract class AbstractEntityAIRequestSmelter<J extends AbstractJobCrafte
         if(amountOfFuelInBuilding > 0 && amountOfFuelInInv == 0)
         {
             needsCurrently = TileEntityFurnace::isItemFuel;
+            getFurnaceTracker().invalidateTally();
             return GATHERING_REQUIRED_MATERIALS;
         }
 
@@ -7,7 +7,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
-import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.blocks.BlockDecorationController;
@@ -295,8 +295,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
             return getState();
         }
         resetGatheringItems();
-        workFrom = null;
-        currentStructure = null;
+        resetCurrentStructure();
 
         return IDLE;
     }
@@ -532,25 +531,18 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
         }
         itemList.removeIf(itemstack -> itemstack.getItem() instanceof ItemBlock && isBlockFree(((ItemBlock) itemstack.getItem()).getBlock(), itemstack.getMetadata()));
 
-        final Map<ItemStorage, Integer> list = new HashMap<>();
+        final Map<ItemKey, Integer> list = new HashMap<>();
         for (final ItemStack stack : itemList)
         {
-            ItemStorage tempStorage = new ItemStorage(stack.copy());
-            if (list.containsKey(tempStorage))
+            if (ItemStackUtils.isEmpty(stack))
             {
-                final int oldSize = list.get(tempStorage);
-                tempStorage.setAmount(tempStorage.getAmount() + oldSize);
+                return true;
             }
-            list.put(tempStorage, tempStorage.getAmount());
+            list.merge(ItemKey.of(stack), ItemStackUtils.getSize(stack), Integer::sum);
         }
 
-        for (final Map.Entry<ItemStorage, Integer> placedStack : list.entrySet())
+        for (final Map.Entry<ItemKey, Integer> placedStack : list.entrySet())
         {
-            if (ItemStackUtils.isEmpty(placedStack.getKey().getItemStack()))
-            {
-                return true;
-            }
-
             if (placer.getOwnBuilding()
                   .getOpenRequestsOfTypeFiltered(
                     placer.getWorker().getCitizenData(),
@@ -561,7 +553,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
                 final Stack stackRequest = new Stack(placedStack.getKey().getItemStack());
                 stackRequest.setCount(placedStack.getValue());
                 placer.getWorker().getCitizenData().createRequest(stackRequest);
-                placer.registerBlockAsNeeded(placedStack.getKey().getItemStack());
+                placer.registerBlockAsNeeded(placedStack.getKey().getItemStack().copy());
                 return true;
             }
         }
@@ -804,6 +796,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
         rotation = rotateTimes;
+        if (currentStructure != null)
+        {
+            currentStructure.discardDiff();
+        }
         try
         {
             final com.ldtteam.structures.helpers.Structure structure = new com.ldtteam.structures.helpers.Structure(world, name, new PlacementSettings());
@@ -821,7 +817,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
             job.getStructure().rotate(BlockPosUtil.getRotationFromRotations(rotateTimes), world, position, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
             job.getStructure().setPosition(position);
             job.getStructure().setPlacementSettings(new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)));
-
+            currentStructure.computeDiff();
         }
         catch (final NullPointerException ex)
         {
@@ -996,6 +992,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
     public void resetCurrentStructure()
     {
         workFrom = null;
+        if (currentStructure != null)
+        {
+            currentStructure.discardDiff();
+        }
         currentStructure = null;
     }
 
@@ -275,12 +275,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     @Override
     public void registerBlockAsNeeded(final ItemStack stack)
     {
-        final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-        if (getOwnBuilding(AbstractBuildingStructureBuilder.class)
-              .getNeededResources()
-              .get(stack.getTranslationKey()
-                     + ":" + stack.getItemDamage()
-                     + "-" + hashCode) == null)
+        if (getOwnBuilding(AbstractBuildingStructureBuilder.class).getNeededResource(stack) == null)
         {
             getOwnBuilding(AbstractBuildingStructureBuilder.class).addNeededResource(stack, 1);
         }
@@ -293,13 +288,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             return 0;
         }
-        final int hashCode = deliveredItemStack.hasTagCompound() ? deliveredItemStack.getTagCompound().hashCode() : 0;
-        final BuildingBuilderResource resource
-                = getOwnBuilding(AbstractBuildingStructureBuilder.class)
-                .getNeededResources()
-                .get(deliveredItemStack.getTranslationKey()
-                        + ":" + deliveredItemStack.getItemDamage()
-                        + "-" + hashCode);
+        final BuildingBuilderResource resource = getOwnBuilding(AbstractBuildingStructureBuilder.class).getNeededResource(deliveredItemStack);
         if (resource != null)
         {
             return resource.getAmount();
@@ -421,9 +410,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         {
             return null;
         }
-        final int hashCode = stack.hasTagCompound() ? stack.getTagCompound().hashCode() : 0;
-        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        final BuildingBuilderResource resource = buildingWorker.getNeededResources().get(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
+        final BuildingBuilderResource resource = getOwnBuilding(AbstractBuildingStructureBuilder.class).getNeededResource(stack);
 
         if(resource == null)
         {
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.StackList;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingFurnaceUser;
+import com.minecolonies.coremod.colony.buildings.utils.FurnaceTracker;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
@@ -34,11 +35,6 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
      */
     protected static final double BASE_XP_GAIN = 2;
 
-    /**
-     * Retrieve smeltable if more than a certain amount.
-     */
-    private static final int RETRIEVE_SMELTABLE_IF_MORE_THAN = 10;
-
     /**
      * Wait this amount of ticks after requesting a burnable material.
      */
@@ -88,32 +84,29 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
         return false;
     }
 
+    /**
+     * Get the tracker of the furnaces of the building.
+     * @return the tracker.
+     */
+    protected FurnaceTracker getFurnaceTracker()
+    {
+        return getOwnBuilding(AbstractBuildingFurnaceUser.class).getFurnaceTracker();
+    }
+
     /**
      * Get the furnace which has finished smeltables.
-     * For this check each furnace which has been registered to the building.
-     * Check if the furnace is turned off and has something in the result slot
-     * or check if the furnace has more than x results.
+     * That is a furnace which is turned off and has something in the result slot
+     * or a furnace which has more than x results, as last seen by the furnace tracker of the building.
      * @return the position of the furnace.
      */
     protected BlockPos getPositionOfOvenToRetrieveFrom()
     {
-        for (final BlockPos pos : ((AbstractBuildingFurnaceUser) getOwnBuilding()).getFurnaces())
+        final BlockPos pos = getFurnaceTracker().getNextToRetrieve();
+        if (pos != null)
         {
-            final TileEntity entity = world.getTileEntity(pos);
-            if (entity instanceof TileEntityFurnace)
-            {
-                final TileEntityFurnace furnace = (TileEntityFurnace) entity;
-                final int countInResultSlot =
-                        ItemStackUtils.isEmpty(furnace.getStackInSlot(RESULT_SLOT)) ? 0 : furnace.getStackInSlot(RESULT_SLOT).getCount();
-                if ((!furnace.isBurning() && countInResultSlot > 0)
-                        || countInResultSlot > RETRIEVE_SMELTABLE_IF_MORE_THAN)
-                {
-                    worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_RETRIEVING));
-                    return pos;
-                }
-            }
+            worker.getCitizenStatusHandler().setLatestStatus(new TextComponentTranslation(COM_MINECOLONIES_COREMOD_STATUS_RETRIEVING));
         }
-        return null;
+        return pos;
     }
 
     /**
@@ -160,10 +153,11 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
             return RETRIEVING_END_PRODUCT_FROM_FURNACE;
         }
 
-        final int amountOfSmeltableInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), this::isSmeltable);
+        final FurnaceTracker tracker = getFurnaceTracker();
+        final int amountOfSmeltableInBuilding = tracker.getSmeltableInBuilding(getOwnBuilding(), this::isSmeltable);
         final int amountOfSmeltableInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isSmeltable);
 
-        final int amountOfFuelInBuilding = InventoryUtils.getItemCountInProvider(getOwnBuilding(), TileEntityFurnace::isItemFuel);
+        final int amountOfFuelInBuilding = tracker.getFuelInBuilding(getOwnBuilding());
         final int amountOfFuelInInv = InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), TileEntityFurnace::isItemFuel);
 
         if (amountOfSmeltableInBuilding + amountOfSmeltableInInv <= 0
@@ -179,11 +173,13 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
         if(amountOfSmeltableInBuilding > 0 && amountOfSmeltableInInv == 0)
         {
             needsCurrently = this::isSmeltable;
+            tracker.invalidateTally();
             return GATHERING_REQUIRED_MATERIALS;
         }
         else if(amountOfFuelInBuilding > 0 && amountOfFuelInInv == 0)
         {
             needsCurrently = TileEntityFurnace::isItemFuel;
+            tracker.invalidateTally();
             return GATHERING_REQUIRED_MATERIALS;
         }
 
@@ -192,27 +188,18 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
 
     /**
      * Checks if the worker has enough fuel and/or smeltable to start smelting.
+     * Takes the first idle furnace the furnace tracker knows to need what there is.
      * @param amountOfFuel the total amount of fuel.
      * @param amountOfSmeltable the total amount of smeltables.
      * @return START_USING_FURNACE if enough, else check for additional worker specific jobs.
      */
     private IAIState checkIfAbleToSmelt(final int amountOfFuel, final int amountOfSmeltable)
     {
-        for (final BlockPos pos : ((AbstractBuildingFurnaceUser) getOwnBuilding()).getFurnaces())
+        final BlockPos pos = getFurnaceTracker().getNextToFill(amountOfFuel > 0, amountOfSmeltable > 0);
+        if (pos != null)
         {
-            final TileEntity entity = world.getTileEntity(pos);
-
-            if(entity instanceof TileEntityFurnace && !((TileEntityFurnace) entity).isBurning())
-            {
-                final TileEntityFurnace furnace = (TileEntityFurnace) entity;
-                if ((amountOfFuel > 0 && hasSmeltableInFurnaceAndNoFuel(furnace))
-                        || (amountOfSmeltable > 0 && hasFuelInFurnaceAndNoSmeltable(furnace))
-                        || (amountOfFuel > 0 && amountOfSmeltable > 0 && hasNeitherFuelNorSmeltAble(furnace)))
-                {
-                    walkTo = pos;
-                    return START_USING_FURNACE;
-                }
-            }
+            walkTo = pos;
+            return START_USING_FURNACE;
         }
 
         return checkForAdditionalJobs();
@@ -275,13 +262,15 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
         if (!(entity instanceof TileEntityFurnace)
                 || (ItemStackUtils.isEmpty(((TileEntityFurnace) entity).getStackInSlot(RESULT_SLOT))))
         {
+            getFurnaceTracker().update(walkTo, entity);
             walkTo = null;
             return START_WORKING;
         }
 
-        walkTo = null;
-
         extractFromFurnace((TileEntityFurnace) entity);
+        getFurnaceTracker().update(walkTo, entity);
+        getFurnaceTracker().invalidateTally();
+        walkTo = null;
         incrementActionsDoneAndDecSaturation();
         setDelay(STANDARD_DELAY);
         return START_WORKING;
@@ -302,6 +291,10 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
 
         if (walkTo == null || world.getBlockState(walkTo).getBlock() != Blocks.FURNACE)
         {
+            if (walkTo != null)
+            {
+                getFurnaceTracker().update(walkTo, world.getTileEntity(walkTo));
+            }
             walkTo = null;
             setDelay(STANDARD_DELAY);
             return START_WORKING;
@@ -334,6 +327,7 @@ public abstract class AbstractEntityAIUsesFurnace<J extends AbstractJob> extends
                         new InvWrapper(furnace), FUEL_SLOT);
             }
         }
+        getFurnaceTracker().update(walkTo, entity);
         walkTo = null;
         setDelay(STANDARD_DELAY);
         return START_WORKING;
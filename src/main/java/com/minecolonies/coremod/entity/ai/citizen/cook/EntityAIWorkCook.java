@@ -7,6 +7,7 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.constant.CitizenConstants;
 import com.minecolonies.api.util.constant.TranslationConstants;
+import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook;
 import com.minecolonies.coremod.colony.jobs.JobCook;
 import com.minecolonies.coremod.entity.EntityCitizen;
@@ -233,16 +234,26 @@ public class EntityAIWorkCook extends AbstractEntityAIUsesFurnace<JobCook>
         }
 
         citizenToServe.clear();
-        final List<EntityCitizen> citizenList = world.getEntitiesWithinAABB(EntityCitizen.class,
-          range, cit -> !(cit.getCitizenJobHandler().getColonyJob() instanceof JobCook) && cit.getCitizenData() != null && cit.getCitizenData().getSaturation() <= CitizenConstants.AVERAGE_SATURATION);
-        final List<EntityPlayer> playerList = world.getEntitiesWithinAABB(EntityPlayer.class,
-          range, player -> player != null && player.getFoodStats().getFoodLevel() < LEVEL_TO_FEED_PLAYER);
-
-        if (!citizenList.isEmpty() || !playerList.isEmpty())
+        final int playersBefore = playerToServe.size();
+        for (final CitizenData citizen : getOwnBuilding().getColony().getCitizenManager().getCitizens())
+        {
+            final EntityCitizen cit = citizen.getCitizenEntity().orElse(null);
+            if (cit != null && !(cit.getCitizenJobHandler().getColonyJob() instanceof JobCook) && citizen.getSaturation() <= CitizenConstants.AVERAGE_SATURATION
+                  && range.intersects(cit.getEntityBoundingBox()))
+            {
+                citizenToServe.add(cit);
+            }
+        }
+        for (final EntityPlayer player : world.playerEntities)
         {
-            citizenToServe.addAll(citizenList);
-            playerToServe.addAll(playerList);
+            if (player != null && player.getFoodStats().getFoodLevel() < LEVEL_TO_FEED_PLAYER && range.intersects(player.getEntityBoundingBox()))
+            {
+                playerToServe.add(player);
+            }
+        }
 
+        if (!citizenToServe.isEmpty() || playerToServe.size() > playersBefore)
+        {
             if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()), ItemStackUtils.CAN_EAT))
             {
                 return COOK_SERVE_FOOD_TO_CITIZEN;
@@ -3,13 +3,11 @@ package com.minecolonies.coremod.entity.ai.citizen.farmer;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.requestable.StackList;
 import com.minecolonies.api.compatibility.Compatibility;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.blocks.huts.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -20,6 +18,7 @@ import com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.items.ModItems;
 import com.minecolonies.coremod.network.messages.CompostParticleMessage;
+import com.minecolonies.coremod.tileentities.FieldStateGrid;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import net.minecraft.block.*;
 import net.minecraft.block.state.IBlockState;
@@ -79,23 +78,15 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     private boolean shouldDumpInventory = false;
 
     /**
-     * The offset to work at relative to the scarecrow.
+     * The field cell to work at, -1 if none has been picked.
      */
-    @Nullable
-    private BlockPos workingOffset;
+    private int workingCell = -1;
 
     /**
-     * The previous position which has been worked at.
+     * The state grid the working cell belongs to.
      */
     @Nullable
-    private BlockPos prevPos;
-
-    /**
-     * Variables used in handleOffset.
-     */
-    private int     totalDis;
-    private int     dist;
-    private boolean horizontal;
+    private FieldStateGrid workingGrid;
 
     /**
      * Constructor for the Farmer.
@@ -196,7 +187,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHarvest))
+            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HARVEST, this::shouldHarvest))
             {
                 return FARMER_HARVEST;
             }
@@ -204,7 +195,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHoe))
+            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HOE, this::shouldHoe))
             {
                 return FARMER_HOE;
             }
@@ -267,31 +258,54 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     }
 
     /**
-     * Handles the offset of the field for the farmer.
-     * Checks if the field needs a certain operation checked with a given predicate.
+     * Picks the next cell of the field which is ready for a certain operation, checked with a given predicate.
      *
      * @param field     the field object.
+     * @param state     the state of the operation.
      * @param predicate the predicate to test.
-     * @return true if a harvestable crop was found.
+     * @return true if a cell was found.
      */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
+    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final IAIState state, @NotNull final Predicate<BlockPos> predicate)
     {
-        if (workingOffset == null)
+        final FieldStateGrid grid = field.getFieldState(world);
+        if (workingGrid != grid)
         {
-            handleOffset(field);
+            workingGrid = grid;
+            workingCell = -1;
         }
 
-        BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+        final int flags = getCellFlags(state);
+        int cell = grid.nextCell(flags, Math.max(0, workingCell));
+        while (cell != -1 && !predicate.test(grid.getGroundPos(cell)))
+        {
+            cell = grid.nextCell(flags, cell + 1);
+        }
+        workingCell = cell;
+        return cell != -1;
+    }
 
-        while (!predicate.test(position))
+    /**
+     * Get the cell state flags which are ready for the operation of a state.
+     * Growing crops are ready to harvest as long as the farmer carries compost.
+     *
+     * @param state the state of the operation.
+     * @return the flags.
+     */
+    private int getCellFlags(@NotNull final IAIState state)
+    {
+        if (state == FARMER_HOE)
         {
-            if (!handleOffset(field))
-            {
-                return false;
-            }
-            position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
+            return FieldStateGrid.NEEDS_HOE;
         }
-        return true;
+        if (state == FARMER_PLANT)
+        {
+            return FieldStateGrid.NEEDS_PLANT;
+        }
+        if (InventoryUtils.getItemCountInItemHandler(new InvWrapper(worker.getInventoryCitizen()), this::isCompost) > 0)
+        {
+            return FieldStateGrid.RIPE | FieldStateGrid.GROWING;
+        }
+        return FieldStateGrid.RIPE;
     }
 
     /**
@@ -332,50 +346,22 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     }
 
     /**
-     * Handles the offset of the field for the farmer.
+     * Moves on to the next cell of the field which is ready for the current operation.
      *
      * @param field the field object.
-     * @return true if successful.
+     * @return true if there is one.
      */
-    private boolean handleOffset(@NotNull final ScarecrowTileEntity field)
+    private boolean nextCell(@NotNull final ScarecrowTileEntity field)
     {
-        if (workingOffset == null)
+        final FieldStateGrid grid = field.getFieldState(world);
+        if (workingGrid != grid)
         {
-            workingOffset = new BlockPos(0, 0, 0);
-            totalDis = 1;
-            dist = 0;
-            horizontal = true;
+            workingGrid = grid;
+            workingCell = -1;
         }
-        else
-        {
-            if (workingOffset.getZ() >= field.getWidthPlusZ() && workingOffset.getX() <= -field.getLengthMinusX())
-            {
-                workingOffset = null;
-                return false;
-            }
-            else
-            {
-                if (totalDis == dist)
-                {
-                    horizontal = !horizontal;
-                    dist = 0;
-                    if (horizontal)
-                    {
-                        totalDis++;
-                    }
-                }
-                if (horizontal)
-                {
-                    workingOffset = new BlockPos(workingOffset.getX(), 0, workingOffset.getZ() - Math.pow(-1, totalDis));
-                }
-                else
-                {
-                    workingOffset = new BlockPos(workingOffset.getX() - Math.pow(-1, totalDis), 0, workingOffset.getZ());
-                }
-                dist++;
-            }
-        }
-        return true;
+
+        workingCell = grid.nextCell(getCellFlags(getState()), workingCell + 1);
+        return workingCell != -1;
     }
 
     /**
@@ -410,7 +396,8 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(field);
         if(entity instanceof ScarecrowTileEntity)
         {
-            if (workingOffset != null)
+            final BlockPos position = workingGrid == ((ScarecrowTileEntity) entity).getFieldState(world) ? workingGrid.getGroundPos(workingCell) : null;
+            if (position != null)
             {
                 if (((ScarecrowTileEntity) entity).getOwnerId() != worker.getCitizenId())
                 {
@@ -419,7 +406,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                     return getState();
                 }
 
-                final BlockPos position = field.down().south(workingOffset.getZ()).east(workingOffset.getX());
                 // Still moving to the block
                 if (walkToBlock(position.up()))
                 {
@@ -453,15 +439,13 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
                     default:
                         return PREPARING;
                 }
-                prevPos = position;
             }
             setDelay(getLevelDelay());
 
-            if (!handleOffset((ScarecrowTileEntity) entity))
+            if (!nextCell((ScarecrowTileEntity) entity))
             {
                 shouldDumpInventory = true;
                 ((ScarecrowTileEntity) entity).nextState();
-                prevPos = null;
                 return IDLE;
             }
         }
@@ -538,9 +522,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldHoe(@NotNull final BlockPos position)
     {
-        return !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
-                 && (world.getBlockState(position).getBlock() instanceof BlockDirt || world.getBlockState(position).getBlock() instanceof BlockGrass);
+        return FieldStateGrid.needsHoe(world, position);
     }
 
     /**
@@ -560,9 +542,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
     {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+        return FieldStateGrid.needsPlant(world, position, field);
     }
 
     /**
@@ -581,6 +561,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         }
 
         @NotNull final IPlantable seed = (IPlantable) item.getItem();
+        @Nullable final BlockPos prevPos = workingGrid == null ? null : workingGrid.getGroundPos(workingCell - 1);
         if ((seed == Items.MELON_SEEDS || seed == Items.PUMPKIN_SEEDS) && prevPos != null && !world.isAirBlock(prevPos.up()))
         {
             return true;
@@ -646,7 +627,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     public boolean isCrop(final Block block)
     {
-        return block instanceof IGrowable && block instanceof BlockCrops;
+        return FieldStateGrid.isCrop(block);
     }
 
     /**
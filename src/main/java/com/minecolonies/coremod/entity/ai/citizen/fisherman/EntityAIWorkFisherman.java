@@ -25,6 +25,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
@@ -348,6 +349,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
+            getOwnBuilding().getColony().getFishingSpotManager().invalidateSpot(job.getWater());
             job.removeFromPonds(job.getWater());
             job.setWater(null);
             executedRotations = 0;
@@ -371,6 +373,18 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
+
+        //Prefer a free spot of the colony catalog, which is shared with the other fishermen
+        if (pathResult == null)
+        {
+            final BlockPos spot = getOwnBuilding().getColony().getFishingSpotManager().claimSpot(worker.getCitizenData(), getOwnBuilding().getLocation());
+            if (spot != null)
+            {
+                job.setWater(spot);
+                return FISHERMAN_CHECK_WATER;
+            }
+        }
+
         //If he can't find any pond, tell that to the player
         //If 20 ponds are already stored, take a random stored location
         if (job.getPonds().size() >= MAX_PONDS)
@@ -428,6 +442,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
         {
             if (pathResult.pond != null)
             {
+                getOwnBuilding().getColony().getFishingSpotManager().claimFoundSpot(worker.getCitizenData(), pathResult.pond);
                 job.setWater(pathResult.pond);
                 job.addToPonds(pathResult.pond);
             }
@@ -587,6 +602,10 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
+            if (job.getWater() != null)
+            {
+                getOwnBuilding().getColony().getFishingSpotManager().invalidateSpot(job.getWater());
+            }
             job.removeFromPonds(job.getWater());
             job.setWater(null);
             return FISHERMAN_SEARCHING_WATER;
@@ -9,7 +9,6 @@ import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
-import com.minecolonies.coremod.colony.buildings.views.MobEntryView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIFight;
@@ -26,7 +25,6 @@ import net.minecraft.world.WorldServer;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.TEAM_COLONY_NAME;
 import static com.minecolonies.api.util.constant.Constants.*;
@@ -85,6 +83,16 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
      */
     private BlockPos currentPatrolPoint = null;
 
+    /**
+     * Version of the colony horde {@link #raidersPresent} was checked at.
+     */
+    private int seenHordeVersion = -1;
+
+    /**
+     * If the colony horde had raiders at the seen version.
+     */
+    private boolean raidersPresent = false;
+
     /**
      * The guard building assigned to this job.
      */
@@ -343,7 +351,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
 
         if (target != null)
         {
-            if (!worker.canEntityBeSeen(target) && lastSeen < STOP_PERSECUTION_AFTER)
+            if ((colony == null ? !worker.canEntityBeSeen(target) : !colony.getThreatManager().canGuardSee(worker, target)) && lastSeen < STOP_PERSECUTION_AFTER)
             {
                 target = null;
             }
@@ -356,23 +364,30 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
 
         if (colony != null)
         {
-            if (!colony.getRaiderManager().getHorde((WorldServer) worker.world).isEmpty() || colony.isColonyUnderAttack())
+            final int hordeVersion = colony.getRaiderManager().getHordeVersion((WorldServer) worker.world);
+            if (hordeVersion != seenHordeVersion)
+            {
+                seenHordeVersion = hordeVersion;
+                raidersPresent = !colony.getRaiderManager().getHorde((WorldServer) worker.world).isEmpty();
+            }
+
+            if (raidersPresent || colony.isColonyUnderAttack())
             {
                 for (final CitizenData citizen : colony.getCitizenManager().getCitizens())
                 {
                     if (citizen.getCitizenEntity().isPresent())
                     {
                         final EntityLivingBase entity = citizen.getCitizenEntity().get().getRevengeTarget();
-                        if (entity instanceof AbstractEntityMinecoloniesMob && worker.canEntityBeSeen(entity))
+                        if (entity instanceof AbstractEntityMinecoloniesMob && colony.getThreatManager().canGuardSee(worker, entity))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityCitizen && worker.canEntityBeSeen(entity) && (((EntityCitizen) entity).getCitizenJobHandler()
+                        else if (entity instanceof EntityCitizen && colony.getThreatManager().canGuardSee(worker, entity) && (((EntityCitizen) entity).getCitizenJobHandler()
                                                                                                          .getColonyJob() instanceof AbstractJobGuard))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityPlayer && worker.canEntityBeSeen(entity))
+                        else if (entity instanceof EntityPlayer && colony.getThreatManager().canGuardSee(worker, entity))
                         {
                             colony.isValidAttackingPlayer((EntityPlayer) entity);
                         }
@@ -380,37 +395,11 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                 }
             }
 
-            final List<EntityLivingBase> targets = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea(),
-              entity -> buildingGuards.getMobsToAttack()
-                          .stream()
-                          .filter(MobEntryView::hasAttack)
-                          .anyMatch(mobEntry -> mobEntry.getEntityEntry().getEntityClass().isInstance(entity)));
-
-
-            int closest = Integer.MAX_VALUE;
-            EntityLivingBase targetEntity = null;
-            for (final EntityLivingBase entity : targets)
-            {
-                if (worker.canEntityBeSeen(entity) && isWithinPersecutionDistance(entity.getPosition()))
-                {
-                    if (entity instanceof EntityPlayer && (colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK) || colony.isValidAttackingPlayer((EntityPlayer) entity)))
-                    {
-                        return entity;
-                    }
-                    else if (entity instanceof EntityCitizen && colony.isValidAttackingGuard((EntityCitizen) entity))
-                    {
-                        return entity;
-                    }
-
-                    final int tempDistance = (int) worker.getPosition().distanceSq(entity.posX, entity.posY, entity.posZ);
-                    if (tempDistance < closest)
-                    {
-                        closest = tempDistance;
-                        targetEntity = entity;
-                    }
-                }
-            }
-            return targetEntity;
+            return colony.getThreatManager().getClosestTarget(worker, buildingGuards, getSearchArea(),
+              entity -> isWithinPersecutionDistance(entity.getPosition()) && colony.getThreatManager().canGuardSee(worker, entity),
+              entity -> (entity instanceof EntityPlayer
+                           && (colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK) || colony.isValidAttackingPlayer((EntityPlayer) entity)))
+                          || (entity instanceof EntityCitizen && colony.isValidAttackingGuard((EntityCitizen) entity)));
         }
 
         return null;
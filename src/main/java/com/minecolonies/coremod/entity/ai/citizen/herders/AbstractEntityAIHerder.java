@@ -4,10 +4,12 @@ import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.api.util.constant.TranslationConstants;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.passive.EntityAnimal;
 import net.minecraft.item.Item;
@@ -70,6 +72,16 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
      */
     private AxisAlignedBB targetArea = null;
 
+    /**
+     * Reused result list of the animal search.
+     */
+    private final List<T> animalsInArea = new ArrayList<>();
+
+    /**
+     * Reused result list of the item search.
+     */
+    private final List<EntityItem> itemsInArea = new ArrayList<>();
+
     /**
      * Creates the abstract part of the AI.
      * Always use this constructor!
@@ -322,20 +334,13 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
 
     /**
      * Find animals in area.
+     * The list is reused by the next search, copy it to keep it.
      *
      * @return the {@link List} of animals in the area.
      */
     public List<T> searchForAnimals()
     {
-
-        if (this.getTargetableArea() != null)
-        {
-            return new ArrayList<>(world.getEntitiesWithinAABB(
-              getAnimalClass(),
-              this.getTargetableArea()
-            ));
-        }
-        return new ArrayList<>();
+        return searchInArea(getAnimalClass(), animalsInArea);
     }
 
     public int getMaxAnimalMultiplier()
@@ -345,19 +350,39 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob, T extends En
 
     /**
      * Find items in hut area.
+     * The list is reused by the next search, copy it to keep it.
      *
      * @return the {@link List} of {@link EntityItem} in the area.
      */
     public List<EntityItem> searchForItemsInArea()
     {
-        if (this.getTargetableArea() != null)
+        return searchInArea(EntityItem.class, itemsInArea);
+    }
+
+    /**
+     * Find entities of a type in the hut area, using the entity index of the colony.
+     *
+     * @param type   the entity class.
+     * @param result the list to fill.
+     * @param <E>    the entity type.
+     * @return the filled list.
+     */
+    private <E extends Entity> List<E> searchInArea(@NotNull final Class<E> type, @NotNull final List<E> result)
+    {
+        result.clear();
+        final AxisAlignedBB area = this.getTargetableArea();
+        if (area == null)
+        {
+            return result;
+        }
+
+        final Colony colony = worker.getCitizenColonyHandler().getColony();
+        if (colony == null)
         {
-            return new ArrayList<>(world.getEntitiesWithinAABB(
-              EntityItem.class,
-              this.getTargetableArea()
-            ));
+            result.addAll(world.getEntitiesWithinAABB(type, area));
+            return result;
         }
-        return new ArrayList<>();
+        return colony.getEntityIndexManager().getEntities(type, area, null, result);
     }
 
     /**
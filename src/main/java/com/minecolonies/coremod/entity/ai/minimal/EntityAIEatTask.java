@@ -236,7 +236,7 @@ public class EntityAIEatTask extends EntityAIBase
         final ItemFood itemFood = (ItemFood) stack.getItem();
         citizenData.increaseSaturation(itemFood.getHealAmount(stack) / 2.0);
         citizenData.getInventory().decrStackSize(foodSlot, 1);
-        citizenData.markDirty();
+        citizenData.markDirty(CitizenData.VIEW_SATURATION | CitizenData.VIEW_INVENTORY);
         citizen.setHeldItem(EnumHand.MAIN_HAND, ItemStack.EMPTY);
 
         if (citizenData.getSaturation() < CitizenConstants.FULL_SATURATION && !stack.isEmpty())
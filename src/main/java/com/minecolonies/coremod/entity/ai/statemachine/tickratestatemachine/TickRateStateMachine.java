@@ -6,7 +6,10 @@ import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
 
@@ -21,6 +24,46 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
      */
     private int tickCounter = 0;
 
+    /**
+     * The event types in the order they are checked.
+     */
+    private static final AIBlockingEventType[] EVENT_ORDER = {AIBlockingEventType.AI_BLOCKING, AIBlockingEventType.EVENT, AIBlockingEventType.STATE_BLOCKING};
+
+    /**
+     * The compiled event transitions, indexed like {@link #EVENT_ORDER}.
+     */
+    private TickingTransitionTable[] eventTables;
+
+    /**
+     * The compiled state transitions, indexed by the state index of {@link #stateIndices}.
+     */
+    private TickingTransitionTable[] stateTables;
+
+    /**
+     * The index of each state which has transitions.
+     */
+    private final Map<IAIState, Integer> stateIndices = new IdentityHashMap<>();
+
+    /**
+     * The state the cached state index belongs to.
+     */
+    private IAIState indexedState;
+
+    /**
+     * The cached state index of the current state, -1 if the state has no transitions.
+     */
+    private int stateIndex = -1;
+
+    /**
+     * If the transitions changed since they were compiled.
+     */
+    private boolean dirty = true;
+
+    /**
+     * The transition check applied to the due transitions.
+     */
+    private final Predicate<TickingTransition> dueTransitionChecker = super::checkTransition;
+
     /**
      * Construct a new StateMachine
      */
@@ -46,21 +89,70 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
             tickCounter = 1;
         }
 
+        if (dirty)
+        {
+            compile();
+        }
 
-
-        if (!eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.EVENT).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING).stream().anyMatch(this::checkTransition))
+        for (int i = 0; i < eventTables.length; i++)
         {
-            if (!transitionMap.containsKey(getState()))
+            if (eventTables[i].check(tickCounter, dueTransitionChecker))
             {
-                // Reached Trap/Sink state we cannot leave.
-                onException(new RuntimeException("Missing AI transition for state: " + getState()));
-                reset();
                 return;
             }
-            transitionMap.get(getState()).stream().anyMatch(this::checkTransition);
         }
+
+        if (indexedState != getState())
+        {
+            indexedState = getState();
+            stateIndex = stateIndices.getOrDefault(indexedState, -1);
+        }
+
+        if (stateIndex == -1)
+        {
+            // Reached Trap/Sink state we cannot leave.
+            onException(new RuntimeException("Missing AI transition for state: " + getState()));
+            reset();
+            return;
+        }
+        stateTables[stateIndex].check(tickCounter, dueTransitionChecker);
+    }
+
+    /**
+     * Compile the registered transitions into the flat tables used by {@link #tick()}.
+     */
+    private void compile()
+    {
+        eventTables = new TickingTransitionTable[EVENT_ORDER.length];
+        for (int i = 0; i < EVENT_ORDER.length; i++)
+        {
+            eventTables[i] = new TickingTransitionTable(eventTransitionMap.get(EVENT_ORDER[i]));
+        }
+
+        stateIndices.clear();
+        stateTables = new TickingTransitionTable[transitionMap.size()];
+        for (final Map.Entry<IAIState, ArrayList<TickingTransition>> entry : transitionMap.entrySet())
+        {
+            stateTables[stateIndices.size()] = new TickingTransitionTable(entry.getValue());
+            stateIndices.put(entry.getKey(), stateIndices.size());
+        }
+
+        indexedState = null;
+        dirty = false;
+    }
+
+    @Override
+    public void addTransition(final TickingTransition transition)
+    {
+        super.addTransition(transition);
+        dirty = true;
+    }
+
+    @Override
+    public void removeTransition(final TickingTransition transition)
+    {
+        super.removeTransition(transition);
+        dirty = true;
     }
 
     /**
@@ -102,7 +102,8 @@ public class TickingTransition extends BasicTransition
     }
 
     /**
-     * Allow to dynamically change the tickrate
+     * Allow to dynamically change the tickrate.
+     * State machines read the tickrate when compiling their transitions, so set it before registering the transition.
      *
      * @param tickRate rate at which the AITarget should tick
      */
@@ -0,0 +1,207 @@
+package com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compiled list of ticking transitions.
+ * Transitions are bucketed by tick rate and tick offset, so a check only visits the transitions which are due in the current tick,
+ * still in the order they have been registered in.
+ */
+final class TickingTransitionTable
+{
+    /**
+     * Empty bucket.
+     */
+    private static final TickingTransition[] NO_TRANSITIONS = new TickingTransition[0];
+
+    /**
+     * Empty registration order bucket.
+     */
+    private static final int[] NO_ORDER = new int[0];
+
+    /**
+     * The distinct tick rates of the transitions.
+     */
+    private final int[] rates;
+
+    /**
+     * The tick offsets which have transitions, by rate slot.
+     */
+    private final int[][] offsets;
+
+    /**
+     * The transitions by rate slot and index in {@link #offsets}, in registration order.
+     */
+    private final TickingTransition[][][] due;
+
+    /**
+     * The registration index of each transition in {@link #due}, used to merge the buckets of different rates.
+     */
+    private final int[][][] order;
+
+    /**
+     * Scratch space holding the due bucket of every rate slot for the current check.
+     */
+    private final int[][] dueOrder;
+
+    /**
+     * Scratch space holding the due transitions of every rate slot for the current check.
+     */
+    private final TickingTransition[][] dueTransitions;
+
+    /**
+     * Scratch space holding the merge position within the bucket of every rate slot.
+     */
+    private final int[] cursors;
+
+    /**
+     * Compile a list of transitions.
+     *
+     * @param transitions the transitions in registration order.
+     */
+    TickingTransitionTable(@NotNull final List<TickingTransition> transitions)
+    {
+        final List<Integer> distinctRates = new ArrayList<>();
+        for (final TickingTransition transition : transitions)
+        {
+            if (!distinctRates.contains(transition.getTickRate()))
+            {
+                distinctRates.add(transition.getTickRate());
+            }
+        }
+
+        rates = new int[distinctRates.size()];
+        offsets = new int[rates.length][];
+        due = new TickingTransition[rates.length][][];
+        order = new int[rates.length][][];
+        dueOrder = new int[rates.length][];
+        dueTransitions = new TickingTransition[rates.length][];
+        cursors = new int[rates.length];
+
+        for (int slot = 0; slot < rates.length; slot++)
+        {
+            final int rate = distinctRates.get(slot);
+            rates[slot] = rate;
+
+            final List<Integer> distinctOffsets = new ArrayList<>();
+            for (final TickingTransition transition : transitions)
+            {
+                if (transition.getTickRate() == rate && !distinctOffsets.contains(transition.getTickOffset()))
+                {
+                    distinctOffsets.add(transition.getTickOffset());
+                }
+            }
+
+            offsets[slot] = new int[distinctOffsets.size()];
+            due[slot] = new TickingTransition[distinctOffsets.size()][];
+            order[slot] = new int[distinctOffsets.size()][];
+            for (int bucket = 0; bucket < distinctOffsets.size(); bucket++)
+            {
+                final int offset = distinctOffsets.get(bucket);
+                final List<TickingTransition> bucketTransitions = new ArrayList<>();
+                final List<Integer> bucketOrder = new ArrayList<>();
+                for (int i = 0; i < transitions.size(); i++)
+                {
+                    final TickingTransition transition = transitions.get(i);
+                    if (transition.getTickRate() == rate && transition.getTickOffset() == offset)
+                    {
+                        bucketTransitions.add(transition);
+                        bucketOrder.add(i);
+                    }
+                }
+
+                offsets[slot][bucket] = offset;
+                due[slot][bucket] = bucketTransitions.toArray(NO_TRANSITIONS);
+                order[slot][bucket] = bucketOrder.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+    }
+
+    /**
+     * Find the bucket of a rate slot which is due at the given tick.
+     *
+     * @param slot        the rate slot.
+     * @param tickCounter the tick counter of the state machine.
+     * @return the index of the bucket, or -1 if no transition of this rate is due.
+     */
+    private int findDueBucket(final int slot, final int tickCounter)
+    {
+        final int residue = tickCounter % rates[slot];
+        final int[] slotOffsets = offsets[slot];
+        for (int bucket = 0; bucket < slotOffsets.length; bucket++)
+        {
+            if (slotOffsets[bucket] == residue)
+            {
+                return bucket;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check the transitions which are due in this tick, in registration order, until one of them fires.
+     *
+     * @param tickCounter the tick counter of the state machine.
+     * @param checker     the transition check, returns true if the transition fired.
+     * @return true if a transition fired.
+     */
+    boolean check(final int tickCounter, @NotNull final Predicate<TickingTransition> checker)
+    {
+        if (rates.length == 1)
+        {
+            final int bucket = findDueBucket(0, tickCounter);
+            if (bucket == -1)
+            {
+                return false;
+            }
+
+            final TickingTransition[] transitions = due[0][bucket];
+            for (int i = 0; i < transitions.length; i++)
+            {
+                if (checker.test(transitions[i]))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        for (int slot = 0; slot < rates.length; slot++)
+        {
+            final int bucket = findDueBucket(slot, tickCounter);
+            dueOrder[slot] = bucket == -1 ? NO_ORDER : order[slot][bucket];
+            dueTransitions[slot] = bucket == -1 ? NO_TRANSITIONS : due[slot][bucket];
+            cursors[slot] = 0;
+        }
+
+        while (true)
+        {
+            int next = -1;
+            int nextOrder = Integer.MAX_VALUE;
+            for (int slot = 0; slot < rates.length; slot++)
+            {
+                if (cursors[slot] < dueOrder[slot].length && dueOrder[slot][cursors[slot]] < nextOrder)
+                {
+                    next = slot;
+                    nextOrder = dueOrder[slot][cursors[slot]];
+                }
+            }
+
+            if (next == -1)
+            {
+                return false;
+            }
+
+            final TickingTransition transition = dueTransitions[next][cursors[next]];
+            cursors[next]++;
+            if (checker.test(transition))
+            {
+                return true;
+            }
+        }
+    }
+}
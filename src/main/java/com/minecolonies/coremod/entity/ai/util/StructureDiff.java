@@ -0,0 +1,350 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.ldtteam.structures.helpers.Structure;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.ColonyManager;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The positions of a structure which still need work, by stage.
+ * The world area of the structure is copied once on the server thread, the positions which need work are computed from that copy
+ * on a background thread, and afterwards block updates in the area keep the result current.
+ * Positions are identified by their index in the iteration order of the structure, so the result of a stage is a bit set of indices.
+ */
+public final class StructureDiff
+{
+    /**
+     * The stages the diff is computed for, the spawn stage depends on entities and is iterated as before.
+     */
+    private static final StructureIterator.Stage[] STAGES =
+      {StructureIterator.Stage.CLEAR, StructureIterator.Stage.BUILD, StructureIterator.Stage.DECORATE, StructureIterator.Stage.REMOVE};
+
+    /**
+     * The background thread computing the diffs.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Structure Diff");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The diffs which follow block updates, weak so a dropped structure iterator takes its diff with it.
+     */
+    private static final Set<StructureDiff> active = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * The world of the structure.
+     */
+    private final World world;
+
+    /**
+     * The world position of the local position 0,0,0.
+     */
+    private final BlockPos origin;
+
+    /**
+     * The size of the structure.
+     */
+    private final int width;
+    private final int height;
+    private final int length;
+
+    /**
+     * The structure block states by index.
+     */
+    private final IBlockState[] structureStates;
+
+    /**
+     * The positions which need work, by stage, null until computed.
+     */
+    @Nullable
+    private Map<StructureIterator.Stage, BitSet> pending;
+
+    /**
+     * The running computation, null once it has been applied.
+     */
+    @Nullable
+    private Future<Map<StructureIterator.Stage, BitSet>> computation;
+
+    /**
+     * The indices which changed while the computation was running.
+     */
+    private final List<Integer> changedWhileComputing = new ArrayList<>();
+
+    /**
+     * Copy the area of the structure and start the computation.
+     *
+     * @param world     the world to build in.
+     * @param structure the placed structure.
+     */
+    private StructureDiff(@NotNull final World world, @NotNull final Structure structure)
+    {
+        this.world = world;
+        this.width = structure.getWidth();
+        this.height = structure.getHeight();
+        this.length = structure.getLength();
+
+        final BlockPos progress = structure.getLocalPosition();
+        structure.setLocalPosition(BlockPos.ORIGIN);
+        this.origin = structure.getBlockPosition();
+        structure.setLocalPosition(progress);
+
+        final int size = width * height * length;
+        structureStates = new IBlockState[size];
+        final IBlockState[] worldStates = new IBlockState[size];
+        for (int index = 0; index < size; index++)
+        {
+            final BlockPos localPos = getLocalPos(index);
+            structureStates[index] = structure.getBlockState(localPos);
+            worldStates[index] = world.getBlockState(origin.add(localPos));
+        }
+
+        // The classification asks for ores, the trait table must not be built lazily on the background thread.
+        ColonyManager.getCompatibilityManager().ensureTraitTable();
+        computation = EXECUTOR.submit(() -> computePending(worldStates));
+    }
+
+    /**
+     * Start the diff of a placed structure.
+     *
+     * @param world     the world to build in.
+     * @param structure the placed structure.
+     * @return the diff, which is ready once the background computation finished.
+     */
+    @NotNull
+    public static StructureDiff compute(@NotNull final World world, @NotNull final Structure structure)
+    {
+        final StructureDiff diff = new StructureDiff(world, structure);
+        active.add(diff);
+        return diff;
+    }
+
+    /**
+     * Stop following block updates.
+     */
+    public void discard()
+    {
+        active.remove(this);
+        if (computation != null)
+        {
+            computation.cancel(false);
+            computation = null;
+        }
+    }
+
+    /**
+     * Forward a block update to the diffs covering its position.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (active.isEmpty())
+        {
+            return;
+        }
+
+        for (final StructureDiff diff : active)
+        {
+            if (diff.world == world)
+            {
+                diff.onBlockChanged(pos);
+            }
+        }
+    }
+
+    /**
+     * Compute the positions which need work from the copied world states, runs on the background thread.
+     *
+     * @param worldStates the world states by index.
+     * @return the positions which need work, by stage.
+     */
+    private Map<StructureIterator.Stage, BitSet> computePending(@NotNull final IBlockState[] worldStates)
+    {
+        final Map<StructureIterator.Stage, BitSet> result = new EnumMap<>(StructureIterator.Stage.class);
+        for (final StructureIterator.Stage stage : STAGES)
+        {
+            result.put(stage, new BitSet(worldStates.length));
+        }
+
+        for (int index = 0; index < worldStates.length; index++)
+        {
+            classify(result, index, worldStates[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Update the stages of one index.
+     *
+     * @param target     the positions which need work, by stage.
+     * @param index      the index.
+     * @param worldState the state of the world at the index.
+     */
+    private void classify(@NotNull final Map<StructureIterator.Stage, BitSet> target, final int index, @NotNull final IBlockState worldState)
+    {
+        final IBlockState structureState = structureStates[index];
+        final StructureIterator.StructureBlock block = new StructureIterator.StructureBlock(
+          structureState == null ? null : structureState.getBlock(), origin.add(getLocalPos(index)), structureState, null, null, worldState.getBlock(), worldState);
+        for (final StructureIterator.Stage stage : STAGES)
+        {
+            target.get(stage).set(index, block.block != null && !StructureIterator.shouldSkip(stage, block));
+        }
+    }
+
+    /**
+     * Reclassify a changed position, if it belongs to the structure.
+     *
+     * @param pos the changed position.
+     */
+    private void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        final int x = pos.getX() - origin.getX();
+        final int y = pos.getY() - origin.getY();
+        final int z = pos.getZ() - origin.getZ();
+        if (x < 0 || x >= width || y < 0 || y >= height || z < 0 || z >= length)
+        {
+            return;
+        }
+
+        final int index = (y * length + z) * width + x;
+        if (pending == null)
+        {
+            changedWhileComputing.add(index);
+        }
+        else
+        {
+            classify(pending, index, world.getBlockState(pos));
+        }
+    }
+
+    /**
+     * Check if the computation finished, applying its result on the first call afterwards.
+     *
+     * @return true if the diff can be used.
+     */
+    public boolean isReady()
+    {
+        if (pending == null && computation != null && computation.isDone())
+        {
+            try
+            {
+                pending = computation.get();
+                for (final int index : changedWhileComputing)
+                {
+                    classify(pending, index, world.getBlockState(origin.add(getLocalPos(index))));
+                }
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                discard();
+            }
+            catch (final ExecutionException e)
+            {
+                Log.getLogger().warn("Failed to compute the structure diff, iterating the structure instead", e);
+                discard();
+            }
+            changedWhileComputing.clear();
+            computation = null;
+        }
+        return pending != null;
+    }
+
+    /**
+     * Find the next position which needs work in a stage, in the direction the stage iterates in.
+     *
+     * @param stage     the stage.
+     * @param current   the current local position, a position outside the structure starts the stage over.
+     * @param decrement if the stage iterates backwards.
+     * @return the local position, or null if the stage is done.
+     */
+    @Nullable
+    public BlockPos next(@NotNull final StructureIterator.Stage stage, @NotNull final BlockPos current, final boolean decrement)
+    {
+        final BitSet cells = pending == null ? null : pending.get(stage);
+        if (cells == null)
+        {
+            return null;
+        }
+
+        final int index = getIndex(current);
+        final int next;
+        if (decrement)
+        {
+            next = cells.previousSetBit(index == -1 ? size() - 1 : index - 1);
+        }
+        else
+        {
+            next = cells.nextSetBit(index == -1 ? 0 : index + 1);
+        }
+        return next < 0 ? null : getLocalPos(next);
+    }
+
+    /**
+     * Check if the diff has a result for a stage.
+     *
+     * @param stage the stage.
+     * @return true if so.
+     */
+    public boolean covers(@NotNull final StructureIterator.Stage stage)
+    {
+        for (final StructureIterator.Stage covered : STAGES)
+        {
+            if (covered == stage)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the amount of positions of the structure.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return structureStates.length;
+    }
+
+    /**
+     * Get the index of a local position.
+     *
+     * @param localPos the local position.
+     * @return the index, or -1 if the position is outside the structure.
+     */
+    private int getIndex(@NotNull final BlockPos localPos)
+    {
+        if (localPos.getX() < 0 || localPos.getX() >= width || localPos.getY() < 0 || localPos.getY() >= height || localPos.getZ() < 0 || localPos.getZ() >= length)
+        {
+            return -1;
+        }
+        return (localPos.getY() * length + localPos.getZ()) * width + localPos.getX();
+    }
+
+    /**
+     * Get the local position of an index.
+     *
+     * @param index the index.
+     * @return the local position.
+     */
+    private BlockPos getLocalPos(final int index)
+    {
+        return new BlockPos(index % width, index / (width * length), (index / width) % length);
+    }
+}
@@ -177,6 +177,11 @@ public class StructureIterator
         }
     }
 
+    /**
+     * The local position of a structure which is not being iterated.
+     */
+    private static final BlockPos NULL_POS = new BlockPos(-1, -1, -1);
+
     /**
      * The internal structure loaded.
      */
@@ -189,6 +194,12 @@ public class StructureIterator
     private final World            targetWorld;
     private       Stage            stage;
 
+    /**
+     * The positions which still need work, null if the structure is iterated block by block.
+     */
+    @Nullable
+    private StructureDiff diff;
+
     /**
      * Create a new building task.
      *
@@ -361,28 +372,96 @@ public class StructureIterator
     @NotNull
     public Result advanceBlock()
     {
+        if (diff != null && diff.covers(this.stage) && diff.isReady())
+        {
+            return advanceWithDiff();
+        }
+
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                      || structureBlock.worldBlock == Blocks.AIR);
+            case SPAWN:
+            case REMOVE:
+                return advanceBlocks(this.theStructure::decrementBlock, structureBlock -> shouldSkip(this.stage, structureBlock));
+            case BUILD:
+            case DECORATE:
+                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> shouldSkip(this.stage, structureBlock));
+            default:
+                return Result.NEW_BLOCK;
+        }
+    }
+
+    /**
+     * Check if a block needs no work in a stage.
+     *
+     * @param stage          the stage.
+     * @param structureBlock the block.
+     * @return true if the block can be skipped.
+     */
+    public static boolean shouldSkip(@NotNull final Stage stage, @NotNull final StructureBlock structureBlock)
+    {
+        switch (stage)
+        {
+            case CLEAR:
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         || structureBlock.worldBlock == Blocks.AIR;
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         || structureBlock.block == Blocks.AIR
-                                                                                         || !structureBlock.metadata.getMaterial().isSolid());
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         || structureBlock.block == Blocks.AIR
+                         || !structureBlock.metadata.getMaterial().isSolid();
             case SPAWN:
-                return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
-                                                                          structureBlock.entity == null || structureBlock.entity.length <= 0);
+                return structureBlock.entity == null || structureBlock.entity.length <= 0;
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                         || structureBlock.metadata.getMaterial().isSolid());
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         || structureBlock.metadata.getMaterial().isSolid();
             case REMOVE:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                        structureBlock -> structureBlock.worldBlock == Blocks.AIR);
+                return structureBlock.worldBlock == Blocks.AIR;
             default:
-                return Result.NEW_BLOCK;
+                return false;
+        }
+    }
+
+    /**
+     * Jump to the next block which needs work according to the diff.
+     *
+     * @return a Result enum specifying the result
+     */
+    @NotNull
+    private Result advanceWithDiff()
+    {
+        final boolean decrement = this.stage == Stage.CLEAR || this.stage == Stage.REMOVE;
+        final BlockPos next = diff.next(this.stage, this.theStructure.getLocalPosition(), decrement);
+        if (next == null)
+        {
+            this.theStructure.setLocalPosition(NULL_POS);
+            return Result.AT_END;
+        }
+        this.theStructure.setLocalPosition(next);
+        return Result.NEW_BLOCK;
+    }
+
+    /**
+     * Compute which blocks of the placed structure need work on a background thread.
+     * Until it is done, and for the spawn stage, the structure is iterated block by block.
+     */
+    public void computeDiff()
+    {
+        discardDiff();
+        if (this.theStructure != null)
+        {
+            diff = StructureDiff.compute(targetWorld, this.theStructure);
+        }
+    }
+
+    /**
+     * Stop using the diff of the structure.
+     */
+    public void discardDiff()
+    {
+        if (diff != null)
+        {
+            diff.discard();
+            diff = null;
         }
     }
 
@@ -2,6 +2,8 @@ package com.minecolonies.coremod.entity.citizenhandlers;
 
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.util.ExperienceUtils;
@@ -13,6 +15,7 @@ import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.math.AxisAlignedBB;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
@@ -36,6 +39,11 @@ public class CitizenExperienceHandler
      */
     private double skillModifier = 0;
 
+    /**
+     * Reused list of the xp orbs around the citizen.
+     */
+    private final List<EntityXPOrb> nearbyOrbs = new ArrayList<>();
+
     /**
      * The current level.
      */
@@ -139,7 +147,7 @@ public class CitizenExperienceHandler
                 citizen.getCitizenData().levelUp();
             }
             updateLevel();
-            citizen.markDirty();
+            citizen.markDirty(CitizenData.VIEW_SKILLS);
         }
     }
 
@@ -206,23 +214,31 @@ public class CitizenExperienceHandler
      */
     public void gatherXp()
     {
-        for (@NotNull final EntityXPOrb orb : getXPOrbsOnGrid())
+        @NotNull final AxisAlignedBB bb = new AxisAlignedBB(citizen.posX - 2, citizen.posY - 2, citizen.posZ - 2, citizen.posX + 2, citizen.posY + 2, citizen.posZ + 2);
+
+        final Colony colony = citizen.getCitizenColonyHandler().getColony();
+        if (colony == null)
         {
-            addExperience(orb.getXpValue() / 2.0D);
-            orb.setDead();
+            gatherXp(CompatibilityUtils.getWorld(citizen).getEntitiesWithinAABB(EntityXPOrb.class, bb));
+            return;
         }
+
+        gatherXp(colony.getEntityIndexManager().getEntities(EntityXPOrb.class, bb, null, nearbyOrbs));
+        nearbyOrbs.clear();
     }
 
     /**
-     * Defines the area in which the citizen automatically gathers experience.
+     * Collect the given exp orbs.
      *
-     * @return a list of xp orbs around the entity.
+     * @param orbs the orbs around the entity.
      */
-    private List<EntityXPOrb> getXPOrbsOnGrid()
+    private void gatherXp(@NotNull final List<EntityXPOrb> orbs)
     {
-        @NotNull final AxisAlignedBB bb = new AxisAlignedBB(citizen.posX - 2, citizen.posY - 2, citizen.posZ - 2, citizen.posX + 2, citizen.posY + 2, citizen.posZ + 2);
-
-        return CompatibilityUtils.getWorld(citizen).getEntitiesWithinAABB(EntityXPOrb.class, bb);
+        for (@NotNull final EntityXPOrb orb : orbs)
+        {
+            addExperience(orb.getXpValue() / 2.0D);
+            orb.setDead();
+        }
     }
 
     /**
@@ -205,7 +205,7 @@ public class CitizenHappinessHandler
         {
             foodModifier = 0;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -301,7 +301,7 @@ public class CitizenHappinessHandler
             noToolModifier += ((double) ((double) numDays / NO_TOOLS_MAX_DAYS_MODIFIER) * NO_TOOLS_MODIFIER);
         }
 
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
 
     }
 
@@ -336,9 +336,9 @@ public class CitizenHappinessHandler
             {
                 damageModifier = DAMAGE_MODIFIER_MIN;
             }
-            citizen.markDirty();
+            citizen.markDirty(CitizenData.VIEW_HAPPINESS);
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -359,7 +359,7 @@ public class CitizenHappinessHandler
         }
 
         field.isCanFarm(canFarm);
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -390,7 +390,7 @@ public class CitizenHappinessHandler
         {
             needsTool.remove(toolType);
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -407,7 +407,7 @@ public class CitizenHappinessHandler
         {
             houseModifier = (MAX_HOUSE_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_HOUSE)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -426,7 +426,7 @@ public class CitizenHappinessHandler
         {
             jobModifier = (MAX_JOB_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_JOB)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_HAPPINESS);
     }
 
     /**
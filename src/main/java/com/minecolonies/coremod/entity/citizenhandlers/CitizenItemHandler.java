@@ -4,6 +4,7 @@ import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.network.messages.BlockParticleEffectMessage;
 import net.minecraft.block.Block;
@@ -27,7 +28,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 import static com.minecolonies.api.util.constant.CitizenConstants.BLOCK_BREAK_PARTICLE_RANGE;
 import static com.minecolonies.api.util.constant.CitizenConstants.BLOCK_BREAK_SOUND_RANGE;
@@ -45,6 +45,11 @@ public class CitizenItemHandler
      */
     private final EntityCitizen citizen;
 
+    /**
+     * Reused list of the items around the citizen.
+     */
+    private final List<EntityItem> nearbyItems = new ArrayList<>();
+
     /**
      * Constructor for the experience handler.
      * @param citizen the citizen owning the handler.
@@ -244,24 +249,32 @@ public class CitizenItemHandler
      */
     public void pickupItems()
     {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o :
-          CompatibilityUtils.getWorld(citizen).
-                                             getEntitiesWithinAABB(EntityItem.class,
-                                               new AxisAlignedBB(citizen.getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F)))
+        if (!citizen.canPickUpLoot())
+        {
+            return;
+        }
+
+        final AxisAlignedBB area = new AxisAlignedBB(citizen.getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F);
+        final Colony colony = citizen.getCitizenColonyHandler().getColony();
+        if (colony == null)
         {
-            if (o instanceof EntityItem)
+            nearbyItems.clear();
+            nearbyItems.addAll(CompatibilityUtils.getWorld(citizen).getEntitiesWithinAABB(EntityItem.class, area));
+        }
+        else
+        {
+            colony.getEntityIndexManager().getEntities(EntityItem.class, area, null, nearbyItems);
+        }
+
+        for (int i = 0; i < nearbyItems.size(); i++)
+        {
+            final EntityItem item = nearbyItems.get(i);
+            if (item != null && !item.isDead)
             {
-                retList.add((EntityItem) o);
+                tryPickupEntityItem(item);
             }
         }
-
-        retList.stream()
-          .filter(Objects::nonNull)
-          .filter(item -> !item.isDead)
-          .filter(item -> citizen.canPickUpLoot())
-          .forEach(this::tryPickupEntityItem);
+        nearbyItems.clear();
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.citizenhandlers;
 
 import com.minecolonies.api.entity.ai.Status;
+import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import net.minecraft.util.text.ITextComponent;
 
@@ -76,7 +77,7 @@ public class CitizenStatusHandler
 
         if (hasChanged)
         {
-            citizen.markDirty();
+            citizen.markDirty(CitizenData.VIEW_STATUS);
         }
     }
 
@@ -90,7 +91,7 @@ public class CitizenStatusHandler
     {
         System.arraycopy(latestStatus, 0, latestStatus, 1, latestStatus.length - 1);
         latestStatus[0] = status;
-        citizen.markDirty();
+        citizen.markDirty(CitizenData.VIEW_STATUS);
     }
 
     /**
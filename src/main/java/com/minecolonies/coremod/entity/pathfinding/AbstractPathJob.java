@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
@@ -8,6 +9,8 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.blocks.BlockBarrel;
 import com.minecolonies.coremod.blocks.decorative.BlockConstructionTape;
 import com.minecolonies.coremod.blocks.huts.BlockHutField;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.util.ColonyProfiler;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -127,6 +130,12 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private EntityLivingBase entity;
 
+    /**
+     * The colony of the citizen this job belongs to, to profile the job, null if it does not belong to a citizen.
+     */
+    @Nullable
+    private final IColony colony;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -154,12 +163,26 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     public AbstractPathJob(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final PathResult result, final EntityLivingBase entity)
     {
-        final int minX = Math.min(start.getX(), end.getX()) - (range / 2);
-        final int minZ = Math.min(start.getZ(), end.getZ()) - (range / 2);
-        final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
-        final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
+        this(new ChunkCache(world,
+            new BlockPos(Math.min(start.getX(), end.getX()) - (range / 2), MIN_Y, Math.min(start.getZ(), end.getZ()) - (range / 2)),
+            new BlockPos(Math.max(start.getX(), end.getX()) + (range / 2), MAX_Y, Math.max(start.getZ(), end.getZ()) + (range / 2)),
+            range),
+          start, range, result, entity);
+    }
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+    /**
+     * AbstractPathJob constructor which searches the given block access as it is, without caching the chunks around the path.
+     * Used for synthetic terrain, like in the benchmarks.
+     *
+     * @param world  the blocks to path through.
+     * @param start  the start position from which to path from.
+     * @param range  maximum path range.
+     * @param result path result.
+     * @param entity the entity.
+     */
+    public AbstractPathJob(@NotNull final IBlockAccess world, @NotNull final BlockPos start, final int range, final PathResult result, final EntityLivingBase entity)
+    {
+        this.world = world;
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -176,6 +199,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             debugNodesPath = new HashSet<>();
         }
         this.entity = entity;
+        this.colony = entity instanceof EntityCitizen ? ((EntityCitizen) entity).getCitizenColonyHandler().getColony() : null;
     }
 
     private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
@@ -369,6 +393,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Override
     public final Path call()
     {
+        final long start = ColonyProfiler.start();
         try
         {
             return search();
@@ -378,6 +403,13 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            if (colony != null)
+            {
+                ColonyProfiler.record(colony, ColonyProfiler.Section.PATHFINDING, getClass(), start);
+            }
+        }
 
         return null;
     }
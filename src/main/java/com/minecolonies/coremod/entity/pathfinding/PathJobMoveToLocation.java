@@ -5,6 +5,7 @@ import com.minecolonies.api.util.Log;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +40,22 @@ public class PathJobMoveToLocation extends AbstractPathJob
         this.destination = new BlockPos(end);
     }
 
+    /**
+     * Prepares the PathJob for a block access which is searched as it is.
+     *
+     * @param world  the blocks to path through.
+     * @param start  starting location.
+     * @param end    target location.
+     * @param range  max search range.
+     * @param entity the entity.
+     */
+    public PathJobMoveToLocation(final IBlockAccess world, @NotNull final BlockPos start, @NotNull final BlockPos end, final int range, final EntityLivingBase entity)
+    {
+        super(world, start, range, new PathResult(), entity);
+
+        this.destination = new BlockPos(end);
+    }
+
     /**
      * Perform the search.
      *
@@ -228,13 +228,29 @@ public class EventHandler
     }
 
     /**
-     * Event called when the player enters a new chunk.
+     * Called when a chunk gets unloaded.
+     *
+     * @param event {@link net.minecraftforge.event.world.ChunkEvent.Unload}
+     */
+    @SubscribeEvent
+    public void onChunkUnload(@NotNull final ChunkEvent.Unload event)
+    {
+        if (event.getWorld() instanceof WorldServer)
+        {
+            ColonyManager.onChunkUnload(event.getWorld(), event.getChunk());
+        }
+    }
+
+    /**
+     * Event called when an entity enters a new chunk section.
      *
      * @param event the event.
      */
     @SubscribeEvent
     public void onEnteringChunkEntity(@NotNull final EntityEvent.EnteringChunk event)
     {
+        ColonyManager.onEntityEnteringChunk(event.getEntity(), event.getNewChunkX(), event.getNewChunkZ());
+
         if (Configurations.gameplay.pvp_mode && event.getEntity() instanceof EntityCitizen)
         {
             if (event.getEntity().world != null && !event.getEntity().world.isBlockLoaded(new BlockPos(event.getNewChunkX() * BLOCKS_PER_CHUNK,
@@ -4,6 +4,7 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
+import com.minecolonies.coremod.network.messages.FactoryTypeIdsMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
 import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
 import com.minecolonies.coremod.sounds.ModSoundEvents;
@@ -71,6 +72,7 @@ public class FMLEventHandler
         if (event.player instanceof EntityPlayerMP)
         {
             MineColonies.getNetwork().sendTo(new ServerUUIDMessage(), (EntityPlayerMP) event.player);
+            MineColonies.getNetwork().sendTo(new FactoryTypeIdsMessage(), (EntityPlayerMP) event.player);
             MineColonies.getNetwork().sendTo(new ColonyStylesMessage(), (EntityPlayerMP) event.player);
 
             // This automatically reloads the owner of the colony if failed.
@@ -81,6 +83,7 @@ public class FMLEventHandler
 
     /**
      * Called when the config is changed, used to synch between file and game.
+     * Rebuilds the compatibility trait table as it depends on the configuration.
      *
      * @param event the on config changed event.
      */
@@ -88,6 +91,10 @@ public class FMLEventHandler
     public void onConfigChanged(@NotNull final ConfigChangedEvent.OnConfigChangedEvent event)
     {
         ConfigManager.sync(Constants.MOD_ID, Config.Type.INSTANCE);
+        if (Constants.MOD_ID.equals(event.getModID()))
+        {
+            ColonyManager.getCompatibilityManager().rebuildTraitTable();
+        }
     }
 
     /**
@@ -24,6 +24,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
@@ -76,6 +77,11 @@ public class InventoryCitizen implements IInventory
      */
     private CitizenData citizen;
 
+    /**
+     * The content of the slots as last sent to the citizen view, to find the slots which changed since.
+     */
+    private final ItemStack[] syncedStacks = new ItemStack[mainInventory.size() + armorInventory.size() + offHandInventory.size()];
+
     /**
      * Creates the inventory of the citizen.
      *
@@ -96,6 +102,7 @@ public class InventoryCitizen implements IInventory
         this.allInventories.add(this.offHandInventory);
 
         this.itemStack = ItemStackUtils.EMPTY;
+        Arrays.fill(syncedStacks, ItemStackUtils.EMPTY);
     }
 
     /**
@@ -115,6 +122,7 @@ public class InventoryCitizen implements IInventory
         this.allInventories.add(this.armorInventory);
         this.allInventories.add(this.offHandInventory);
         this.itemStack = ItemStackUtils.EMPTY;
+        Arrays.fill(syncedStacks, ItemStackUtils.EMPTY);
     }
 
     /**
@@ -396,8 +404,47 @@ public class InventoryCitizen implements IInventory
         this.inventoryChanged = true;
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(CitizenData.VIEW_INVENTORY);
+        }
+    }
+
+    /**
+     * Get the slots whose content differs from the last call and remember their current content as sent.
+     * Compares the stacks instead of tracking the setters, as the stacks are often changed in place.
+     *
+     * @return the indices of the changed slots.
+     */
+    public List<Integer> pollChangedSlots()
+    {
+        final List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < syncedStacks.length; i++)
+        {
+            final ItemStack stack = getStackInSlot(i);
+            if (!ItemStack.areItemStacksEqual(stack, syncedStacks[i]))
+            {
+                syncedStacks[i] = stack.copy();
+                changed.add(i);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Get the slots which are not empty, including armor and off-hand.
+     *
+     * @return the indices of the occupied slots.
+     */
+    public List<Integer> getOccupiedSlots()
+    {
+        final List<Integer> occupied = new ArrayList<>();
+        for (int i = 0; i < syncedStacks.length; i++)
+        {
+            if (!ItemStackUtils.isEmpty(getStackInSlot(i)))
+            {
+                occupied.add(i);
+            }
         }
+        return occupied;
     }
 
     /**
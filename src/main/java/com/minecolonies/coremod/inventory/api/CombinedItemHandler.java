@@ -307,6 +307,17 @@ public class CombinedItemHandler
         return 0;
     }
 
+    /**
+     * Check if another combined handler wraps the same handlers in the same order, so that its slots are the same.
+     *
+     * @param other the other combined handler.
+     * @return true if the slots of both handlers are the same.
+     */
+    public boolean hasSameHandlers(@NotNull final CombinedItemHandler other)
+    {
+        return Arrays.equals(handlers, other.handlers);
+    }
+
     protected IItemHandlerModifiable[] getHandlers()
     {
         return handlers;
@@ -21,6 +21,7 @@ public abstract class AbstractMessage<A extends IMessage, B extends IMessage> im
     @Override
     public B onMessage(final A message, final MessageContext ctx)
     {
+        prepareOnNetworkThread(message, ctx);
         if(ctx.side.isServer())
         {
             final EntityPlayerMP player = ctx.getServerHandler().player;
@@ -33,6 +34,18 @@ public abstract class AbstractMessage<A extends IMessage, B extends IMessage> im
         return null;
     }
 
+    /**
+     * Override this to decode heavy message data on the network thread, before the thread bound part is scheduled.
+     * Store the prepared state in the message, it must not touch the world or any other game state.
+     *
+     * @param message the original message.
+     * @param ctx     the context associated.
+     */
+    protected void prepareOnNetworkThread(final A message, final MessageContext ctx)
+    {
+        //NOOP
+    }
+
     /**
      * Override this to schedule actions taken in the client thread.
      *
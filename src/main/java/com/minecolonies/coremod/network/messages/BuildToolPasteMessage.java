@@ -31,6 +31,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTUtil;
 import net.minecraft.stats.StatList;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
@@ -198,18 +199,19 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
             }
 
             InstantStructurePlacer.loadAndPlaceStructureWithRotation(player.world, message.structureName,
-              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete);
-
-            if (message.isHut)
-            {
-                @Nullable final AbstractBuilding building = ColonyManager.getBuilding(CompatibilityUtils.getWorld(player), message.pos);
-                if (building != null)
-                {
-                    building.onUpgradeComplete(building.getBuildingLevel());
-                    final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                    ConstructionTapeHelper.removeConstructionTape(workOrder, CompatibilityUtils.getWorld(player));
-                }
-            }
+              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete, () ->
+              {
+                  if (message.isHut)
+                  {
+                      @Nullable final AbstractBuilding building = ColonyManager.getBuilding(CompatibilityUtils.getWorld(player), message.pos);
+                      if (building != null)
+                      {
+                          building.onUpgradeComplete(building.getBuildingLevel());
+                          final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
+                          ConstructionTapeHelper.removeConstructionTape(workOrder, CompatibilityUtils.getWorld(player));
+                      }
+                  }
+              });
         }
         else if(message.freeMode !=  null )
         {
@@ -239,9 +241,10 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
             player.addStat(StatList.getObjectUseStats(ModItems.supplyChest));
             if(InventoryUtils.removeStacksFromItemHandler(new InvWrapper(player.inventory), stacks))
             {
+                final EnumFacing facing = player.getHorizontalFacing();
                 InstantStructurePlacer.loadAndPlaceStructureWithRotation(player.world, message.structureName,
-                  message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete);
-                player.getServerWorld().setBlockState(message.pos.up(chestHeight), Blocks.CHEST.getDefaultState().withProperty(BlockChest.FACING, player.getHorizontalFacing()));
+                  message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete,
+                  () -> player.getServerWorld().setBlockState(message.pos.up(chestHeight), Blocks.CHEST.getDefaultState().withProperty(BlockChest.FACING, facing)));
             }
             else
             {
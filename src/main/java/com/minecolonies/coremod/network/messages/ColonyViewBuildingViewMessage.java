@@ -2,11 +2,15 @@ package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.registry.BuildingRegistry;
+import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
@@ -20,6 +24,16 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
     private BlockPos buildingId;
     private ByteBuf  buildingData;
 
+    /**
+     * The building view decoded on the network thread, null if it has to be decoded on the client thread.
+     */
+    private AbstractBuildingView building;
+
+    /**
+     * The dimension the building view has been decoded for.
+     */
+    private int dimension;
+
     /**
      * Empty constructor used when registering the message.
      */
@@ -58,9 +72,30 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeBytes(buildingData);
     }
 
+    @Override
+    protected void prepareOnNetworkThread(final ColonyViewBuildingViewMessage message, final MessageContext ctx)
+    {
+        final World world = ctx.side.isClient() ? Minecraft.getMinecraft().world : null;
+        if (world != null)
+        {
+            message.dimension = world.provider.getDimension();
+            final ColonyView view = ColonyManager.getColonyViewForNetwork(message.colonyId, message.dimension);
+            message.building = BuildingRegistry.createBuildingView(view, message.buildingId, message.buildingData);
+        }
+    }
+
     @Override
     protected void messageOnClientThread(final ColonyViewBuildingViewMessage message, final MessageContext ctx)
     {
-        ColonyManager.handleColonyBuildingViewMessage(message.colonyId, message.buildingId, message.buildingData, Minecraft.getMinecraft().world.provider.getDimension());
+        final int dim = Minecraft.getMinecraft().world.provider.getDimension();
+        if (message.building != null && message.dimension == dim)
+        {
+            ColonyManager.handleColonyBuildingViewMessage(message.colonyId, message.building, dim);
+        }
+        else
+        {
+            message.buildingData.resetReaderIndex();
+            ColonyManager.handleColonyBuildingViewMessage(message.colonyId, message.buildingId, message.buildingData, dim);
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.CitizenDataView;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import io.netty.buffer.ByteBuf;
@@ -12,6 +13,7 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Add or Update a ColonyView on the client.
+ * Carries either the complete citizen view, or only the fields and inventory slots which changed.
  */
 public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCitizenViewMessage, IMessage>
 {
@@ -19,6 +21,16 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
     private int     citizenId;
     private ByteBuf citizenBuffer;
 
+    /**
+     * The citizen view decoded on the network thread, only for complete views.
+     */
+    private CitizenDataView citizen;
+
+    /**
+     * If the message carries only the changes to an existing view.
+     */
+    private boolean delta;
+
     /**
      * Empty constructor used when registering the message.
      */
@@ -29,16 +41,25 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
 
     /**
      * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * One message can be sent to several players.
      *
      * @param colony  Colony of the citizen
      * @param citizen Citizen data of the citizen to update view
+     * @param delta   true to only send the changes since the last delta, for players which already have the view.
      */
-    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final CitizenData citizen)
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final CitizenData citizen, final boolean delta)
     {
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
         this.citizenBuffer = Unpooled.buffer();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        if (delta)
+        {
+            citizen.serializeViewNetworkDelta(citizenBuffer);
+        }
+        else
+        {
+            citizen.serializeViewNetworkData(citizenBuffer);
+        }
     }
 
     @Override
@@ -54,12 +75,36 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
     {
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
-        buf.writeBytes(citizenBuffer);
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
+    }
+
+    @Override
+    protected void prepareOnNetworkThread(final ColonyViewCitizenViewMessage message, final MessageContext ctx)
+    {
+        if (ctx.side.isClient())
+        {
+            message.delta = !message.citizenBuffer.readBoolean();
+            if (!message.delta)
+            {
+                message.citizen = CitizenData.createCitizenDataView(message.citizenId, message.citizenBuffer);
+                message.citizenBuffer.release();
+            }
+        }
     }
 
     @Override
     protected void messageOnClientThread(final ColonyViewCitizenViewMessage message, final MessageContext ctx)
     {
-        ColonyManager.handleColonyViewCitizensMessage(message.colonyId, message.citizenId, message.citizenBuffer, Minecraft.getMinecraft().world.provider.getDimension());
+        final int dimension = Minecraft.getMinecraft().world.provider.getDimension();
+        if (message.delta)
+        {
+            // Deltas apply to the existing view, which may only be touched on the client thread.
+            ColonyManager.handleColonyViewCitizenDeltaMessage(message.colonyId, message.citizenId, message.citizenBuffer, dimension);
+            message.citizenBuffer.release();
+        }
+        else
+        {
+            ColonyManager.handleColonyViewCitizensMessage(message.colonyId, message.citizen, dimension);
+        }
     }
 }
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.network.messages;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
 import io.netty.buffer.ByteBuf;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -33,6 +34,11 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
      */
     private int dim;
 
+    /**
+     * The colony data decoded on the network thread.
+     */
+    private ColonyView.Snapshot snapshot;
+
     /**
      * Empty constructor used when registering the message.
      */
@@ -75,12 +81,22 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         buf.writeBytes(colonyBuffer);
     }
 
+    @Override
+    protected void prepareOnNetworkThread(final ColonyViewMessage message, final MessageContext ctx)
+    {
+        if (ctx.side.isClient())
+        {
+            message.snapshot = ColonyView.Snapshot.read(ColonyManager.getColonyViewForNetwork(message.colonyId, message.dim), message.colonyBuffer);
+            message.colonyBuffer.release();
+        }
+    }
+
     @Override
     protected void messageOnClientThread(final ColonyViewMessage message, final MessageContext ctx)
     {
         if (MineColonies.proxy.getWorldFromMessage(ctx) != null)
         {
-            ColonyManager.handleColonyViewMessage(message.colonyId, message.colonyBuffer, MineColonies.proxy.getWorldFromMessage(ctx), message.isNewSubscription, message.dim);
+            ColonyManager.handleColonyViewMessage(message.colonyId, message.snapshot, MineColonies.proxy.getWorldFromMessage(ctx), message.isNewSubscription, message.dim);
         }
     }
 }
@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends the network type ids of the factory controller of the server to the client at login.
+ */
+public class FactoryTypeIdsMessage extends AbstractMessage<FactoryTypeIdsMessage, IMessage>
+{
+    /**
+     * The network ids mapped to the class names.
+     */
+    private final Map<Integer, String> typeIds = new HashMap<>();
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public FactoryTypeIdsMessage()
+    {
+        super();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final int count = buf.readInt();
+        for (int i = 0; i < count; i++)
+        {
+            final int id = buf.readInt();
+            typeIds.put(id, ByteBufUtils.readUTF8String(buf));
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        final Map<Integer, String> ids = StandardFactoryController.getInstance().getNetworkTypeIds();
+        buf.writeInt(ids.size());
+        for (final Map.Entry<Integer, String> entry : ids.entrySet())
+        {
+            buf.writeInt(entry.getKey());
+            ByteBufUtils.writeUTF8String(buf, entry.getValue());
+        }
+    }
+
+    /**
+     * Use the type ids of the server for all further factory buffer traffic.
+     * Applied on the network thread, as colony view messages are decoded there as well.
+     *
+     * @param message Message
+     * @param ctx     Context
+     */
+    @Override
+    protected void prepareOnNetworkThread(final FactoryTypeIdsMessage message, final MessageContext ctx)
+    {
+        if (ctx.side.isClient())
+        {
+            StandardFactoryController.getInstance().setNetworkTypeIds(message.typeIds);
+        }
+    }
+}
@@ -8,13 +8,10 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
-import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
-import com.minecolonies.coremod.util.SortingUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
-import net.minecraftforge.items.CapabilityItemHandler;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -103,8 +100,7 @@ public class SortWarehouseMessage extends AbstractMessage<SortWarehouseMessage,
 
         if (building.getBuildingLevel() >= REQUIRED_LEVEL_TO_SORT_WAREHOUSE)
         {
-            final CombinedItemHandler inv = (CombinedItemHandler) building.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
-            SortingUtils.sort(inv);
+            ((BuildingWareHouse) building).startSorting();
         }
     }
 }
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.proxy;
 
 import com.minecolonies.api.util.Log;
+import com.minecolonies.blockout.Loader;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.blocks.ModBlocks;
 import com.minecolonies.coremod.client.gui.*;
@@ -33,6 +34,7 @@ import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
+import net.minecraft.client.resources.IReloadableResourceManager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.stats.RecipeBook;
@@ -80,6 +82,12 @@ public class ClientProxy extends CommonProxy
 
     }
 
+    @Override
+    public void registerRenderer()
+    {
+        ((IReloadableResourceManager) Minecraft.getMinecraft().getResourceManager()).registerReloadListener(resourceManager -> Loader.clearTemplateCache());
+    }
+
     @Override
     public void registerEntityRendering()
     {
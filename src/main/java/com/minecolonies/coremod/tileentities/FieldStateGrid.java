@@ -0,0 +1,425 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.huts.BlockHutField;
+import net.minecraft.block.*;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Compact work state of the cells of a scarecrow field.
+ * The cells are ordered in the spiral the farmer walks, and every work type keeps a bit set of the cells which are ready for it.
+ * The grid is scanned once when created and afterwards kept up to date from block updates in the field.
+ */
+public final class FieldStateGrid
+{
+    /**
+     * The ground of the cell has to be hoed.
+     */
+    public static final int NEEDS_HOE = 1;
+
+    /**
+     * The farmland of the cell can be planted.
+     */
+    public static final int NEEDS_PLANT = 2;
+
+    /**
+     * The crop of the cell can be harvested.
+     */
+    public static final int RIPE = 4;
+
+    /**
+     * The crop of the cell is still growing, compost can speed it up.
+     */
+    public static final int GROWING = 8;
+
+    /**
+     * The highest block above the ground of a cell the state depends on.
+     */
+    private static final int STATE_HEIGHT = 2;
+
+    /**
+     * The field of the grid.
+     */
+    private final ScarecrowTileEntity field;
+
+    /**
+     * The position of the scarecrow.
+     */
+    private final BlockPos origin;
+
+    /**
+     * The bounds of the field, as offsets to the scarecrow.
+     */
+    private final int minX;
+    private final int maxX;
+    private final int minZ;
+    private final int maxZ;
+
+    /**
+     * The x and z offsets of every cell, in walking order.
+     */
+    private final int[] cellX;
+    private final int[] cellZ;
+
+    /**
+     * The walking order index of every position of the field rectangle, -1 if the farmer never walks there.
+     */
+    private final int[] cellIndex;
+
+    /**
+     * The state flags of every cell.
+     */
+    private final byte[] states;
+
+    /**
+     * The ready cells of every work type.
+     */
+    private final BitSet needsHoe   = new BitSet();
+    private final BitSet needsPlant = new BitSet();
+    private final BitSet ripe       = new BitSet();
+    private final BitSet growing    = new BitSet();
+
+    /**
+     * Create the grid of a field with its current size.
+     *
+     * @param field the scarecrow of the field.
+     */
+    FieldStateGrid(@NotNull final ScarecrowTileEntity field)
+    {
+        this.field = field;
+        this.origin = field.getPos();
+        this.minX = -field.getLengthMinusX();
+        this.maxX = field.getLengthPlusX();
+        this.minZ = -field.getWidthMinusZ();
+        this.maxZ = field.getWidthPlusZ();
+
+        final int width = maxX - minX + 1;
+        cellIndex = new int[width * (maxZ - minZ + 1)];
+        Arrays.fill(cellIndex, -1);
+
+        final List<int[]> walk = walkOrder(field);
+        cellX = new int[walk.size()];
+        cellZ = new int[walk.size()];
+        for (int i = 0; i < walk.size(); i++)
+        {
+            cellX[i] = walk.get(i)[0];
+            cellZ[i] = walk.get(i)[1];
+            cellIndex[(cellZ[i] - minZ) * width + cellX[i] - minX] = i;
+        }
+        states = new byte[walk.size()];
+    }
+
+    /**
+     * Calculate the cells of the field in the spiral the farmer walks, starting at the scarecrow.
+     *
+     * @param field the scarecrow of the field.
+     * @return the x and z offsets of the cells within the field.
+     */
+    private static List<int[]> walkOrder(@NotNull final ScarecrowTileEntity field)
+    {
+        final List<int[]> walk = new ArrayList<>();
+        final int maxSteps = (field.getLengthPlusX() + field.getLengthMinusX() + field.getWidthPlusZ() + field.getWidthMinusZ() + 2) * 4;
+        int x = 0;
+        int z = 0;
+        int totalDis = 1;
+        int dist = 0;
+        boolean horizontal = true;
+        for (int step = 0; step < maxSteps * maxSteps; step++)
+        {
+            if (x >= -field.getLengthMinusX() && x <= field.getLengthPlusX() && z >= -field.getWidthMinusZ() && z <= field.getWidthPlusZ())
+            {
+                walk.add(new int[] {x, z});
+            }
+
+            if (z >= field.getWidthPlusZ() && x <= -field.getLengthMinusX())
+            {
+                break;
+            }
+
+            if (totalDis == dist)
+            {
+                horizontal = !horizontal;
+                dist = 0;
+                if (horizontal)
+                {
+                    totalDis++;
+                }
+            }
+            final int direction = (totalDis & 1) == 0 ? -1 : 1;
+            if (horizontal)
+            {
+                z += direction;
+            }
+            else
+            {
+                x += direction;
+            }
+            dist++;
+        }
+        return walk;
+    }
+
+    /**
+     * Check if the grid still describes the field, which it doesn't once the field has been resized.
+     *
+     * @param field the scarecrow of the field.
+     * @return true if the bounds are the same.
+     */
+    boolean matches(@NotNull final ScarecrowTileEntity field)
+    {
+        return minX == -field.getLengthMinusX() && maxX == field.getLengthPlusX() && minZ == -field.getWidthMinusZ() && maxZ == field.getWidthPlusZ();
+    }
+
+    /**
+     * Classify every cell of the field.
+     *
+     * @param world the world of the field.
+     */
+    void scan(@NotNull final World world)
+    {
+        for (int cell = 0; cell < states.length; cell++)
+        {
+            classify(world, cell);
+        }
+    }
+
+    /**
+     * Update the cell of a changed block, if the block belongs to the field.
+     *
+     * @param world the world of the field.
+     * @param pos   the changed position.
+     */
+    public void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final int height = pos.getY() - origin.getY() + 1;
+        if (height < 0 || height > STATE_HEIGHT)
+        {
+            return;
+        }
+
+        final int cell = getCell(pos.getX() - origin.getX(), pos.getZ() - origin.getZ());
+        if (cell != -1)
+        {
+            classify(world, cell);
+        }
+    }
+
+    /**
+     * Get the cell of an offset to the scarecrow.
+     *
+     * @param x the x offset.
+     * @param z the z offset.
+     * @return the cell, or -1 if the offset is not walked.
+     */
+    private int getCell(final int x, final int z)
+    {
+        if (x < minX || x > maxX || z < minZ || z > maxZ)
+        {
+            return -1;
+        }
+        return cellIndex[(z - minZ) * (maxX - minX + 1) + x - minX];
+    }
+
+    /**
+     * Find the next cell in walking order which is ready for any of the given work types.
+     *
+     * @param flags the work type flags.
+     * @param from  the first cell to consider.
+     * @return the cell, or -1 if no further cell is ready.
+     */
+    public int nextCell(final int flags, final int from)
+    {
+        if (from < 0 || from >= states.length)
+        {
+            return -1;
+        }
+
+        int next = -1;
+        next = nextSetBit(next, (flags & NEEDS_HOE) != 0 ? needsHoe : null, from);
+        next = nextSetBit(next, (flags & NEEDS_PLANT) != 0 ? needsPlant : null, from);
+        next = nextSetBit(next, (flags & RIPE) != 0 ? ripe : null, from);
+        next = nextSetBit(next, (flags & GROWING) != 0 ? growing : null, from);
+        return next;
+    }
+
+    /**
+     * Get the lower of the current candidate and the next set bit of a set.
+     *
+     * @param current the current candidate, -1 if none.
+     * @param cells   the set, null to skip it.
+     * @param from    the first cell to consider.
+     * @return the new candidate.
+     */
+    private static int nextSetBit(final int current, @Nullable final BitSet cells, final int from)
+    {
+        if (cells == null)
+        {
+            return current;
+        }
+        final int next = cells.nextSetBit(from);
+        if (next == -1 || (current != -1 && current < next))
+        {
+            return current;
+        }
+        return next;
+    }
+
+    /**
+     * Get the ground position of a cell.
+     *
+     * @param cell the cell.
+     * @return the position, or null if the cell is not part of this grid.
+     */
+    @Nullable
+    public BlockPos getGroundPos(final int cell)
+    {
+        if (cell < 0 || cell >= states.length)
+        {
+            return null;
+        }
+        return origin.down().south(cellZ[cell]).east(cellX[cell]);
+    }
+
+    /**
+     * Get the state flags of a cell.
+     *
+     * @param cell the cell.
+     * @return the flags, 0 if the cell is not part of this grid.
+     */
+    public int getState(final int cell)
+    {
+        return cell < 0 || cell >= states.length ? 0 : states[cell];
+    }
+
+    /**
+     * Get the amount of cells of the grid.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return states.length;
+    }
+
+    /**
+     * Get the position of the scarecrow.
+     *
+     * @return the position.
+     */
+    @NotNull
+    public BlockPos getOrigin()
+    {
+        return origin;
+    }
+
+    /**
+     * Get the bounds of the field as offsets to the scarecrow.
+     *
+     * @return the min x, max x, min z and max z offsets.
+     */
+    public int[] getBounds()
+    {
+        return new int[] {minX, maxX, minZ, maxZ};
+    }
+
+    /**
+     * Read the state of a cell from the world.
+     *
+     * @param world the world of the field.
+     * @param cell  the cell.
+     */
+    private void classify(@NotNull final World world, final int cell)
+    {
+        final BlockPos position = getGroundPos(cell);
+        int state = 0;
+        if (needsHoe(world, position))
+        {
+            state |= NEEDS_HOE;
+        }
+        if (needsPlant(world, position, field))
+        {
+            state |= NEEDS_PLANT;
+        }
+
+        final IBlockState crop = world.getBlockState(position.up());
+        if (isRipe(crop))
+        {
+            state |= RIPE;
+        }
+        else if (isCrop(crop.getBlock()))
+        {
+            state |= GROWING;
+        }
+
+        states[cell] = (byte) state;
+        needsHoe.set(cell, (state & NEEDS_HOE) != 0);
+        needsPlant.set(cell, (state & NEEDS_PLANT) != 0);
+        ripe.set(cell, (state & RIPE) != 0);
+        growing.set(cell, (state & GROWING) != 0);
+    }
+
+    /**
+     * Checks if the ground should be hoed and the block above removed.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @return true if should be hoed.
+     */
+    public static boolean needsHoe(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final Block ground = world.getBlockState(position).getBlock();
+        return !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
+                 && (ground instanceof BlockDirt || ground instanceof BlockGrass);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param position the ground position.
+     * @param field    the field close to this position.
+     * @return true if the farmer should plant.
+     */
+    public static boolean needsPlant(@NotNull final World world, @NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
+    {
+        final Block above = world.getBlockState(position.up()).getBlock();
+        final Block ground = world.getBlockState(position).getBlock();
+        return !field.isNoPartOfField(world, position) && !(above instanceof BlockCrops)
+                 && !(above instanceof BlockStem)
+                 && !(ground instanceof BlockHutField) && ground == Blocks.FARMLAND;
+    }
+
+    /**
+     * Checks if a crop can be harvested without growing it first.
+     *
+     * @param state the state of the crop.
+     * @return true if so.
+     */
+    public static boolean isRipe(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        return block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK || (isCrop(block) && ((BlockCrops) block).isMaxAge(state));
+    }
+
+    /**
+     * Check if a block is a crop.
+     *
+     * @param block the block.
+     * @return true if so.
+     */
+    public static boolean isCrop(final Block block)
+    {
+        return block instanceof IGrowable && block instanceof BlockCrops;
+    }
+}
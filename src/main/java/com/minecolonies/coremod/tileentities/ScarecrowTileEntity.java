@@ -6,6 +6,7 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.util.FieldStateIndex;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
@@ -116,6 +117,12 @@ public class ScarecrowTileEntity extends TileEntityChest
      */
     private final IItemHandlerModifiable inventory = new ItemStackHandler(1);
 
+    /**
+     * The work state of the field cells, created on first use after the field has been loaded.
+     */
+    @Nullable
+    private FieldStateGrid fieldState;
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -172,9 +179,44 @@ public class ScarecrowTileEntity extends TileEntityChest
         this.lengthMinusX = searchNextBlock(0, position.west(), EnumFacing.WEST, world);
         this.widthPlusZ = searchNextBlock(0, position.south(), EnumFacing.SOUTH, world);
         this.widthMinusZ = searchNextBlock(0, position.north(), EnumFacing.NORTH, world);
+        if (fieldState != null && !fieldState.matches(this))
+        {
+            dropFieldState();
+        }
         markDirty();
     }
 
+    /**
+     * Get the work state of the field cells.
+     * The field is scanned when it is first used after loading, afterwards the state is kept up to date from block updates.
+     *
+     * @param world the world of the field.
+     * @return the state grid.
+     */
+    @NotNull
+    public FieldStateGrid getFieldState(@NotNull final World world)
+    {
+        if (fieldState == null)
+        {
+            fieldState = new FieldStateGrid(this);
+            fieldState.scan(world);
+            FieldStateIndex.register(world, fieldState);
+        }
+        return fieldState;
+    }
+
+    /**
+     * Drop the work state of the field cells, it will be rescanned on the next use.
+     */
+    private void dropFieldState()
+    {
+        if (fieldState != null && world != null)
+        {
+            FieldStateIndex.unregister(world, fieldState);
+        }
+        fieldState = null;
+    }
+
     /**
      * Calculates the field size into a specific direction.
      *
@@ -494,6 +536,20 @@ public class ScarecrowTileEntity extends TileEntityChest
         }
     }
 
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        dropFieldState();
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        dropFieldState();
+    }
+
     @Override
     public void readFromNBT(final NBTTagCompound compound)
     {
@@ -1,6 +1,6 @@
 package com.minecolonies.coremod.tileentities;
 
-import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
@@ -37,7 +37,12 @@ public class TileEntityRack extends TileEntity
     /**
      * The content of the chest.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Map<ItemKey, Integer> content = new HashMap<>();
+
+    /**
+     * The item types of the chest, ignoring damage and nbt.
+     */
+    private final Set<ItemKey> similarContent = new HashSet<>();
 
     /**
      * Variable which determines if it is a single or doublechest.
@@ -97,7 +102,7 @@ public class TileEntityRack extends TileEntity
      */
     public boolean hasItemStack(final ItemStack stack)
     {
-        return content.containsKey(new ItemStorage(stack));
+        return content.containsKey(ItemKey.of(stack));
     }
 
     /**
@@ -120,7 +125,7 @@ public class TileEntityRack extends TileEntity
     public int getFreeSlots()
     {
         int freeSlots = inventory.getSlots();
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
         {
             final double slotsNeeded = (double) entry.getValue() / entry.getKey().getItemStack().getMaxStackSize();
             freeSlots -= (int) Math.ceil(slotsNeeded);
@@ -138,15 +143,11 @@ public class TileEntityRack extends TileEntity
      */
     public boolean hasItemStack(final ItemStack stack, final boolean ignoreDamageValue)
     {
-        final ItemStorage compareStorage = new ItemStorage(stack, ignoreDamageValue);
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        if (ignoreDamageValue)
         {
-            if (compareStorage.equals(entry.getKey()))
-            {
-                return true;
-            }
+            return similarContent.contains(ItemKey.of(stack, true, true));
         }
-        return false;
+        return content.containsKey(ItemKey.of(stack));
     }
 
     /**
@@ -158,7 +159,7 @@ public class TileEntityRack extends TileEntity
      */
     public boolean hasItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
         {
             if (itemStackSelectionPredicate.test(entry.getKey().getItemStack()))
             {
@@ -205,7 +206,7 @@ public class TileEntityRack extends TileEntity
      */
     public int getItemCount(final Predicate<ItemStack> predicate)
     {
-        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        for (final Map.Entry<ItemKey, Integer> entry : content.entrySet())
         {
             if (predicate.test(entry.getKey().getItemStack()))
             {
@@ -221,6 +222,7 @@ public class TileEntityRack extends TileEntity
     public void updateItemStorage()
     {
         content.clear();
+        similarContent.clear();
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
             final ItemStack stack = inventory.getStackInSlot(slot);
@@ -230,13 +232,8 @@ public class TileEntityRack extends TileEntity
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
-            {
-                amount += content.remove(storage);
-            }
-            content.put(storage, amount);
+            content.merge(ItemKey.of(stack), ItemStackUtils.getSize(stack), Integer::sum);
+            similarContent.add(ItemKey.of(stack, true, true));
         }
 
         updateBlockState();
@@ -203,6 +203,49 @@ public final class ChunkDataHelper
       final int range,
       final int buffer,
       final World world)
+    {
+        claimChunksInRange(colonyId, dimension, add, chunkX, chunkZ, range, buffer, world, 0, getChunkCountInRange(range, buffer));
+    }
+
+    /**
+     * Get the amount of chunks {@link #claimChunksInRange} goes through for a range.
+     *
+     * @param range  the range.
+     * @param buffer the buffer.
+     * @return the amount of chunks.
+     */
+    public static int getChunkCountInRange(final int range, final int buffer)
+    {
+        final int side = (range * 2 + buffer) * 2 + 1;
+        return side * side;
+    }
+
+    /**
+     * Claim a slice of the chunks in a certain range around a position, to spread a claim over multiple ticks.
+     * The chunks are numbered row by row, from 0 to {@link #getChunkCountInRange} exclusive.
+     *
+     * @param colonyId  the colony id.
+     * @param dimension the dimension.
+     * @param add       if claim or unclaim.
+     * @param chunkX    the chunkX starter position.
+     * @param chunkZ    the chunkZ starter position.
+     * @param range     the range.
+     * @param buffer    the buffer.
+     * @param world     the world.
+     * @param from      the index of the first chunk of the slice.
+     * @param to        the index after the last chunk of the slice.
+     */
+    public static void claimChunksInRange(
+      final int colonyId,
+      final int dimension,
+      final boolean add,
+      final int chunkX,
+      final int chunkZ,
+      final int range,
+      final int buffer,
+      final World world,
+      final int from,
+      final int to)
     {
         final IChunkmanagerCapability chunkManager = world.getCapability(CHUNK_STORAGE_UPDATE_CAP, null);
         if (chunkManager == null)
@@ -212,30 +255,29 @@ public final class ChunkDataHelper
         }
 
         final int maxRange = range * 2 + buffer;
+        final int side = maxRange * 2 + 1;
         int additionalChunksToLoad = 0;
-        for (int i = chunkX - maxRange; i <= chunkX + maxRange; i++)
+        for (int index = from; index < to; index++)
         {
-            for (int j = chunkZ - maxRange; j <= chunkZ + maxRange; j++)
+            final int i = chunkX - maxRange + index / side;
+            final int j = chunkZ - maxRange + index % side;
+            if (i == chunkX && j == chunkZ)
             {
-                if (i == chunkX && j == chunkZ)
-                {
-                    continue;
-                }
-
-                if (i >= chunkX - DISTANCE_TO_LOAD_IMMEDIATELY && j >= chunkZ - DISTANCE_TO_LOAD_IMMEDIATELY && i <= chunkX + DISTANCE_TO_LOAD_IMMEDIATELY
-                      && j <= chunkZ + DISTANCE_TO_LOAD_IMMEDIATELY
-                      && loadChunkAndAddData(world, new BlockPos(i * BLOCKS_PER_CHUNK, 0, j * BLOCKS_PER_CHUNK), add, colonyId))
-                {
-                    continue;
-                }
+                continue;
+            }
 
+            if (i >= chunkX - DISTANCE_TO_LOAD_IMMEDIATELY && j >= chunkZ - DISTANCE_TO_LOAD_IMMEDIATELY && i <= chunkX + DISTANCE_TO_LOAD_IMMEDIATELY
+                  && j <= chunkZ + DISTANCE_TO_LOAD_IMMEDIATELY
+                  && loadChunkAndAddData(world, new BlockPos(i * BLOCKS_PER_CHUNK, 0, j * BLOCKS_PER_CHUNK), add, colonyId))
+            {
+                continue;
+            }
 
-                final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension, owning);
-                if (!chunkManager.addChunkStorage(i, j, newStorage))
-                {
-                    additionalChunksToLoad++;
-                }
+            final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
+            @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension, owning);
+            if (!chunkManager.addChunkStorage(i, j, newStorage))
+            {
+                additionalChunksToLoad++;
             }
         }
         final IColonyManagerCapability cap = FMLCommonHandler.instance().getMinecraftServerInstance().getWorld(dimension).getCapability(COLONY_MANAGER_CAP, null);
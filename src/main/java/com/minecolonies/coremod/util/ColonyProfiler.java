@@ -0,0 +1,495 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.Log;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Always-on time counters of the colony ticks, by colony, section and name, e.g. the building type or the AI state.
+ * Colonies are identified by dimension and id, as colony ids are only unique within a dimension.
+ * Every counter keeps rolling one minute windows of the last ten minutes, reports read the most recent windows.
+ * Pathfinding jobs record from the pathfinding threads, so the counters are synchronized.
+ */
+public final class ColonyProfiler
+{
+    /**
+     * The parts of a colony tick which are measured.
+     */
+    public enum Section
+    {
+        /**
+         * Colony.onWorldTick, contains the building and citizen managers.
+         */
+        WORLD_TICK(true),
+
+        /**
+         * Colony.onServerTick, contains the package manager and the request system.
+         */
+        SERVER_TICK(true),
+
+        /**
+         * The world tick of a building, by building type.
+         */
+        BUILDING(false),
+
+        /**
+         * CitizenManager.onWorldTick.
+         */
+        CITIZENS(false),
+
+        /**
+         * ColonyPackageManager.updateSubscribers.
+         */
+        PACKAGES(false),
+
+        /**
+         * The update of the request system.
+         */
+        REQUESTS(false),
+
+        /**
+         * The AI state machine ticks of the citizens, by state.
+         */
+        AI(true),
+
+        /**
+         * The pathfinding jobs of the citizens by job type, runs on the pathfinding threads.
+         */
+        PATHFINDING(false);
+
+        /**
+         * If the section is part of the server tick and not contained in another section.
+         */
+        private final boolean topLevel;
+
+        Section(final boolean topLevel)
+        {
+            this.topLevel = topLevel;
+        }
+
+        /**
+         * Check if the time of the section adds to the server tick and is not contained in another section.
+         *
+         * @return true if so.
+         */
+        public boolean isTopLevel()
+        {
+            return topLevel;
+        }
+    }
+
+    /**
+     * The length of a window in ticks.
+     */
+    public static final int WINDOW_TICKS = 1200;
+
+    /**
+     * The amount of windows kept.
+     */
+    public static final int WINDOWS = 10;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0D;
+
+    /**
+     * The counters by colony key, section and name.
+     */
+    private static final Map<Long, Map<Section, Map<Object, Counter>>> counters = new ConcurrentHashMap<>();
+
+    /**
+     * The server ticks since the profiler started.
+     */
+    private static volatile long serverTick = 0;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonyProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Advance the windows, called at the end of every server tick.
+     */
+    public static void onServerTick()
+    {
+        serverTick++;
+    }
+
+    /**
+     * Get the start time of a measurement.
+     *
+     * @return the start time in nanoseconds.
+     */
+    public static long start()
+    {
+        return System.nanoTime();
+    }
+
+    /**
+     * Record a measurement which started at the given time.
+     *
+     * @param colony  the colony.
+     * @param section the measured section.
+     * @param name    the key within the section, e.g. the building class or the AI state.
+     * @param start   the start time from {@link #start()}.
+     */
+    public static void record(@NotNull final IColony colony, @NotNull final Section section, @NotNull final Object name, final long start)
+    {
+        record(colony.getDimension(), colony.getID(), section, name, start);
+    }
+
+    /**
+     * Record a measurement which started at the given time.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colonyId  the colony id.
+     * @param section   the measured section.
+     * @param name      the key within the section, e.g. the building class or the AI state.
+     * @param start     the start time from {@link #start()}.
+     */
+    public static void record(final int dimension, final int colonyId, @NotNull final Section section, @NotNull final Object name, final long start)
+    {
+        final long nanos = System.nanoTime() - start;
+        counters.computeIfAbsent(getKey(dimension, colonyId), key -> new ConcurrentHashMap<>())
+          .computeIfAbsent(section, key -> new ConcurrentHashMap<>())
+          .computeIfAbsent(name, key -> new Counter())
+          .add(serverTick / WINDOW_TICKS, nanos);
+    }
+
+    /**
+     * Drop the counters of a colony, used when it is deleted.
+     *
+     * @param colony the colony.
+     */
+    public static void clear(@NotNull final IColony colony)
+    {
+        counters.remove(getKey(colony.getDimension(), colony.getID()));
+    }
+
+    /**
+     * Collect the counters of the most recent windows, the slowest first.
+     *
+     * @param colony  the colony, or null for all colonies.
+     * @param windows the amount of windows, capped to {@link #WINDOWS}.
+     * @return the entries, sorted by their total time.
+     */
+    @NotNull
+    public static List<Entry> getEntries(@Nullable final IColony colony, final int windows)
+    {
+        final long lastWindow = serverTick / WINDOW_TICKS;
+        final long firstWindow = lastWindow - Math.max(1, Math.min(windows, WINDOWS)) + 1;
+        final List<Entry> entries = new ArrayList<>();
+        for (final Map.Entry<Long, Map<Section, Map<Object, Counter>>> colonyCounters : counters.entrySet())
+        {
+            final long key = colonyCounters.getKey();
+            if (colony != null && key != getKey(colony.getDimension(), colony.getID()))
+            {
+                continue;
+            }
+
+            for (final Map.Entry<Section, Map<Object, Counter>> section : colonyCounters.getValue().entrySet())
+            {
+                for (final Map.Entry<Object, Counter> counter : section.getValue().entrySet())
+                {
+                    final Entry entry = counter.getValue().sum((int) (key >> 32), (int) key, section.getKey(), getName(counter.getKey()), firstWindow, lastWindow);
+                    if (entry.calls > 0)
+                    {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        return entries;
+    }
+
+    /**
+     * Sum the top level sections of every colony, the slowest first.
+     *
+     * @param entries the entries to sum.
+     * @return one entry per colony, without a section.
+     */
+    @NotNull
+    public static List<Entry> getColonyTotals(@NotNull final List<Entry> entries)
+    {
+        final Map<Long, Entry> totals = new HashMap<>();
+        for (final Entry entry : entries)
+        {
+            if (entry.section != null && entry.section.isTopLevel())
+            {
+                totals.merge(getKey(entry.dimension, entry.colonyId), entry, (total, added) -> new Entry(total.dimension,
+                  total.colonyId,
+                  null,
+                  "total",
+                  total.nanos + added.nanos,
+                  total.calls + added.calls,
+                  Math.max(total.maxNanos, added.maxNanos)));
+            }
+        }
+        final List<Entry> sorted = new ArrayList<>(totals.values());
+        sorted.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        return sorted;
+    }
+
+    /**
+     * Get the amount of ticks the given windows span, the current window only counts as far as it got.
+     *
+     * @param windows the amount of windows.
+     * @return the amount of ticks, at least one.
+     */
+    public static long getTicks(final int windows)
+    {
+        final long span = (long) (Math.max(1, Math.min(windows, WINDOWS)) - 1) * WINDOW_TICKS + serverTick % WINDOW_TICKS + 1;
+        return Math.min(span, serverTick + 1);
+    }
+
+    /**
+     * Write entries as CSV.
+     *
+     * @param file    the target file.
+     * @param entries the entries.
+     * @param ticks   the amount of ticks the entries span.
+     * @return true if it was written.
+     */
+    public static boolean exportCsv(@NotNull final File file, @NotNull final List<Entry> entries, final long ticks)
+    {
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs())
+        {
+            return false;
+        }
+
+        try (Writer writer = new FileWriter(file))
+        {
+            writer.write("dimension,colony,section,name,calls,total_ms,ms_per_tick,max_ms\n");
+            for (final Entry entry : entries)
+            {
+                writer.write(String.format(Locale.US, "%d,%d,%s,%s,%d,%.3f,%.4f,%.3f%n",
+                  entry.dimension,
+                  entry.colonyId,
+                  entry.section,
+                  entry.name,
+                  entry.calls,
+                  entry.nanos / NANOS_PER_MILLI,
+                  entry.nanos / NANOS_PER_MILLI / ticks,
+                  entry.maxNanos / NANOS_PER_MILLI));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write the colony profile", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Pack dimension and id of a colony into a key.
+     *
+     * @param dimension the dimension.
+     * @param colonyId  the colony id.
+     * @return the key.
+     */
+    private static long getKey(final int dimension, final int colonyId)
+    {
+        return (long) dimension << 32 | (colonyId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the display name of a counter key.
+     *
+     * @param key the key.
+     * @return the name.
+     */
+    private static String getName(@NotNull final Object key)
+    {
+        return key instanceof Class ? ((Class<?>) key).getSimpleName() : key.toString();
+    }
+
+    /**
+     * The rolling windows of one counter.
+     */
+    private static final class Counter
+    {
+        /**
+         * The window every slot currently holds.
+         */
+        private final long[] window = new long[WINDOWS];
+
+        /**
+         * The time, calls and slowest call of every slot.
+         */
+        private final long[] nanos    = new long[WINDOWS];
+        private final long[] calls    = new long[WINDOWS];
+        private final long[] maxNanos = new long[WINDOWS];
+
+        /**
+         * Create a counter with empty slots.
+         */
+        private Counter()
+        {
+            Arrays.fill(window, -1);
+        }
+
+        /**
+         * Add a measurement to a window.
+         *
+         * @param currentWindow the window.
+         * @param time          the measured nanoseconds.
+         */
+        private synchronized void add(final long currentWindow, final long time)
+        {
+            final int slot = (int) (currentWindow % WINDOWS);
+            if (window[slot] != currentWindow)
+            {
+                window[slot] = currentWindow;
+                nanos[slot] = 0;
+                calls[slot] = 0;
+                maxNanos[slot] = 0;
+            }
+            nanos[slot] += time;
+            calls[slot]++;
+            maxNanos[slot] = Math.max(maxNanos[slot], time);
+        }
+
+        /**
+         * Sum a range of windows.
+         *
+         * @param dimension   the dimension of the colony.
+         * @param colonyId    the colony of the counter.
+         * @param section     the section of the counter.
+         * @param name        the name of the counter.
+         * @param firstWindow the first window.
+         * @param lastWindow  the last window.
+         * @return the sum.
+         */
+        private synchronized Entry sum(final int dimension, final int colonyId, final Section section, final String name, final long firstWindow, final long lastWindow)
+        {
+            long totalNanos = 0;
+            long totalCalls = 0;
+            long max = 0;
+            for (int slot = 0; slot < WINDOWS; slot++)
+            {
+                if (window[slot] >= firstWindow && window[slot] <= lastWindow)
+                {
+                    totalNanos += nanos[slot];
+                    totalCalls += calls[slot];
+                    max = Math.max(max, maxNanos[slot]);
+                }
+            }
+            return new Entry(dimension, colonyId, section, name, totalNanos, totalCalls, max);
+        }
+    }
+
+    /**
+     * The sum of a counter over a range of windows.
+     */
+    public static final class Entry
+    {
+        /**
+         * The dimension of the colony.
+         */
+        private final int dimension;
+
+        /**
+         * The colony of the counter.
+         */
+        private final int colonyId;
+
+        /**
+         * The section of the counter, null for colony totals.
+         */
+        @Nullable
+        private final Section section;
+
+        /**
+         * The name of the counter within the section.
+         */
+        private final String name;
+
+        /**
+         * The measured time, calls and slowest call.
+         */
+        private final long nanos;
+        private final long calls;
+        private final long maxNanos;
+
+        /**
+         * Create an entry.
+         *
+         * @param dimension the dimension of the colony.
+         * @param colonyId  the colony.
+         * @param section   the section.
+         * @param name      the name.
+         * @param nanos     the total nanoseconds.
+         * @param calls     the amount of calls.
+         * @param maxNanos  the nanoseconds of the slowest call.
+         */
+        private Entry(
+          final int dimension,
+          final int colonyId,
+          @Nullable final Section section,
+          final String name,
+          final long nanos,
+          final long calls,
+          final long maxNanos)
+        {
+            this.dimension = dimension;
+            this.colonyId = colonyId;
+            this.section = section;
+            this.name = name;
+            this.nanos = nanos;
+            this.calls = calls;
+            this.maxNanos = maxNanos;
+        }
+
+        public int getDimension()
+        {
+            return dimension;
+        }
+
+        public int getColonyId()
+        {
+            return colonyId;
+        }
+
+        @Nullable
+        public Section getSection()
+        {
+            return section;
+        }
+
+        public String getName()
+        {
+            return name;
+        }
+
+        public long getNanos()
+        {
+            return nanos;
+        }
+
+        public long getCalls()
+        {
+            return calls;
+        }
+
+        public long getMaxNanos()
+        {
+            return maxNanos;
+        }
+    }
+}
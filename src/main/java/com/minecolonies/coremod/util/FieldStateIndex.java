@@ -0,0 +1,106 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.coremod.tileentities.FieldStateGrid;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the field state grids of all loaded fields by chunk, to forward block updates to the fields they belong to.
+ */
+public final class FieldStateIndex
+{
+    /**
+     * The registered grids, by dimension and chunk.
+     */
+    private static final Map<Integer, Map<Long, List<FieldStateGrid>>> grids = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private FieldStateIndex()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Register a grid for the chunks its field covers.
+     *
+     * @param world the world of the field.
+     * @param grid  the grid.
+     */
+    public static void register(@NotNull final World world, @NotNull final FieldStateGrid grid)
+    {
+        final BlockPos origin = grid.getOrigin();
+        final int[] bounds = grid.getBounds();
+        final Map<Long, List<FieldStateGrid>> byChunk = grids.computeIfAbsent(world.provider.getDimension(), dim -> new HashMap<>());
+        for (int chunkX = (origin.getX() + bounds[0]) >> 4; chunkX <= (origin.getX() + bounds[1]) >> 4; chunkX++)
+        {
+            for (int chunkZ = (origin.getZ() + bounds[2]) >> 4; chunkZ <= (origin.getZ() + bounds[3]) >> 4; chunkZ++)
+            {
+                final List<FieldStateGrid> chunkGrids = byChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>());
+                if (!chunkGrids.contains(grid))
+                {
+                    chunkGrids.add(grid);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove a grid from the index.
+     *
+     * @param world the world of the field.
+     * @param grid  the grid.
+     */
+    public static void unregister(@NotNull final World world, @NotNull final FieldStateGrid grid)
+    {
+        final Map<Long, List<FieldStateGrid>> byChunk = grids.get(world.provider.getDimension());
+        if (byChunk != null)
+        {
+            byChunk.values().removeIf(chunkGrids -> chunkGrids.remove(grid) && chunkGrids.isEmpty());
+        }
+    }
+
+    /**
+     * Forward a block update to the fields covering its position.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Map<Long, List<FieldStateGrid>> byChunk = grids.get(world.provider.getDimension());
+        if (byChunk == null)
+        {
+            return;
+        }
+
+        final List<FieldStateGrid> chunkGrids = byChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (chunkGrids != null)
+        {
+            for (int i = 0; i < chunkGrids.size(); i++)
+            {
+                chunkGrids.get(i).onBlockChanged(world, pos);
+            }
+        }
+    }
+
+    /**
+     * Drop all grids of a world, used when the world unloads.
+     *
+     * @param world the world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        grids.remove(world.provider.getDimension());
+    }
+}
@@ -4,13 +4,11 @@ import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.ldtteam.structurize.placementhandlers.IPlacementHandler;
 import com.ldtteam.structurize.placementhandlers.PlacementHandlers;
-import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
@@ -20,9 +18,8 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -56,6 +53,29 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
       final World worldObj, @NotNull final String name,
       @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
       final boolean complete)
+    {
+        loadAndPlaceStructureWithRotation(worldObj, name, pos, rotations, mirror, complete, null);
+    }
+
+    /**
+     * Load a structure into this world
+     * and queue its placement in the right position and rotation.
+     * The structure is placed over multiple ticks, see {@link StructurePlacementQueue}.
+     *
+     * @param worldObj   the world to load it in
+     * @param name       the structures name
+     * @param pos        coordinates
+     * @param rotations  number of times rotated
+     * @param mirror     the mirror used.
+     * @param complete   paste it complete (with structure blocks) or without
+     * @param onComplete called once the structure has been placed completely, may be null.
+     * @return the queued job to be able to cancel it, or null if the structure couldn't be loaded.
+     */
+    @Nullable
+    public static StructurePlacementJob loadAndPlaceStructureWithRotation(
+      final World worldObj, @NotNull final String name,
+      @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
+      final boolean complete, @Nullable final Runnable onComplete)
     {
         try
         {
@@ -63,12 +83,13 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
             structureWrapper.structure.setPosition(pos);
             structureWrapper.rotate(rotations, worldObj, pos, mirror);
             structureWrapper.structure.setPlacementSettings(new PlacementSettings(mirror, BlockPosUtil.getRotationFromRotations(rotations)));
-            structureWrapper.placeStructure(pos.subtract(structureWrapper.structure.getOffset()), complete);
+            return StructurePlacementQueue.add(new StructurePlacementJob(structureWrapper, pos.subtract(structureWrapper.structure.getOffset()), complete, onComplete));
         }
         catch (final IllegalStateException e)
         {
             Log.getLogger().warn("Could not load structure!", e);
         }
+        return null;
     }
 
     /**
@@ -85,72 +106,46 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
     }
 
     /**
-     * Place a structure into the world.
+     * Get the loaded structure.
      *
-     * @param pos      coordinates
-     * @param complete paste it complete (with structure blocks) or without
+     * @return the structure.
      */
-    private void placeStructure(@NotNull final BlockPos pos, final boolean complete)
+    public Structure getStructure()
     {
-        structure.setLocalPosition(pos);
-
-        @NotNull final List<BlockPos> delayedBlocks = new ArrayList<>();
-
-        //structure.getBlockInfo()[0].pos
-        for (int j = 0; j < structure.getHeight(); j++)
-        {
-            for (int k = 0; k < structure.getLength(); k++)
-            {
-                for (int i = 0; i < structure.getWidth(); i++)
-                {
-                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
-                    final IBlockState localState = this.structure.getBlockState(localPos);
-                    final Block localBlock = localState.getBlock();
-
-                    final BlockPos worldPos = pos.add(localPos);
-
-                    if ((localBlock == com.ldtteam.structurize.blocks.ModBlocks.blockSubstitution && !complete) || (localBlock instanceof AbstractBlockHut && !complete))
-                    {
-                        continue;
-                    }
+        return structure;
+    }
 
-                    if (localState.getMaterial().isSolid())
-                    {
-                        handleBlockPlacement(worldPos, localState, complete, this.structure.getBlockInfo(localPos).getTileEntityData(), structure.getWorld());
-                    }
-                    else
-                    {
-                        delayedBlocks.add(localPos);
-                    }
-                }
-            }
-        }
+    /**
+     * Place a single block of the structure into the world.
+     *
+     * @param localPos the position within the structure.
+     * @param worldPos the position in the world.
+     * @param complete paste it complete (with structure blocks) or without
+     */
+    void placeBlock(@NotNull final BlockPos localPos, @NotNull final BlockPos worldPos, final boolean complete)
+    {
+        handleBlockPlacement(worldPos, structure.getBlockState(localPos), complete, structure.getBlockInfo(localPos).getTileEntityData(), structure.getWorld());
+    }
 
-        for (@NotNull final BlockPos coords : delayedBlocks)
+    /**
+     * Spawn one of the entities of the structure into the world.
+     *
+     * @param compound the entity data.
+     * @param pos      the world position the structure is placed at.
+     */
+    void spawnEntity(@NotNull final NBTTagCompound compound, @NotNull final BlockPos pos)
+    {
+        try
         {
-            final IBlockState localState = this.structure.getBlockState(coords);
-            final BlockPos newWorldPos = pos.add(coords);
-
-            handleBlockPlacement(newWorldPos, localState, complete, this.structure.getBlockInfo(coords).getTileEntityData(), structure.getWorld());
+            final Entity entity = EntityList.createEntityFromNBT(compound, structure.getWorld());
+            entity.setUniqueId(UUID.randomUUID());
+            final Vec3d worldPos = entity.getPositionVector().add(pos.getX(), pos.getY(), pos.getZ());
+            entity.setPosition(worldPos.x, worldPos.y, worldPos.z);
+            structure.getWorld().spawnEntity(entity);
         }
-
-        for (final NBTTagCompound compound : this.structure.getEntityData())
+        catch (final RuntimeException e)
         {
-            if (compound != null)
-            {
-                try
-                {
-                    final Entity entity = EntityList.createEntityFromNBT(compound, structure.getWorld());
-                    entity.setUniqueId(UUID.randomUUID());
-                    final Vec3d worldPos = entity.getPositionVector().add(pos.getX(), pos.getY(), pos.getZ());
-                    entity.setPosition(worldPos.x, worldPos.y, worldPos.z);
-                    structure.getWorld().spawnEntity(entity);
-                }
-                catch (final RuntimeException e)
-                {
-                    com.ldtteam.structurize.api.util.Log.getLogger().info("Couldn't restore entitiy", e);
-                }
-            }
+            com.ldtteam.structurize.api.util.Log.getLogger().info("Couldn't restore entitiy", e);
         }
     }
 
@@ -217,7 +212,7 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
             structureWrapper.rotate(rotations, worldObj, pos, mirror);
             if (structureWrapper.checkForFreeSpace(pos))
             {
-                structureWrapper.placeStructure(pos, false);
+                StructurePlacementQueue.add(new StructurePlacementJob(structureWrapper, pos, false, null));
                 return true;
             }
             return false;
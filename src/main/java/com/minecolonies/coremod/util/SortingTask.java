@@ -0,0 +1,315 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Sorts a combined item handler over several ticks.
+ * The target layout is computed once, then the slots are fixed one after the other with swaps and merges,
+ * and slots which already hold their target stack are never touched.
+ * Every move re-reads the slots it touches, so items deposited or taken in the meantime are never lost,
+ * they only end up where the sort leaves them.
+ */
+public class SortingTask
+{
+    /**
+     * The returned slot if a slot hasn't been found.
+     */
+    private static final int NO_SLOT = -1;
+
+    /**
+     * The handler the layout was computed for.
+     */
+    private final CombinedItemHandler inv;
+
+    /**
+     * The target stack of every slot.
+     */
+    private final ItemStack[] layout;
+
+    /**
+     * The slots holding an item type, the empty slots, as far as known.
+     * Entries are verified when used, and dropped if the slot changed in the meantime.
+     */
+    private final Map<ItemKey, TreeSet<Integer>> itemSlots  = new HashMap<>();
+    private final TreeSet<Integer>               emptySlots = new TreeSet<>();
+
+    /**
+     * The next slot to fix, all slots before are done.
+     */
+    private int cursor = 0;
+
+    /**
+     * If the task was cancelled.
+     */
+    private boolean cancelled = false;
+
+    /**
+     * Compute the layout for a handler, without changing it yet.
+     *
+     * @param inv the handler to sort.
+     */
+    public SortingTask(@NotNull final CombinedItemHandler inv)
+    {
+        this.inv = inv;
+        this.layout = SortingUtils.computeLayout(inv);
+        for (int i = 0; i < layout.length; i++)
+        {
+            index(i, inv.getStackInSlot(i));
+        }
+    }
+
+    /**
+     * Fix the next slots.
+     *
+     * @param handler the current handler of the inventory, the task cancels itself if its slots changed since the layout was computed.
+     * @param budget  the maximum amount of slots to fix.
+     * @return true if the task is done or cancelled.
+     */
+    public boolean tick(@NotNull final CombinedItemHandler handler, final int budget)
+    {
+        if (handler != inv && !inv.hasSameHandlers(handler))
+        {
+            cancel();
+        }
+
+        for (int fixed = 0; fixed < budget && !isDone(); fixed++)
+        {
+            fixSlot(cursor);
+            cursor++;
+        }
+        return isDone();
+    }
+
+    /**
+     * Stop the task, the slots stay as they are.
+     */
+    public void cancel()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Check if the task is done or cancelled.
+     *
+     * @return true if so.
+     */
+    public boolean isDone()
+    {
+        return cancelled || cursor >= layout.length;
+    }
+
+    /**
+     * Put the target stack into a slot, taking the items from the later slots.
+     *
+     * @param slot the slot to fix.
+     */
+    private void fixSlot(final int slot)
+    {
+        final ItemStack target = layout[slot];
+        ItemStack current = inv.getStackInSlot(slot);
+        if (ItemStack.areItemStacksEqual(current, target))
+        {
+            return;
+        }
+
+        if (ItemStackUtils.isEmpty(target))
+        {
+            final int empty = findSlot(null, slot, stack -> true);
+            if (empty != NO_SLOT)
+            {
+                swap(slot, empty);
+            }
+            return;
+        }
+
+        final ItemKey key = ItemKey.of(target);
+        if (!holds(current, key))
+        {
+            final int source = findSlot(key, slot, stack -> true);
+            if (source == NO_SLOT)
+            {
+                // The items have been taken out in the meantime.
+                return;
+            }
+            swap(slot, source);
+            current = inv.getStackInSlot(slot);
+        }
+
+        if (current.getCount() > target.getCount())
+        {
+            moveExcess(slot, key, current.getCount() - target.getCount());
+        }
+        else if (current.getCount() < target.getCount())
+        {
+            pullMissing(slot, key, target.getCount() - current.getCount());
+        }
+    }
+
+    /**
+     * Move the items a slot holds too much to later slots of the same type with room left, or to a later empty slot.
+     *
+     * @param slot   the slot with too many items.
+     * @param key    the item type of the slot.
+     * @param excess the amount of items to move.
+     */
+    private void moveExcess(final int slot, final ItemKey key, final int excess)
+    {
+        int left = excess;
+        while (left > 0)
+        {
+            int destination = findSlot(key, slot, stack -> stack.getCount() < stack.getMaxStackSize());
+            if (destination == NO_SLOT)
+            {
+                destination = findSlot(null, slot, stack -> true);
+                if (destination == NO_SLOT)
+                {
+                    return;
+                }
+            }
+
+            final ItemStack current = inv.getStackInSlot(slot).copy();
+            final ItemStack destinationStack = inv.getStackInSlot(destination);
+            final int present = ItemStackUtils.isEmpty(destinationStack) ? 0 : destinationStack.getCount();
+            final int moved = Math.min(left, Math.min(current.getMaxStackSize(), inv.getSlotLimit(destination)) - present);
+            if (moved <= 0)
+            {
+                return;
+            }
+
+            final ItemStack movedStack = current.copy();
+            movedStack.setCount(present + moved);
+            inv.setStackInSlot(destination, movedStack);
+            current.shrink(moved);
+            inv.setStackInSlot(slot, current);
+            index(destination, movedStack);
+            left -= moved;
+        }
+    }
+
+    /**
+     * Take the items a slot is missing from later slots of the same type.
+     *
+     * @param slot    the slot with too few items.
+     * @param key     the item type of the slot.
+     * @param missing the amount of items to take.
+     */
+    private void pullMissing(final int slot, final ItemKey key, final int missing)
+    {
+        int left = missing;
+        while (left > 0)
+        {
+            final int source = findSlot(key, slot, stack -> true);
+            if (source == NO_SLOT)
+            {
+                return;
+            }
+
+            final ItemStack sourceStack = inv.getStackInSlot(source).copy();
+            final int moved = Math.min(left, sourceStack.getCount());
+
+            final ItemStack current = inv.getStackInSlot(slot).copy();
+            current.grow(moved);
+            inv.setStackInSlot(slot, current);
+            sourceStack.shrink(moved);
+            inv.setStackInSlot(source, sourceStack.isEmpty() ? ItemStackUtils.EMPTY : sourceStack);
+            if (sourceStack.isEmpty())
+            {
+                emptySlots.add(source);
+            }
+            left -= moved;
+        }
+    }
+
+    /**
+     * Swap the content of two slots.
+     *
+     * @param slot  the slot being fixed.
+     * @param other the later slot.
+     */
+    private void swap(final int slot, final int other)
+    {
+        final ItemStack slotStack = inv.getStackInSlot(slot).copy();
+        inv.setStackInSlot(slot, inv.getStackInSlot(other).copy());
+        inv.setStackInSlot(other, slotStack);
+        index(other, slotStack);
+    }
+
+    /**
+     * Find the first slot after a slot which holds an item type and matches a condition.
+     *
+     * @param key       the item type, null for an empty slot.
+     * @param after     the slot to search after.
+     * @param condition the additional condition for the stack in the slot.
+     * @return the slot or NO_SLOT.
+     */
+    private int findSlot(@Nullable final ItemKey key, final int after, final Predicate<ItemStack> condition)
+    {
+        final TreeSet<Integer> slots = key == null ? emptySlots : itemSlots.get(key);
+        if (slots == null)
+        {
+            return NO_SLOT;
+        }
+
+        final Iterator<Integer> iterator = slots.tailSet(after, false).iterator();
+        while (iterator.hasNext())
+        {
+            final int candidate = iterator.next();
+            final ItemStack stack = inv.getStackInSlot(candidate);
+            if (!holds(stack, key))
+            {
+                // Changed since it was indexed.
+                iterator.remove();
+            }
+            else if (condition.test(stack))
+            {
+                return candidate;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    /**
+     * Remember the content of a slot.
+     *
+     * @param slot  the slot.
+     * @param stack its stack.
+     */
+    private void index(final int slot, final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            emptySlots.add(slot);
+        }
+        else
+        {
+            itemSlots.computeIfAbsent(ItemKey.of(stack), key -> new TreeSet<>()).add(slot);
+        }
+    }
+
+    /**
+     * Check if a stack is of an item type.
+     *
+     * @param stack the stack.
+     * @param key   the item type, null for an empty stack.
+     * @return true if it is.
+     */
+    private static boolean holds(final ItemStack stack, @Nullable final ItemKey key)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return key == null;
+        }
+        return key != null && ItemKey.of(stack) == key;
+    }
+}
@@ -2,7 +2,6 @@ package com.minecolonies.coremod.util;
 
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
-import com.minecolonies.blockout.Log;
 import com.minecolonies.coremod.inventory.api.CombinedItemHandler;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -10,8 +9,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 import net.minecraftforge.registries.ForgeRegistry;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -30,71 +28,87 @@ public final class SortingUtils
     }
 
     /**
-     * Sort a combined item handler by certain conditions.
+     * Sort a combined item handler by certain conditions, all at once.
      * Group into creative tabs if possible.
+     * Prefer a {@link SortingTask} ticked over time for large inventories.
      * @param inv the item handler to sort.
      */
     public static void sort(final CombinedItemHandler inv)
     {
-        final AtomicInteger runCount = new AtomicInteger(0);
+        if (inv != null)
+        {
+            new SortingTask(inv).tick(inv, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Compute the sorted layout of a combined item handler, without changing it.
+     * Items are grouped into creative tabs, and a tab starts in a new container if there is enough room left.
+     * @param inv the item handler to compute the layout for.
+     * @return the target stack of every slot, empty stacks for slots which should be empty.
+     */
+    public static ItemStack[] computeLayout(final CombinedItemHandler inv)
+    {
+        final ItemStack[] layout = new ItemStack[inv.getSlots()];
+        Arrays.fill(layout, ItemStackUtils.EMPTY);
 
         final Map<ItemStorage, Integer> map = new HashMap<>();
-        if (inv != null)
+        for (int i = 0; i < layout.length; i++)
         {
-            for (int i = 0; i < inv.getSlots(); i++)
+            final ItemStack stack = inv.getStackInSlot(i);
+            if (ItemStackUtils.isEmpty(stack))
             {
-                if (ItemStackUtils.isEmpty(inv.getStackInSlot(i)))
-                {
-                    continue;
-                }
-                final ItemStorage storage = new ItemStorage(inv.extractItem(i, 64, false));
-                int amount = storage.getAmount();
-                if (map.containsKey(storage))
-                {
-                    amount += map.remove(storage);
-                }
-                map.put(storage, amount);
+                continue;
             }
+            map.merge(new ItemStorage(stack.copy()), stack.getCount(), Integer::sum);
+        }
+
+        final Tuple<AtomicInteger, Map<Integer, Integer>> tuple = SortingUtils.calcRequiredSlots(map);
+        final int totalReq = tuple.getFirst().get();
+        final AtomicInteger currentSlot = new AtomicInteger(0);
 
-            final Tuple<AtomicInteger, Map<Integer, Integer>> tuple = SortingUtils.calcRequiredSlots(map);
-            final double totalSlots = inv.getSlots();
-            final int totalReq = tuple.getFirst().get();
-            map.entrySet().stream().sorted(SortingUtils::compare)
-              .forEach(entry -> SortingUtils.pushIntoInv(runCount, entry, inv, tuple.getFirst(), totalSlots, totalReq, tuple.getSecond()));
+        // The registry id is looked up once per entry instead of once per comparison.
+        final List<SortEntry> entries = new ArrayList<>(map.size());
+        map.forEach((storage, amount) -> entries.add(new SortEntry(storage, amount)));
+        entries.sort(Comparator.comparingInt((SortEntry entry) -> entry.creativeTab).thenComparingInt(entry -> entry.id).thenComparingInt(entry -> entry.damage));
+
+        for (final SortEntry entry : entries)
+        {
+            placeInLayout(currentSlot, entry, inv, layout, tuple.getFirst(), totalReq, tuple.getSecond());
         }
+        return layout;
     }
 
     /**
-     * Pushes a item storage to an inventory following certain rules.
-     * @param currentSlot the starting slot to start pushing.
-     * @param entry the map entry with storage and size.
-     * @param inv the inventory to push it to.
-     * @param requiredSlots the required slots in total to be pushed to (counting down).
-     * @param totalSlots the total available slots.
-     * @param totalRequirement the required slots in total to be pushed to.
+     * Places an item storage into the layout following certain rules.
+     * @param currentSlot the starting slot to start placing.
+     * @param entry the entry with storage and size.
+     * @param inv the inventory the layout is for.
+     * @param layout the layout to fill.
+     * @param requiredSlots the required slots in total to be placed (counting down).
+     * @param totalRequirement the required slots in total to be placed.
      * @param creativeTabs the creative tabs information for the items.
      */
-    private static void pushIntoInv(
+    private static void placeInLayout(
       final AtomicInteger currentSlot,
-      final Map.Entry<ItemStorage, Integer> entry,
+      final SortEntry entry,
       final CombinedItemHandler inv,
+      final ItemStack[] layout,
       final AtomicInteger requiredSlots,
-      final double totalSlots, final double totalRequirement, final Map<Integer, Integer> creativeTabs)
+      final double totalRequirement, final Map<Integer, Integer> creativeTabs)
     {
-        final int creativeTabId = entry.getKey().getCreativeTabIndex();
+        final double totalSlots = layout.length;
+        final int creativeTabId = entry.creativeTab;
 
         int slotLimit = 0;
-        final ItemStack stack = entry.getKey().getItemStack();
-        int tempSize = entry.getValue();
-        while (tempSize > 0)
+        final ItemStack stack = entry.storage.getItemStack();
+        int tempSize = entry.amount;
+        while (tempSize > 0 && currentSlot.get() < layout.length)
         {
             final ItemStack tempStack = stack.copy();
-            tempStack.setCount(Math.min(tempSize, tempStack.getMaxStackSize()));
+            tempStack.setCount(Math.min(tempSize, Math.min(tempStack.getMaxStackSize(), inv.getSlotLimit(currentSlot.get()))));
             slotLimit = inv.getLastIndex(currentSlot.get());
-            while (!inv.insertItem(currentSlot.getAndIncrement(), tempStack, false).isEmpty())
-            {
-                Log.getLogger().error("Trying to dump into same slot again!");
-            }
+            layout[currentSlot.getAndIncrement()] = tempStack;
             tempSize -= tempStack.getCount();
             requiredSlots.decrementAndGet();
             creativeTabs.put(creativeTabId, creativeTabs.get(creativeTabId) - 1);
@@ -114,33 +128,30 @@ public final class SortingUtils
     }
 
     /**
-     * Compared to itemStorage entries.
-     * Based on:
-     * - Creative tab
-     * - Id
-     * - Damage value
-     * @param t1 the first itemStorage entry.
-     * @param t2 the second itemStorage entry.
-     * @return an integer which describes the difference.
+     * An item type to sort with its amount and sort keys.
      */
-    private static int compare(final Map.Entry<ItemStorage, Integer> t1, final Map.Entry<ItemStorage, Integer> t2)
+    private static final class SortEntry
     {
-        final int creativeTabId1 = t1.getKey().getCreativeTabIndex();
-        final int creativeTabId2 = t2.getKey().getCreativeTabIndex();
-
-        if (creativeTabId1 != creativeTabId2)
-        {
-            return creativeTabId1 - creativeTabId2;
-        }
-
-        final int id1 = getId(t1.getKey().getItem());
-        final int id2 = getId(t2.getKey().getItem());
-
-        if (id1 == id2)
+        private final ItemStorage storage;
+        private final int         amount;
+        private final int         creativeTab;
+        private final int         id;
+        private final int         damage;
+
+        /**
+         * Create an entry and look up its sort keys.
+         * Sorted by creative tab, id and damage value.
+         * @param storage the item type.
+         * @param amount the total amount.
+         */
+        private SortEntry(final ItemStorage storage, final int amount)
         {
-            return t1.getKey().getDamageValue() - t2.getKey().getDamageValue();
+            this.storage = storage;
+            this.amount = amount;
+            this.creativeTab = storage.getCreativeTabIndex();
+            this.id = getId(storage.getItem());
+            this.damage = storage.getDamageValue();
         }
-        return id1 - id2;
     }
 
     /**
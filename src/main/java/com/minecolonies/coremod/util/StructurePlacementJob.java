@@ -0,0 +1,268 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A structure placement which is executed over multiple ticks.
+ * Placement is ordered solid blocks, non solid blocks, blocks with tile entities and finally entities.
+ */
+public class StructurePlacementJob
+{
+    /**
+     * The different stages of the placement.
+     */
+    private enum Stage
+    {
+        SOLID,
+        NON_SOLID,
+        TILE_ENTITIES,
+        ENTITIES,
+        DONE
+    }
+
+    /**
+     * The placer holding the loaded structure.
+     */
+    private final InstantStructurePlacer placer;
+
+    /**
+     * The world position the structure is placed at.
+     */
+    private final BlockPos origin;
+
+    /**
+     * Paste it complete (with structure blocks) or without.
+     */
+    private final boolean complete;
+
+    /**
+     * Called once the last entity has been placed, null if not required.
+     */
+    @Nullable
+    private final Runnable onComplete;
+
+    /**
+     * Local positions of the solid blocks.
+     */
+    private final List<BlockPos> solidBlocks = new ArrayList<>();
+
+    /**
+     * Local positions of the non solid blocks.
+     */
+    private final List<BlockPos> nonSolidBlocks = new ArrayList<>();
+
+    /**
+     * Local positions of the blocks which carry tile entity data.
+     */
+    private final List<BlockPos> tileEntityBlocks = new ArrayList<>();
+
+    /**
+     * The entity data to spawn.
+     */
+    private final List<NBTTagCompound> entities = new ArrayList<>();
+
+    /**
+     * The current stage.
+     */
+    private Stage stage = Stage.SOLID;
+
+    /**
+     * The index within the list of the current stage.
+     */
+    private int index = 0;
+
+    /**
+     * If the job has been cancelled.
+     */
+    private boolean cancelled = false;
+
+    /**
+     * Create a new placement job.
+     *
+     * @param placer     the placer holding the loaded structure.
+     * @param origin     the world position to place it at.
+     * @param complete   paste it complete (with structure blocks) or without.
+     * @param onComplete called once placement finished, may be null.
+     */
+    public StructurePlacementJob(@NotNull final InstantStructurePlacer placer, @NotNull final BlockPos origin, final boolean complete, @Nullable final Runnable onComplete)
+    {
+        this.placer = placer;
+        this.origin = origin;
+        this.complete = complete;
+        this.onComplete = onComplete;
+        placer.getStructure().setLocalPosition(origin);
+        collectPositions();
+    }
+
+    /**
+     * Sort all positions of the structure into the placement stages.
+     */
+    private void collectPositions()
+    {
+        for (int j = 0; j < placer.getStructure().getHeight(); j++)
+        {
+            for (int k = 0; k < placer.getStructure().getLength(); k++)
+            {
+                for (int i = 0; i < placer.getStructure().getWidth(); i++)
+                {
+                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
+                    final IBlockState localState = placer.getStructure().getBlockState(localPos);
+                    final Block localBlock = localState.getBlock();
+
+                    if ((localBlock == com.ldtteam.structurize.blocks.ModBlocks.blockSubstitution && !complete) || (localBlock instanceof AbstractBlockHut && !complete))
+                    {
+                        continue;
+                    }
+
+                    if (placer.getStructure().getBlockInfo(localPos).getTileEntityData() != null)
+                    {
+                        tileEntityBlocks.add(localPos);
+                    }
+                    else if (localState.getMaterial().isSolid())
+                    {
+                        solidBlocks.add(localPos);
+                    }
+                    else
+                    {
+                        nonSolidBlocks.add(localPos);
+                    }
+                }
+            }
+        }
+
+        for (final NBTTagCompound compound : placer.getStructure().getEntityData())
+        {
+            if (compound != null)
+            {
+                entities.add(compound);
+            }
+        }
+    }
+
+    /**
+     * Place the next part of the structure.
+     *
+     * @param budget the max amount of blocks and entities to place.
+     * @return the part of the budget which has been used.
+     */
+    public int tick(final int budget)
+    {
+        int used = 0;
+        while (!isDone() && used < budget)
+        {
+            final List<?> current = getStageList();
+            if (index >= current.size())
+            {
+                stage = Stage.values()[stage.ordinal() + 1];
+                index = 0;
+                if (stage == Stage.DONE && onComplete != null)
+                {
+                    try
+                    {
+                        onComplete.run();
+                    }
+                    catch (final RuntimeException e)
+                    {
+                        Log.getLogger().warn("Structure placement completion failed", e);
+                    }
+                }
+                continue;
+            }
+
+            if (stage == Stage.ENTITIES)
+            {
+                placer.spawnEntity(entities.get(index), origin);
+            }
+            else
+            {
+                final BlockPos localPos = (BlockPos) current.get(index);
+                placer.placeBlock(localPos, origin.add(localPos), complete);
+            }
+            index++;
+            used++;
+        }
+        return used;
+    }
+
+    /**
+     * Get the list belonging to the current stage.
+     *
+     * @return the list.
+     */
+    private List<?> getStageList()
+    {
+        switch (stage)
+        {
+            case SOLID:
+                return solidBlocks;
+            case NON_SOLID:
+                return nonSolidBlocks;
+            case TILE_ENTITIES:
+                return tileEntityBlocks;
+            case ENTITIES:
+                return entities;
+            default:
+                return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Cancel the job, already placed blocks stay in the world and the completion callback won't be called.
+     */
+    public void cancel()
+    {
+        this.cancelled = true;
+    }
+
+    /**
+     * Check if the job has been cancelled.
+     *
+     * @return true if so.
+     */
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    /**
+     * Check if the job finished or was cancelled.
+     *
+     * @return true if nothing is left to do.
+     */
+    public boolean isDone()
+    {
+        return cancelled || stage == Stage.DONE;
+    }
+
+    /**
+     * Get the world the structure is placed in.
+     *
+     * @return the world.
+     */
+    public World getWorld()
+    {
+        return placer.getStructure().getWorld();
+    }
+
+    /**
+     * Get the world position the structure is placed at.
+     *
+     * @return the position.
+     */
+    public BlockPos getOrigin()
+    {
+        return origin;
+    }
+}
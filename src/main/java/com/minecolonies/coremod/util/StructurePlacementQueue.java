@@ -0,0 +1,90 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Queue of structure placements which are executed over multiple ticks with a block budget per world tick.
+ */
+public final class StructurePlacementQueue
+{
+    /**
+     * The queued jobs, by dimension.
+     */
+    private static final Map<Integer, Deque<StructurePlacementJob>> jobs = new HashMap<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private StructurePlacementQueue()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Add a job to the queue of its world.
+     *
+     * @param job the job to add.
+     * @return the job.
+     */
+    public static StructurePlacementJob add(@NotNull final StructurePlacementJob job)
+    {
+        jobs.computeIfAbsent(job.getWorld().provider.getDimension(), dim -> new ArrayDeque<>()).add(job);
+        return job;
+    }
+
+    /**
+     * Place the next blocks of the queued structures in this world.
+     *
+     * @param world the world which ticks.
+     */
+    public static void onWorldTick(@NotNull final World world)
+    {
+        final Deque<StructurePlacementJob> queue = jobs.get(world.provider.getDimension());
+        if (queue == null || queue.isEmpty())
+        {
+            return;
+        }
+
+        int budget = Math.max(1, Configurations.gameplay.structurePlacementBlocksPerTick);
+        while (budget > 0 && !queue.isEmpty())
+        {
+            final StructurePlacementJob job = queue.peek();
+            budget -= job.tick(budget);
+            if (job.isDone())
+            {
+                queue.poll();
+            }
+        }
+    }
+
+    /**
+     * Finish all queued structures of a world at once, used when the world unloads.
+     *
+     * @param world the world.
+     */
+    public static void finishAll(@NotNull final World world)
+    {
+        final Deque<StructurePlacementJob> queue = jobs.remove(world.provider.getDimension());
+        if (queue == null)
+        {
+            return;
+        }
+
+        for (final StructurePlacementJob job : queue)
+        {
+            while (!job.isDone())
+            {
+                job.tick(Integer.MAX_VALUE);
+            }
+        }
+    }
+}
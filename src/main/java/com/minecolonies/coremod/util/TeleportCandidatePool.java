@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.ColonyManager;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Pool of safe random teleport locations per dimension, away from world spawn and the colonies.
+ * The pool of a dimension is filled once a random teleport asked for it, with one attempt every few ticks,
+ * so the chunks a rejected attempt loads or generates are spread over time instead of stalling the command.
+ * Candidates are checked again when they are taken, as the world may have changed in between.
+ */
+public final class TeleportCandidatePool
+{
+    /**
+     * The amount of candidates kept per dimension.
+     */
+    private static final int POOL_SIZE = 8;
+
+    /**
+     * The ticks between two attempts of a dimension.
+     */
+    private static final int ATTEMPT_INTERVAL = 20;
+
+    /**
+     * The height the search for land starts at.
+     */
+    private static final int STARTING_Y = 250;
+
+    /**
+     * The candidates of every dimension which asked for them.
+     */
+    private static final Map<Integer, Deque<BlockPos>> pools = new HashMap<>();
+
+    /**
+     * The random generator of the coordinates.
+     */
+    private static final Random random = new Random();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private TeleportCandidatePool()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Take a candidate of a world which is still safe, and start filling its pool if it isn't yet.
+     *
+     * @param world the world.
+     * @return the ground position or null if there is no candidate (yet).
+     */
+    @Nullable
+    public static BlockPos poll(@NotNull final World world)
+    {
+        final Deque<BlockPos> pool = pools.computeIfAbsent(world.provider.getDimension(), dim -> new ArrayDeque<>());
+        BlockPos candidate = pool.poll();
+        while (candidate != null && !isValid(world, candidate))
+        {
+            candidate = pool.poll();
+        }
+        return candidate;
+    }
+
+    /**
+     * Try to find one more candidate for every pool which isn't full, every few ticks.
+     */
+    public static void onServerTick()
+    {
+        if (Configurations.gameplay.minDistanceFromWorldSpawn >= Configurations.gameplay.maxDistanceFromWorldSpawn)
+        {
+            return;
+        }
+
+        for (final Map.Entry<Integer, Deque<BlockPos>> entry : pools.entrySet())
+        {
+            final World world = DimensionManager.getWorld(entry.getKey());
+            if (world != null && entry.getValue().size() < POOL_SIZE && world.getTotalWorldTime() % ATTEMPT_INTERVAL == 0)
+            {
+                final BlockPos candidate = findCandidate(world);
+                if (candidate != null)
+                {
+                    entry.getValue().add(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the pool of a world, used when the world unloads.
+     *
+     * @param world the world.
+     */
+    public static void clear(@NotNull final World world)
+    {
+        pools.remove(world.provider.getDimension());
+    }
+
+    /**
+     * Make one attempt to find a safe ground position at random coordinates.
+     *
+     * @param world the world.
+     * @return the ground position or null if the attempt failed.
+     */
+    @Nullable
+    public static BlockPos findCandidate(@NotNull final World world)
+    {
+        final int x = getRandomCoordinate();
+        final int z = getRandomCoordinate();
+        if (world.getWorldBorder().getSize() < world.getSpawnPoint().getDistance(x, world.getSpawnPoint().getY(), z))
+        {
+            return null;
+        }
+
+        final BlockPos pos = new BlockPos(x, STARTING_Y, z);
+        if (ColonyManager.isTooCloseToColony(world, pos))
+        {
+            return null;
+        }
+
+        final BlockPos ground = BlockPosUtil.findLand(pos, world);
+        if (ground == null || !BlockPosUtil.isPositionSafe(world, ground.down()))
+        {
+            return null;
+        }
+        return ground;
+    }
+
+    /**
+     * Check if a candidate is still free, safe and not claimed by a colony.
+     *
+     * @param world     the world.
+     * @param candidate the ground position.
+     * @return true if so.
+     */
+    private static boolean isValid(@NotNull final World world, @NotNull final BlockPos candidate)
+    {
+        return world.isAirBlock(candidate)
+                 && BlockPosUtil.isPositionSafe(world, candidate.down())
+                 && !ColonyManager.isTooCloseToColony(world, candidate);
+    }
+
+    /**
+     * Get a random coordinate between the min and max distance from world spawn, in both directions.
+     *
+     * @return the coordinate.
+     */
+    private static int getRandomCoordinate()
+    {
+        final int lowerBounds = Configurations.gameplay.maxDistanceFromWorldSpawn;
+        final int spawnNoTp = Configurations.gameplay.minDistanceFromWorldSpawn;
+
+        int x = random.nextInt(lowerBounds * 2) - lowerBounds;
+        while (x > -spawnNoTp && x < spawnNoTp)
+        {
+            x = random.nextInt(lowerBounds * 2) - lowerBounds;
+        }
+        return x;
+    }
+}
@@ -10,11 +10,15 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
 import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequestFactories;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -100,6 +104,49 @@ public class StandardFactoryControllerTest
         assertEquals(token, deserialize);
     }
 
+    @Test
+    public void testBufferRoundTrip()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+
+        final ByteBuf buffer = Unpooled.buffer();
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+        final IToken read = StandardFactoryController.getInstance().readFromBuffer(buffer);
+
+        assertEquals(token, read);
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testBufferRoundTripWithoutNetworkId()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+        StandardFactoryController.getInstance().setNetworkTypeIds(Collections.emptyMap());
+
+        final ByteBuf buffer = Unpooled.buffer();
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+        final IToken read = StandardFactoryController.getInstance().readFromBuffer(buffer);
+
+        assertEquals(token, read);
+    }
+
+    @Test
+    public void testBufferSkipsUnreadableRecord()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+
+        final ByteBuf buffer = Unpooled.buffer();
+        ByteBufUtils.writeVarInt(buffer, StandardFactoryController.NETWORK_ID_BY_NAME, 5);
+        ByteBufUtils.writeUTF8String(buffer, StandardToken.class.getName());
+        buffer.writeInt(3);
+        buffer.writeBytes(new byte[] {1, 2, 3});
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+
+        assertNull(StandardFactoryController.getInstance().readFromBuffer(buffer));
+        assertEquals(token, StandardFactoryController.getInstance().readFromBuffer(buffer));
+        assertEquals(0, buffer.readableBytes());
+    }
+
     @Test
     public void testGetNewInstance()
     {
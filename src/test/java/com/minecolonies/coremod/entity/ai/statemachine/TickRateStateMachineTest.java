@@ -0,0 +1,70 @@
+package com.minecolonies.coremod.entity.ai.statemachine;
+
+import com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState;
+import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
+import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickingTransition;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the compiled transition dispatch of the {@link TickRateStateMachine}.
+ */
+public class TickRateStateMachineTest
+{
+    private final List<RuntimeException> exceptions = new ArrayList<>();
+    private TickRateStateMachine machine;
+
+    @Before
+    public void setUp()
+    {
+        exceptions.clear();
+        machine = new TickRateStateMachine(AIWorkerState.INIT, exceptions::add);
+    }
+
+    @Test
+    public void testTransitionsRunInRegistrationOrderAcrossRates()
+    {
+        final List<String> checked = new ArrayList<>();
+        machine.addTransition(new TickingTransition(AIWorkerState.INIT, () -> checked.add("slow") && false, () -> AIWorkerState.IDLE, 2));
+        machine.addTransition(new TickingTransition(AIWorkerState.INIT, () -> checked.add("fast") && false, () -> AIWorkerState.IDLE, 1));
+
+        machine.tick();
+        machine.tick();
+
+        assertEquals(3, checked.size());
+        final int slow = checked.indexOf("slow");
+        assertEquals("fast", checked.get(slow + 1));
+        assertEquals(AIWorkerState.INIT, machine.getState());
+    }
+
+    @Test
+    public void testTransitionChangesState()
+    {
+        machine.addTransition(new TickingTransition(AIWorkerState.INIT, () -> true, () -> AIWorkerState.IDLE, 1));
+        machine.addTransition(new TickingTransition(AIWorkerState.IDLE, () -> true, () -> AIWorkerState.START_WORKING, 1));
+        machine.addTransition(new TickingTransition(AIWorkerState.START_WORKING, () -> false, () -> AIWorkerState.INIT, 1));
+
+        machine.tick();
+        assertEquals(AIWorkerState.IDLE, machine.getState());
+        machine.tick();
+        assertEquals(AIWorkerState.START_WORKING, machine.getState());
+        assertTrue(exceptions.isEmpty());
+    }
+
+    @Test
+    public void testMissingStateResets()
+    {
+        machine.addTransition(new TickingTransition(AIWorkerState.INIT, () -> true, () -> AIWorkerState.IDLE, 1));
+
+        machine.tick();
+        assertEquals(AIWorkerState.IDLE, machine.getState());
+        machine.tick();
+        assertEquals(AIWorkerState.INIT, machine.getState());
+        assertEquals(1, exceptions.size());
+    }
+}
@@ -0,0 +1,544 @@
+package com.minecolonies.coremod.test.load;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyList;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.coremod.test.ReflectionUtil;
+import com.minecolonies.coremod.test.StringRequestFixtures;
+import com.minecolonies.coremod.test.StringRequestFixtures.StringRequestable;
+import com.minecolonies.coremod.test.StringRequestFixtures.StringResolver;
+import com.minecolonies.coremod.test.StringRequestFixtures.TestRequester;
+import com.minecolonies.coremod.test.StringRequestFixtures.TestResolvingProvider;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.scoreboard.ScorePlayerTeam;
+import net.minecraft.scoreboard.Scoreboard;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProvider;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.common.eventhandler.EventBus;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Headless load test of a synthetic colony.
+ * Builds a real {@link Colony} with its building, citizen and request managers on top of a mocked world,
+ * creates requests at a steady rate and drives the tick entry points of the subsystems for a number of ticks.
+ * The time and the allocated bytes of every subsystem are measured per tick.
+ * <p>
+ * The requests are the string requests of {@link StringRequestFixtures}, which the request manager tests use as well.
+ * A string of n characters is resolved through a chain of n requests, which complete right away; the harness marks them as received after a delay.
+ * <p>
+ * The colony has no subscribers, so the colony tick methods would return right away; the harness calls the subsystems in the same order instead.
+ * Only the chunks of the buildings are loaded, so no citizen entities are spawned.
+ */
+public class ColonyLoadHarness
+{
+    /**
+     * The building types the colony is made of, besides one town hall and one warehouse.
+     * Homes are left out, their ticks spawn citizens.
+     */
+    private static final String[] WORKER_BUILDINGS = {"Baker", "Builder", "Lumberjack", "Miner", "Fisherman", "Cook", "Sawmill", "Blacksmith", "Stonemason", "Smeltery",
+      "Composter", "Crusher", "Sifter", "Deliveryman"};
+
+    /**
+     * The distance between two buildings.
+     */
+    private static final int BUILDING_SPACING = 12;
+
+    /**
+     * The subsystems which are measured.
+     */
+    public enum Subsystem
+    {
+        CHURN("Request churn"),
+        REQUESTS("Request manager update"),
+        BUILDINGS_SERVER("Building server ticks"),
+        BUILDINGS_WORLD("Building world ticks"),
+        CITIZENS("Citizen manager tick"),
+        SYNC("View serialization");
+
+        /**
+         * The name in the report.
+         */
+        private final String displayName;
+
+        Subsystem(final String displayName)
+        {
+            this.displayName = displayName;
+        }
+    }
+
+    /**
+     * The size and the churn of the synthetic colony, read from the loadtest.* system properties.
+     */
+    public static class Settings
+    {
+        /**
+         * The size of the colony.
+         */
+        public final int  citizens        = Integer.getInteger("loadtest.citizens", 200);
+        public final int  buildings       = Integer.getInteger("loadtest.buildings", 60);
+
+        /**
+         * The new requests per tick, the longest chain of child requests per request and the ticks until they are received.
+         */
+        public final int  requestsPerTick = Integer.getInteger("loadtest.requestsPerTick", 5);
+        public final int  requestChain    = Integer.getInteger("loadtest.requestChain", 3);
+        public final int  receiveDelay    = Integer.getInteger("loadtest.receiveDelay", 400);
+
+        /**
+         * The unmeasured and the measured ticks, and the ticks between two view serializations.
+         */
+        public final int  warmupTicks     = Integer.getInteger("loadtest.warmupTicks", 200);
+        public final int  ticks           = Integer.getInteger("loadtest.ticks", 1200);
+        public final int  syncInterval    = Integer.getInteger("loadtest.syncInterval", 20);
+
+        /**
+         * The seed of the random generators, to make runs comparable.
+         */
+        public final long seed            = Long.getLong("loadtest.seed", 42L);
+    }
+
+    /**
+     * A request the harness marks as received at a later tick.
+     */
+    private static final class ScheduledReceive implements Comparable<ScheduledReceive>
+    {
+        private final long      tick;
+        private final IToken<?> token;
+
+        private ScheduledReceive(final long tick, final IToken<?> token)
+        {
+            this.tick = tick;
+            this.token = token;
+        }
+
+        @Override
+        public int compareTo(@NotNull final ScheduledReceive other)
+        {
+            return Long.compare(tick, other.tick);
+        }
+    }
+
+    /**
+     * The measurements of a subsystem.
+     */
+    private static final class Measurement
+    {
+        private final long[] nanos;
+        private long totalBytes;
+        private int  samples;
+
+        private Measurement(final int capacity)
+        {
+            nanos = new long[capacity];
+        }
+
+        private void add(final long elapsed, final long bytes)
+        {
+            nanos[samples++] = elapsed;
+            totalBytes += bytes;
+        }
+    }
+
+    /**
+     * The settings of the run.
+     */
+    private final Settings settings;
+
+    /**
+     * The random generator of the churn.
+     */
+    private final Random random;
+
+    /**
+     * The thread bean used to measure the allocated bytes, if supported.
+     */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * The measurements of every subsystem.
+     */
+    private final Map<Subsystem, Measurement> measurements = new EnumMap<>(Subsystem.class);
+
+    /**
+     * The requests which aren't received yet, by the tick they are received at.
+     */
+    private final PriorityQueue<ScheduledReceive> schedule = new PriorityQueue<>();
+
+    /**
+     * The locations of the buildings, the only loaded positions of the world.
+     */
+    private final Set<BlockPos> buildingLocations = new HashSet<>();
+
+    /**
+     * The synthetic colony and its world.
+     */
+    private World  world;
+    private Colony colony;
+
+    /**
+     * The buildings and citizens of the colony.
+     */
+    private final List<AbstractBuilding> buildings = new ArrayList<>();
+    private final List<CitizenData>      citizens  = new ArrayList<>();
+
+    /**
+     * The current tick.
+     */
+    private long tick;
+
+    /**
+     * Statistics of the churn.
+     */
+    private int created;
+    private int received;
+    private int maxOpen;
+
+    /**
+     * Create a harness.
+     *
+     * @param settings the settings of the run.
+     */
+    public ColonyLoadHarness(@NotNull final Settings settings)
+    {
+        this.settings = settings;
+        this.random = new Random(settings.seed);
+
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported())
+        {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        else
+        {
+            allocationBean = null;
+        }
+
+        final int capacity = Math.max(settings.ticks, 1);
+        for (final Subsystem subsystem : Subsystem.values())
+        {
+            measurements.put(subsystem, new Measurement(capacity));
+        }
+    }
+
+    /**
+     * Build the mocked world and the synthetic colony with its buildings, citizens and string resolver.
+     *
+     * @throws ReflectiveOperationException if the mocks can't be wired.
+     */
+    public void setUp() throws ReflectiveOperationException
+    {
+        world = mock(World.class);
+        final WorldProvider worldProvider = mock(WorldProvider.class);
+        final Scoreboard board = mock(Scoreboard.class);
+
+        when(worldProvider.getDimension()).thenReturn(0);
+        ReflectionUtil.setFinalField(world, "provider", worldProvider);
+        ReflectionUtil.setFinalField(world, "rand", new Random(settings.seed));
+        ReflectionUtil.setStaticFinalField(MinecraftForge.class, "EVENT_BUS", mock(EventBus.class));
+        when(world.getScoreboard()).thenReturn(board);
+        when(board.getTeam(any())).thenReturn(new ScorePlayerTeam(board, "team"));
+        when(world.getWorldTime()).thenAnswer(invocation -> tick);
+        when(world.getTotalWorldTime()).thenAnswer(invocation -> tick);
+        when(world.isBlockLoaded(any(BlockPos.class))).thenAnswer(invocation -> buildingLocations.contains(invocation.getArguments()[0]));
+
+        StandardFactoryControllerInitializer.onPreInit();
+        StringRequestFixtures.registerFactories();
+        colony = new ColonyList<Colony>().create(world, BlockPos.ORIGIN);
+
+        createBuildings();
+        for (int i = 0; i < settings.citizens; i++)
+        {
+            citizens.add(colony.getCitizenManager().createAndRegisterNewCitizenData());
+        }
+
+        colony.getRequestManager().onProviderAddedToColony(new TestResolvingProvider(new StringResolver(0)));
+    }
+
+    /**
+     * Load the buildings from nbt, as the colony does on world load, on a square grid around the center.
+     *
+     */
+    private void createBuildings()
+    {
+        final int side = (int) Math.ceil(Math.sqrt(settings.buildings));
+        final NBTTagList buildingTagList = new NBTTagList();
+        for (int i = 0; i < settings.buildings; i++)
+        {
+            final String type;
+            if (i == 0)
+            {
+                type = "TownHall";
+            }
+            else if (i == 1)
+            {
+                type = "WareHouse";
+            }
+            else
+            {
+                type = WORKER_BUILDINGS[i % WORKER_BUILDINGS.length];
+            }
+
+            final BlockPos location = new BlockPos((i % side - side / 2) * BUILDING_SPACING, 64, (i / side - side / 2) * BUILDING_SPACING);
+            buildingLocations.add(location);
+
+            final NBTTagCompound buildingCompound = new NBTTagCompound();
+            buildingCompound.setString(TAG_BUILDING_TYPE, type);
+            BlockPosUtil.writeToNBT(buildingCompound, TAG_LOCATION, location);
+            buildingTagList.appendTag(buildingCompound);
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_BUILDINGS, buildingTagList);
+        colony.getBuildingManager().readFromNBT(compound);
+        buildings.addAll(colony.getBuildingManager().getBuildings().values());
+    }
+
+    /**
+     * Run the warmup and the measured ticks.
+     */
+    public void run()
+    {
+        for (int i = 0; i < settings.warmupTicks; i++)
+        {
+            tick(false);
+        }
+        for (int i = 0; i < settings.ticks; i++)
+        {
+            tick(true);
+        }
+    }
+
+    /**
+     * Execute one tick of every subsystem.
+     *
+     * @param measure if the tick is measured.
+     */
+    private void tick(final boolean measure)
+    {
+        tick++;
+        final TickEvent.ServerTickEvent serverTickEvent = new TickEvent.ServerTickEvent(TickEvent.Phase.END);
+        final TickEvent.WorldTickEvent worldTickEvent = new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.END, world);
+
+        long start = startNanos();
+        long bytes = allocatedBytes();
+        churn();
+        bytes = record(measure, Subsystem.CHURN, start, bytes);
+
+        start = startNanos();
+        colony.getRequestManager().update();
+        bytes = record(measure, Subsystem.REQUESTS, start, bytes);
+
+        start = startNanos();
+        colony.getBuildingManager().tick(serverTickEvent);
+        bytes = record(measure, Subsystem.BUILDINGS_SERVER, start, bytes);
+
+        start = startNanos();
+        colony.getBuildingManager().onWorldTick(worldTickEvent);
+        bytes = record(measure, Subsystem.BUILDINGS_WORLD, start, bytes);
+
+        start = startNanos();
+        colony.getCitizenManager().onWorldTick(worldTickEvent);
+        bytes = record(measure, Subsystem.CITIZENS, start, bytes);
+
+        if (tick % settings.syncInterval == 0)
+        {
+            start = startNanos();
+            serializeViews();
+            record(measure, Subsystem.SYNC, start, bytes);
+        }
+    }
+
+    /**
+     * Mark the due requests as received and create the new requests of this tick.
+     */
+    private void churn()
+    {
+        while (!schedule.isEmpty() && schedule.peek().tick <= tick)
+        {
+            colony.getRequestManager().updateRequestState(schedule.poll().token, RequestState.RECEIVED);
+            received++;
+        }
+
+        final int jitter = settings.receiveDelay / 4;
+        for (int i = 0; i < settings.requestsPerTick; i++)
+        {
+            final char[] content = new char[1 + random.nextInt(Math.max(settings.requestChain, 1))];
+            for (int c = 0; c < content.length; c++)
+            {
+                content[c] = (char) ('a' + random.nextInt(26));
+            }
+
+            final IToken<?> token = colony.getRequestManager().createAndAssignRequest(TestRequester.INSTANCE, new StringRequestable(new String(content)));
+            final int delay = settings.receiveDelay - jitter + (jitter == 0 ? 0 : random.nextInt(2 * jitter + 1));
+            schedule.add(new ScheduledReceive(tick + Math.max(delay, 1), token));
+            created++;
+        }
+        maxOpen = Math.max(maxOpen, schedule.size());
+    }
+
+    /**
+     * Serialize what a new subscriber of the colony would get: the request manager, the buildings and the citizens.
+     */
+    private void serializeViews()
+    {
+        final ByteBuf buf = Unpooled.buffer();
+        ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+        for (final AbstractBuilding building : buildings)
+        {
+            building.serializeToView(buf);
+        }
+        for (final CitizenData citizen : citizens)
+        {
+            citizen.serializeViewNetworkData(buf);
+        }
+        buf.release();
+    }
+
+    /**
+     * Get the current time for a measurement.
+     *
+     * @return the time in nanoseconds.
+     */
+    private static long startNanos()
+    {
+        return System.nanoTime();
+    }
+
+    /**
+     * Get the bytes allocated by this thread so far.
+     *
+     * @return the bytes or 0 if not supported.
+     */
+    private long allocatedBytes()
+    {
+        return allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Record the measurement of a subsystem.
+     *
+     * @param measure    if the tick is measured.
+     * @param subsystem  the subsystem.
+     * @param startNanos the time the subsystem started.
+     * @param startBytes the allocated bytes when the subsystem started.
+     * @return the allocated bytes now, the start of the next subsystem.
+     */
+    private long record(final boolean measure, final Subsystem subsystem, final long startNanos, final long startBytes)
+    {
+        final long elapsed = System.nanoTime() - startNanos;
+        final long bytes = allocatedBytes();
+        if (measure)
+        {
+            measurements.get(subsystem).add(elapsed, bytes - startBytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the mean time of all subsystems per measured tick.
+     *
+     * @return the time in microseconds.
+     */
+    public double getMeanTickMicros()
+    {
+        long total = 0;
+        for (final Measurement measurement : measurements.values())
+        {
+            for (int i = 0; i < measurement.samples; i++)
+            {
+                total += measurement.nanos[i];
+            }
+        }
+        return settings.ticks == 0 ? 0 : total / 1000.0 / settings.ticks;
+    }
+
+    /**
+     * Get the amount of requests which weren't received at the end of the run.
+     *
+     * @return the amount.
+     */
+    public int getOpenRequestCount()
+    {
+        return schedule.size();
+    }
+
+    /**
+     * Build the report of the run.
+     *
+     * @return the report as text.
+     */
+    @NotNull
+    public String getReport()
+    {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("Synthetic colony: %d citizens, %d buildings, %d requests/tick, chains up to %d, receive delay %d, %d ticks after %d warmup ticks, seed %d%n",
+          citizens.size(), buildings.size(), settings.requestsPerTick, settings.requestChain, settings.receiveDelay, settings.ticks, settings.warmupTicks, settings.seed));
+        report.append(String.format("Requests: %d created, %d received, %d open at most, %d open at the end%n",
+          created, received, maxOpen, schedule.size()));
+        if (allocationBean == null)
+        {
+            report.append("Allocation measurement is not supported by this JVM.\n");
+        }
+
+        report.append(String.format("%-24s %8s %12s %12s %12s %12s %14s%n", "Subsystem", "Samples", "Mean us", "P50 us", "P99 us", "Max us", "Bytes/sample"));
+        for (final Subsystem subsystem : Subsystem.values())
+        {
+            final Measurement measurement = measurements.get(subsystem);
+            if (measurement.samples == 0)
+            {
+                continue;
+            }
+
+            final long[] sorted = Arrays.copyOf(measurement.nanos, measurement.samples);
+            Arrays.sort(sorted);
+            long total = 0;
+            for (final long nanos : sorted)
+            {
+                total += nanos;
+            }
+
+            report.append(String.format("%-24s %8d %12.1f %12.1f %12.1f %12.1f %14d%n",
+              subsystem.displayName,
+              measurement.samples,
+              total / 1000.0 / measurement.samples,
+              sorted[measurement.samples / 2] / 1000.0,
+              sorted[Math.min(measurement.samples - 1, measurement.samples * 99 / 100)] / 1000.0,
+              sorted[measurement.samples - 1] / 1000.0,
+              measurement.totalBytes / measurement.samples));
+        }
+        report.append(String.format("Mean time of all subsystems per tick: %.1f us%n", getMeanTickMicros()));
+        return report.toString();
+    }
+
+    /**
+     * Drop the factories of the run.
+     */
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+}
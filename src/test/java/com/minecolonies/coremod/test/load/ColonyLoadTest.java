@@ -0,0 +1,71 @@
+package com.minecolonies.coremod.test.load;
+
+import com.minecolonies.api.util.Log;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the {@link ColonyLoadHarness} and reports the numbers, excluded from the regular test run.
+ * Run it with gradlew loadTest, sizes and churn can be changed with the loadtest.* system properties, see {@link ColonyLoadHarness.Settings}.
+ * Set loadtest.maxMeanTickMicros to fail the run when the subsystems take longer per tick on average.
+ */
+public class ColonyLoadTest
+{
+    /**
+     * The budget of a tick, or 0 for none.
+     */
+    private static final long MAX_MEAN_TICK_MICROS = Long.getLong("loadtest.maxMeanTickMicros", 0L);
+
+    /**
+     * The directory the reports are written to.
+     */
+    private static final String REPORT_DIR = System.getProperty("loadtest.reportDir", "build/reports/loadtest");
+
+    private ColonyLoadHarness harness;
+
+    @Before
+    public void setUp() throws ReflectiveOperationException
+    {
+        harness = new ColonyLoadHarness(new ColonyLoadHarness.Settings());
+        harness.setUp();
+    }
+
+    @After
+    public void tearDown()
+    {
+        harness.tearDown();
+        harness = null;
+    }
+
+    @Test
+    public void testSyntheticColony() throws IOException
+    {
+        harness.run();
+
+        final String report = harness.getReport();
+        Log.getLogger().info(report);
+
+        final File dir = new File(REPORT_DIR);
+        if (dir.isDirectory() || dir.mkdirs())
+        {
+            final File file = new File(dir, "colony-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + ".txt");
+            Files.write(file.toPath(), report.getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (MAX_MEAN_TICK_MICROS > 0)
+        {
+            assertTrue(String.format("Mean tick took %.1f us, the budget is %d us", harness.getMeanTickMicros(), MAX_MEAN_TICK_MICROS),
+              harness.getMeanTickMicros() <= MAX_MEAN_TICK_MICROS);
+        }
+    }
+}